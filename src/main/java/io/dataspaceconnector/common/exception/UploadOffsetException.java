@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.exception;
+
+/**
+ * Thrown if a part of an upload does not continue at the end of the already received data.
+ */
+public class UploadOffsetException extends RuntimeException {
+
+    /**
+     * Default serial version uid.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The number of bytes already received.
+     */
+    private final long received;
+
+    /**
+     * Construct an UploadOffsetException with the number of bytes already received.
+     *
+     * @param receivedBytes The number of bytes already received.
+     */
+    public UploadOffsetException(final long receivedBytes) {
+        super("Upload does not continue at offset " + receivedBytes + ".");
+        this.received = receivedBytes;
+    }
+
+    /**
+     * Get the number of bytes already received, which is the offset the next part has to
+     * start at.
+     *
+     * @return The number of bytes already received.
+     */
+    public long getReceived() {
+        return received;
+    }
+}
@@ -30,9 +30,17 @@ import ids.messaging.core.daps.DapsConnectionException;
 import ids.messaging.core.daps.DapsEmptyResponseException;
 import ids.messaging.core.daps.DapsTokenProvider;
 import io.dataspaceconnector.common.ids.mapping.FromIdsObjectMapper;
+import io.dataspaceconnector.common.ids.mapping.RdfConverter;
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.model.catalog.Catalog;
+import io.dataspaceconnector.model.configuration.Configuration;
 import io.dataspaceconnector.model.configuration.ConnectorStatus;
 import io.dataspaceconnector.model.configuration.DeployMode;
+import io.dataspaceconnector.model.contract.Contract;
+import io.dataspaceconnector.model.representation.Representation;
 import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.model.rule.ContractRule;
+import io.dataspaceconnector.service.resource.base.EntityChangeEvent;
 import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsResourceBuilder;
 import io.dataspaceconnector.service.resource.type.CatalogService;
@@ -44,11 +52,17 @@ import lombok.extern.log4j.Log4j2;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -95,6 +109,16 @@ public class ConnectorService {
      */
     private final @NonNull ConfigurationService configurationService;
 
+    /**
+     * Incremented whenever an entity that is part of the self-description changes.
+     */
+    private final AtomicLong entityVersion = new AtomicLong();
+
+    /**
+     * The self-description built for the latest entity version.
+     */
+    private volatile SelfDescription selfDescription;
+
     /**
      * Get keystore manager from ids messaging services.
      * @return The keystore manager.
@@ -190,9 +214,80 @@ public class ConnectorService {
      * @return The ids base connector object.
      */
     public BaseConnector getConnectorWithOfferedResources() throws ConstraintViolationException {
+        return getConnectorWithCatalogs(getSelfDescription().getCatalogs());
+    }
+
+    /**
+     * Get the self-description with all offered resources. The catalogs are only rebuilt if an
+     * entity that is part of them has changed since they were last built.
+     *
+     * @return The self-description.
+     */
+    public SelfDescription getSelfDescription() {
+        final var version = entityVersion.get();
+        final var cached = selfDescription;
+        if (cached != null && cached.getVersion() == version) {
+            return cached;
+        }
+
+        final var created = new SelfDescription(version, getAllCatalogsWithOfferedResources());
+        selfDescription = created;
+
+        if (log.isDebugEnabled()) {
+            log.debug("Rebuilt self-description. [version=({})]", version);
+        }
+
+        return created;
+    }
+
+    /**
+     * Get the serialized self-description with all offered resources. The serialized form is
+     * reused as long as no entity that is part of it changes.
+     *
+     * @return The self-description, including its JSON-LD and entity tag.
+     * @throws io.dataspaceconnector.common.exception.RdfBuilderException if the
+     * self-description could not be serialized.
+     */
+    public SelfDescription getSerializedSelfDescription() throws ConstraintViolationException {
+        final var current = getSelfDescription();
+        if (current.getRdf() == null) {
+            final var rdf = RdfConverter.toRdf(getConnectorWithCatalogs(current.getCatalogs()));
+            current.setSerialized(rdf, createEtag(rdf));
+        }
+
+        return current;
+    }
+
+    /**
+     * Invalidates the cached self-description if an entity that is part of it changed.
+     *
+     * @param event The entity change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleEntityChange(final EntityChangeEvent event) {
+        final var entity = event.getEntity();
+        if (entity == null
+                || entity instanceof Catalog
+                || entity instanceof OfferedResource
+                || entity instanceof Representation
+                || entity instanceof Artifact
+                || entity instanceof Contract
+                || entity instanceof ContractRule
+                || entity instanceof Configuration) {
+            entityVersion.incrementAndGet();
+        }
+    }
+
+    /**
+     * Build a base connector object with the given catalogs.
+     *
+     * @param catalogs The resource catalogs.
+     * @return The ids base connector object.
+     */
+    private BaseConnector getConnectorWithCatalogs(final List<ResourceCatalog> catalogs)
+            throws ConstraintViolationException {
         // Get a local copy of the current connector.
         final var connector = configContainer.getConnector();
-        final var catalogs = getAllCatalogsWithOfferedResources();
 
         // Create a connector with a list of offered resources.
         final var connectorImpl = (BaseConnectorImpl) connector;
@@ -201,6 +296,23 @@ public class ConnectorService {
         return connectorImpl;
     }
 
+    /**
+     * Create a strong entity tag for a serialized self-description.
+     *
+     * @param rdf The self-description.
+     * @return The entity tag.
+     */
+    private static String createEtag(final String rdf) {
+        try {
+            final var digest = MessageDigest.getInstance("SHA-256")
+                    .digest(rdf.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform supports SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Build a base connector object without resources.
      *
@@ -249,6 +361,7 @@ public class ConnectorService {
 
             // Handled at a higher level.
             configContainer.updateConfiguration(configModel);
+            entityVersion.incrementAndGet();
         } catch (ConstraintViolationException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Failed to retrieve connector. [exception=({})]", e.getMessage(), e);
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.ids;
+
+import de.fraunhofer.iais.eis.ResourceCatalog;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * The self-description of the connector including all offered resources, built for a specific
+ * version of the persisted entities. The serialized form is created on first use.
+ */
+@Getter
+public class SelfDescription {
+
+    /**
+     * The entity version the self-description has been built for.
+     */
+    private final long version;
+
+    /**
+     * The resource catalogs of the connector.
+     */
+    private final List<ResourceCatalog> catalogs;
+
+    /**
+     * The self-description as JSON-LD. Null if not serialized yet.
+     */
+    private volatile String rdf;
+
+    /**
+     * The entity tag of the self-description, derived from its content. Null if not serialized
+     * yet.
+     */
+    private volatile String etag;
+
+    /**
+     * Constructor.
+     *
+     * @param entityVersion   The entity version the self-description has been built for.
+     * @param resourceCatalogs The resource catalogs of the connector.
+     */
+    SelfDescription(final long entityVersion, final List<ResourceCatalog> resourceCatalogs) {
+        this.version = entityVersion;
+        this.catalogs = resourceCatalogs;
+    }
+
+    /**
+     * Set the serialized form of the self-description.
+     *
+     * @param serialized The self-description as JSON-LD.
+     * @param entityTag  The entity tag of the serialized self-description.
+     */
+    void setSerialized(final String serialized, final String entityTag) {
+        this.etag = entityTag;
+        this.rdf = serialized;
+    }
+}
@@ -30,10 +30,14 @@ import io.dataspaceconnector.common.exception.MessageRequestException;
 import io.dataspaceconnector.common.util.Utils;
 import lombok.extern.log4j.Log4j2;
 import okhttp3.MultipartBody;
+import org.apache.commons.io.input.CharSequenceInputStream;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 
@@ -241,6 +245,39 @@ public final class MessageUtils {
         return message.get("payload");
     }
 
+    /**
+     * Encode artifact data as Base64 payload. The data is encoded while it is read, so the raw
+     * bytes are never held in memory as a whole. The stream is closed afterwards.
+     *
+     * @param data The artifact data.
+     * @return The Base64 encoded payload.
+     * @throws IOException If the data could not be read.
+     */
+    public static String encodeDataPayload(final InputStream data) throws IOException {
+        try (data) {
+            final var out = new ByteArrayOutputStream();
+            try (var encoder = Base64.getEncoder().wrap(out)) {
+                data.transferTo(encoder);
+            }
+
+            return out.toString(StandardCharsets.US_ASCII);
+        }
+    }
+
+    /**
+     * Decode a Base64 artifact payload. The payload is decoded while the returned stream is
+     * read, so the decoded bytes can be passed on to the storage without being copied.
+     *
+     * @param payload The Base64 encoded payload.
+     * @return The decoded data.
+     * @throws IllegalArgumentException If the payload is null.
+     */
+    public static InputStream decodeDataPayload(final String payload) {
+        Utils.requireNonNull(payload, ErrorMessage.MISSING_PAYLOAD);
+        return Base64.getMimeDecoder().wrap(
+                new CharSequenceInputStream(payload, StandardCharsets.US_ASCII));
+    }
+
     /**
      * Read string from stream. Does not handle null payloads.
      *
@@ -152,6 +152,28 @@ public final class RuleUtils {
         return false;
     }
 
+    /**
+     * Get the date at which the data of the rule's target has to be deleted, as defined by the
+     * first deletion post duty of the rule.
+     *
+     * @param rule The ids rule.
+     * @return The deletion date or null if the rule has no deletion post duty.
+     * @throws DateTimeParseException If the date cannot be parsed.
+     */
+    public static ZonedDateTime getDeletionDate(final Rule rule) throws DateTimeParseException {
+        if (rule instanceof Permission permission && permission.getPostDuty() != null) {
+            for (final var duty : permission.getPostDuty()) {
+                for (final var action : duty.getAction()) {
+                    if (action == Action.DELETE) {
+                        return getDate(duty);
+                    }
+                }
+            }
+        }
+
+        return null;
+    }
+
     /**
      * Checks if the specified duration since resource creation or the specified maximum date for
      * resource access has already been exceeded.
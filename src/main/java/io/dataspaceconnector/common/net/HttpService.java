@@ -31,6 +31,8 @@ import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.Request;
 import okhttp3.RequestBody;
+import okio.BufferedSink;
+import okio.Okio;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.stereotype.Service;
 
@@ -49,6 +51,11 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class HttpService implements DataRetrievalService {
 
+    /**
+     * The media type of data sent via post requests.
+     */
+    private static final MediaType OCTET_STREAM = MediaType.get("application/octet-stream");
+
     /**
      * Service for building and sending http requests.
      */
@@ -111,7 +118,8 @@ public class HttpService implements DataRetrievalService {
     }
 
     /**
-     * Send post requests using the http service of the messaging services.
+     * Send post requests using the http service of the messaging services. The data is streamed
+     * to the recipient and closed afterwards.
      *
      * @param target The target url.
      * @param args   Request arguments.
@@ -133,8 +141,7 @@ public class HttpService implements DataRetrievalService {
 
         final var targetUrl = urlBuilder.build();
 
-        final var body = RequestBody.create(data.readAllBytes(),
-                MediaType.get("application/octet-stream"));
+        final var body = new InputStreamRequestBody(data);
 
         final var requestBuilder = new Request.Builder().url(targetUrl).post(body);
 
@@ -142,17 +149,16 @@ public class HttpService implements DataRetrievalService {
             args.getHeaders().forEach(requestBuilder::header);
         }
 
-        final var response = httpSvc.send(requestBuilder.build());
-        final var output = getHttpResponse(response);
-        response.close();
-
-        return output;
+        try (var response = httpSvc.send(requestBuilder.build())) {
+            return new HttpResponse(response.code(), getBufferedBody(response));
+        }
     }
 
     /**
      * Perform a get request with query parameters (if given).
      * If a query parameter is already found in the target URL it is ignored,
-     * so that the basis url of the target can not be bypassed.
+     * so that the basis url of the target can not be bypassed. The body of the returned response
+     * is read from the connection while it is consumed and has to be closed by the caller.
      *
      * @param target The recipient of the request.
      * @param args   The request arguments.
@@ -193,15 +199,17 @@ public class HttpService implements DataRetrievalService {
             response = httpSvc.getWithHeaders(targetUri, headerCopy);
         }
 
-        final var output = getHttpResponse(response);
-        response.close();
-
-        return output;
+        return getStreamingHttpResponse(response);
     }
 
     @NotNull
-    private HttpResponse getHttpResponse(final okhttp3.Response response) throws IOException {
-        return new HttpResponse(response.code(), getBody(response));
+    private HttpResponse getStreamingHttpResponse(final okhttp3.Response response) {
+        if (response.body() == null) {
+            response.close();
+            return new HttpResponse(response.code(), InputStream.nullInputStream());
+        }
+
+        return new HttpResponse(response.code(), new ResponseBodyInputStream(response));
     }
 
     private void validateParameter(final URL target, final HttpArgs args) {
@@ -209,7 +217,7 @@ public class HttpService implements DataRetrievalService {
         Utils.requireNonNull(args, ErrorMessage.HTTP_ARGS_NULL);
     }
 
-    private InputStream getBody(final okhttp3.Response response) throws IOException {
+    private InputStream getBufferedBody(final okhttp3.Response response) throws IOException {
         final var body = response.body();
         if (body != null) {
             final var tmp = body.bytes();
@@ -324,4 +332,42 @@ public class HttpService implements DataRetrievalService {
         }
         return args;
     }
+
+    /**
+     * Request body that streams data to the recipient instead of buffering it.
+     */
+    @RequiredArgsConstructor
+    private static final class InputStreamRequestBody extends RequestBody {
+
+        /**
+         * The data to send.
+         */
+        private final @NonNull InputStream data;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public MediaType contentType() {
+            return OCTET_STREAM;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean isOneShot() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void writeTo(final @NotNull BufferedSink sink) throws IOException {
+            try (var source = Okio.source(data)) {
+                sink.writeAll(source);
+            }
+        }
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.common.net;
+
+import lombok.NonNull;
+import okhttp3.Response;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+
+/**
+ * Reads the body of a http response while it is still being received. The underlying response
+ * and its connection are released as soon as the stream is closed or fully consumed.
+ */
+final class ResponseBodyInputStream extends FilterInputStream {
+
+    /**
+     * The response the body belongs to.
+     */
+    private final @NonNull Response response;
+
+    /**
+     * Whether the response has been released already.
+     */
+    private boolean released;
+
+    /**
+     * Constructor for ResponseBodyInputStream.
+     *
+     * @param httpResponse The http response. Its body must not be null.
+     */
+    ResponseBodyInputStream(final @NonNull Response httpResponse) {
+        super(httpResponse.body().byteStream());
+        this.response = httpResponse;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        final var value = super.read();
+        if (value == -1) {
+            release();
+        }
+
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        final var count = super.read(buffer, offset, length);
+        if (count == -1) {
+            release();
+        }
+
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        release();
+    }
+
+    private void release() {
+        if (!released) {
+            released = true;
+            response.close();
+        }
+    }
+}
@@ -28,12 +28,21 @@ import lombok.extern.log4j.Log4j2;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.StreamCache;
 import org.apache.camel.builder.ExchangeBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 
 /**
@@ -54,9 +63,22 @@ public class RouteDataRetriever implements DataRetrievalService {
      */
     private final @NonNull CamelContext context;
 
+    /**
+     * Size above which cached route results are spooled to disk instead of being kept in memory.
+     */
+    @Value("${camel.data-retrieval.spool-threshold:1MB}")
+    private DataSize spoolThreshold;
+
+    /**
+     * Directory for spooled route results. Uses the default temporary directory if empty.
+     */
+    @Value("${camel.data-retrieval.spool-directory:}")
+    private String spoolDirectory;
+
     /**
      * Retrieves and returns the data using a Camel route. The route to use is identified by the
-     * access URL, which should be the ID of a route.
+     * access URL, which should be the ID of a route. The route result is returned as binary
+     * stream without converting it to a string.
      *
      * @param accessUrl The route ID.
      * @param input The query input.
@@ -76,9 +98,7 @@ public class RouteDataRetriever implements DataRetrievalService {
                 throw result.getProperty(Exchange.EXCEPTION_CAUGHT, Exception.class);
             }
 
-            final var data = result.getIn().getBody(String.class);
-            return new RouteResponse(new ByteArrayInputStream(
-                    data.getBytes(StandardCharsets.UTF_8)));
+            return new RouteResponse(getData(result));
         } catch (Exception e) {
             if (log.isDebugEnabled()) {
                 log.debug("Failed to retrieve data. [exception=({})]", e.getMessage(), e);
@@ -88,6 +108,66 @@ public class RouteDataRetriever implements DataRetrievalService {
 
     }
 
+    /**
+     * Returns the body of a route result as stream. Cached bodies are tied to the exchange, which
+     * has completed at this point, so they are copied to memory or, if they exceed the spool
+     * threshold, to a temporary file that is deleted once the stream is closed. Bodies that
+     * cannot be converted to a stream are returned as UTF-8 encoded text.
+     *
+     * @param result The route result.
+     * @return The data.
+     * @throws IOException if the cached body cannot be copied.
+     */
+    private InputStream getData(final Exchange result) throws IOException {
+        final var body = result.getIn().getBody();
+        if (body == null) {
+            return InputStream.nullInputStream();
+        }
+
+        if (body instanceof String text) {
+            return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        if (body instanceof StreamCache cache) {
+            cache.reset();
+            return cache.length() > spoolThreshold.toBytes() ? spool(cache) : buffer(cache);
+        }
+
+        final var data = result.getIn().getBody(InputStream.class);
+        if (data != null) {
+            return data;
+        }
+
+        // Results without a stream representation, e.g. rows returned by database endpoints.
+        final var text = result.getIn().getBody(String.class);
+        if (text == null) {
+            throw new IOException("Unsupported route result. [type=("
+                    + body.getClass().getName() + ")]");
+        }
+
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private InputStream buffer(final StreamCache cache) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        cache.writeTo(out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    private InputStream spool(final StreamCache cache) throws IOException {
+        final var file = spoolDirectory.isBlank()
+                ? Files.createTempFile("route-data-", ".tmp")
+                : Files.createTempFile(Path.of(spoolDirectory), "route-data-", ".tmp");
+        try (var out = Files.newOutputStream(file)) {
+            cache.writeTo(out);
+        } catch (IOException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        return Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE);
+    }
+
     /**
      * Retrieves the data using authentication. Will throw a {@link NotImplemented}, as all
      * required authentication information is already present in the route.
@@ -39,4 +39,21 @@ public class AccessVerificationInput {
      * The artifact.
      */
     private Artifact artifact;
+
+    /**
+     * The maximum number of accesses allowed by the enforced policies. Set by the verifier,
+     * null if the number of accesses is not restricted.
+     */
+    private Long accessLimit;
+
+    /**
+     * Constructor.
+     *
+     * @param agreement      The id of the transfer contract (agreement).
+     * @param targetArtifact The artifact.
+     */
+    public AccessVerificationInput(final URI agreement, final Artifact targetArtifact) {
+        this.agreementId = agreement;
+        this.artifact = targetArtifact;
+    }
 }
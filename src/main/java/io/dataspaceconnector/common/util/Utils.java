@@ -108,7 +108,7 @@ public final class Utils {
 
         final var start = (int) pageable.getOffset();
 
-        if (start > pageable.getPageSize()) {
+        if (start >= list.size()) {
             // There are no more list elements.
             return new PageImpl<>(new ArrayList<>(), pageable, list.size());
         }
@@ -31,7 +31,6 @@ import org.springframework.context.support.GenericApplicationContext;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 
 /**
  * Contains beans required for reading, deploying, and/or removing routes and beans as well as
@@ -41,14 +40,15 @@ import javax.xml.bind.Unmarshaller;
 public class CamelConfig {
 
     /**
-     * Creates an Unmarshaller bean that can be used to read bean definitions from XML.
+     * Creates a pool of unmarshallers that can be used concurrently to read route definitions
+     * from XML. The JAXB context is only created once.
      *
-     * @return the Unmarshaller.
+     * @return the UnmarshallerPool.
      */
     @Bean
-    public Unmarshaller unmarshaller() {
+    public UnmarshallerPool unmarshallerPool() {
         try {
-            return JAXBContext.newInstance(Constants.JAXB_CONTEXT_PACKAGES).createUnmarshaller();
+            return new UnmarshallerPool(JAXBContext.newInstance(Constants.JAXB_CONTEXT_PACKAGES));
         } catch (JAXBException e) {
             throw new BeanCreationException("Failed to create Unmarshaller.", e);
         }
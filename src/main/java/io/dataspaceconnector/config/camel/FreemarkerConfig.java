@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.config.camel;
 
+import freemarker.cache.MruCacheStorage;
 import freemarker.template.Configuration;
 import freemarker.template.TemplateExceptionHandler;
 import org.springframework.context.annotation.Bean;
@@ -25,6 +26,11 @@ import org.springframework.context.annotation.Bean;
 @org.springframework.context.annotation.Configuration
 public class FreemarkerConfig {
 
+    /**
+     * The number of parsed templates that are kept in memory.
+     */
+    private static final int TEMPLATE_CACHE_SIZE = 32;
+
     /**
      * Creates and returns the Freemarker configuration.
      *
@@ -39,6 +45,10 @@ public class FreemarkerConfig {
         config.setLogTemplateExceptions(false);
         config.setWrapUncheckedExceptions(true);
         config.setFallbackOnNullLoopVariable(false);
+        // The templates are packaged with the application and never change at runtime, so
+        // parsed templates are kept and not checked for modifications.
+        config.setTemplateUpdateDelayMilliseconds(Long.MAX_VALUE);
+        config.setCacheStorage(new MruCacheStorage(TEMPLATE_CACHE_SIZE, 0));
         return config;
     }
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.config.camel;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import java.io.InputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Reads XML documents, e.g. Camel route definitions, using a shared JAXB context. An
+ * {@link Unmarshaller} may only be used by one thread at a time, so every call borrows an idle
+ * unmarshaller from the pool. The pool grows with the number of concurrent calls.
+ */
+public class UnmarshallerPool {
+
+    /**
+     * The JAXB context all unmarshallers are created from. Thread-safe.
+     */
+    private final JAXBContext context;
+
+    /**
+     * The unmarshallers not in use at the moment.
+     */
+    private final Queue<Unmarshaller> idle = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Constructor.
+     *
+     * @param jaxbContext The JAXB context for creating the unmarshallers.
+     */
+    public UnmarshallerPool(final JAXBContext jaxbContext) {
+        this.context = jaxbContext;
+    }
+
+    /**
+     * Reads an XML document.
+     *
+     * @param inputStream The XML document.
+     * @return The object read from the document.
+     * @throws JAXBException if the document cannot be read.
+     */
+    public Object unmarshal(final InputStream inputStream) throws JAXBException {
+        var unmarshaller = idle.poll();
+        if (unmarshaller == null) {
+            unmarshaller = context.createUnmarshaller();
+        }
+
+        try {
+            return unmarshaller.unmarshal(inputStream);
+        } finally {
+            idle.offer(unmarshaller);
+        }
+    }
+}
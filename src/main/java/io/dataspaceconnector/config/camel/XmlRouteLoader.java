@@ -32,7 +32,6 @@ import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -49,9 +48,9 @@ import java.util.Objects;
 @Log4j2
 public class XmlRouteLoader {
     /**
-     * Unmarshaller for reading route definitions from XML.
+     * Unmarshallers for reading route definitions from XML.
      */
-    private final @NonNull Unmarshaller unmarshaller;
+    private final @NonNull UnmarshallerPool unmarshallerPool;
 
     /**
      * Loader for adding routes to the camel context.
@@ -177,7 +176,7 @@ public class XmlRouteLoader {
     }
 
     private RoutesDefinition toRoutesDef(final InputStream stream) throws JAXBException {
-        return (RoutesDefinition) unmarshaller.unmarshal(stream);
+        return (RoutesDefinition) unmarshallerPool.unmarshal(stream);
     }
 
     /**
@@ -48,10 +48,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.hateoas.RepresentationModel;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
@@ -87,20 +89,30 @@ public class MainController {
     }
 
     /**
-     * Gets connector self-description with all resources.
+     * Gets connector self-description with all resources. Answers with 304 if the client
+     * already holds the current self-description.
      *
+     * @param request The current request.
      * @return Self-description or error response.
      */
     @GetMapping(value = "/api/connector", produces = ContentType.JSON_LD)
     @Operation(summary = "Get the private IDS self-description.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = ResponseCode.OK, description = ResponseDescription.OK),
+            @ApiResponse(responseCode = ResponseCode.NOT_MODIFIED,
+                    description = ResponseDescription.NOT_MODIFIED),
             @ApiResponse(responseCode = ResponseCode.INTERNAL_SERVER_ERROR,
                     description = ResponseDescription.INTERNAL_SERVER_ERROR)})
     @ResponseBody
     @TelemetrySpan(name = "GET /api/connector")
-    public ResponseEntity<Object> getPrivateSelfDescription() {
-        return ResponseEntity.ok(connectorService.getConnectorWithOfferedResources().toRdf());
+    public ResponseEntity<Object> getPrivateSelfDescription(final WebRequest request) {
+        final var selfDescription = connectorService.getSerializedSelfDescription();
+        if (request.checkNotModified(selfDescription.getEtag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(selfDescription.getEtag()).build();
+        }
+
+        return ResponseEntity.ok().eTag(selfDescription.getEtag()).body(selfDescription.getRdf());
     }
 
     /**
@@ -41,6 +41,8 @@ import io.dataspaceconnector.service.ArtifactDataDownloader;
 import io.dataspaceconnector.service.ContractNegotiator;
 import io.dataspaceconnector.service.EntityUpdateService;
 import io.dataspaceconnector.service.MetadataDownloader;
+import io.dataspaceconnector.service.NegotiationJob;
+import io.dataspaceconnector.service.NegotiationJobService;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.dataspaceconnector.service.resource.type.AgreementService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -51,13 +53,17 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
 import org.apache.camel.ProducerTemplate;
 import org.apache.camel.builder.ExchangeBuilder;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -125,6 +131,11 @@ public class ContractRequestMessageController {
      */
     private final @NonNull ConnectorConfig connectorConfig;
 
+    /**
+     * Runs negotiations in the background.
+     */
+    private final @NonNull NegotiationJobService jobService;
+
     /**
      * Starts a contract, metadata, and data exchange with an external connector.
      *
@@ -132,6 +143,7 @@ public class ContractRequestMessageController {
      * @param resources List of requested resources by IDs.
      * @param artifacts List of requested artifacts by IDs.
      * @param download  download data directly after successful contract and description request.
+     * @param prefetch  download the data in the background instead of before the response.
      * @param ruleList  List of rules that should be used within a contract request.
      * @return The response entity.
      */
@@ -158,18 +170,15 @@ public class ContractRequestMessageController {
             @Parameter(description = "Indicates whether the connector should automatically "
                     + "download data of an artifact.")
             @RequestParam("download") final boolean download,
+            @Parameter(description = "Indicates whether the data should be downloaded in the "
+                    + "background. Only used if the data is downloaded.")
+            @RequestParam(value = "prefetch", required = false, defaultValue = "false")
+            final boolean prefetch,
             @Parameter(description = "List of ids rules with an artifact id as target.")
             @RequestBody final List<Rule> ruleList) {
         if (connectorConfig.isIdscpEnabled()) {
             UUID agreementId;
-            final var result = template.send("direct:contractRequestSender",
-                    ExchangeBuilder.anExchange(context)
-                            .withProperty(ParameterUtils.RECIPIENT_PARAM, recipient)
-                            .withProperty(ParameterUtils.RESOURCES_PARAM, resources)
-                            .withProperty(ParameterUtils.ARTIFACTS_PARAM, artifacts)
-                            .withProperty(ParameterUtils.DOWNLOAD_PARAM, download)
-                            .withProperty(ParameterUtils.RULE_LIST_PARAM, ruleList)
-                            .build());
+            final var result = sendViaIdscp(recipient, resources, artifacts, download, ruleList);
 
             final var response = result.getIn().getBody(Response.class);
             if (response != null) {
@@ -195,18 +204,10 @@ public class ContractRequestMessageController {
                 // Validates user input.
                 RuleUtils.validateRuleTarget(ruleList);
 
-                // Initiate contract negotiation.
-                final var agreementId = negotiator.negotiate(recipient, ruleList);
-
-                // Download metadata.
-                downloadMetadata(recipient, resources, artifacts, download, agreementId);
-
-                // Download data, if requested.
-                if (download) {
-                    artifactDataDownloader.download(recipient, artifacts, agreementId);
-                }
+                final var job = new NegotiationJob(resources.size(), artifacts.size(), download);
+                negotiateAndDownload(recipient, resources, artifacts, ruleList, prefetch, job);
 
-                return respondWithCreatedAgreement(agreementId);
+                return respondWithCreatedAgreement(job.getAgreementId());
             } catch (InvalidInputException exception) {
                 // If the input rules are malformed.
                 return ResponseUtils.respondInvalidInput(exception);
@@ -231,12 +232,164 @@ public class ContractRequestMessageController {
         }
     }
 
-    private void downloadMetadata(final URI recipient, final List<URI> resources,
-                                  final List<URI> artifacts, final boolean download,
-                                  final UUID agreementId) throws PersistenceException,
-            MessageResponseException, MessageException, UnexpectedResponseException {
-        metadataDownloader.download(recipient, resources, artifacts, download);
+    /**
+     * Starts a contract, metadata, and data exchange with an external connector in the
+     * background. The returned job can be polled for the progress and the resulting agreement.
+     *
+     * @param recipient The recipient.
+     * @param resources List of requested resources by IDs.
+     * @param artifacts List of requested artifacts by IDs.
+     * @param download  download data directly after successful contract and description request.
+     * @param ruleList  List of rules that should be used within a contract request.
+     * @return The response entity.
+     */
+    @PostMapping("/contract/jobs")
+    @Operation(summary = "Start the contract negotiation and the download in the background.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Accepted"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "400", description = "Bad request"),
+            @ApiResponse(responseCode = "503", description = "Service unavailable")})
+    @PreAuthorize("hasPermission(#recipient, 'rw')")
+    @ResponseBody
+    @TelemetrySpan(name = "POST /api/ids/contract/jobs")
+    public ResponseEntity<Object> startNegotiation(
+            @Parameter(description = "The recipient url.", required = true)
+            @RequestParam("recipient") final URI recipient,
+            @Parameter(description = "List of ids resource that should be requested.")
+            @RequestParam("resourceIds") final List<URI> resources,
+            @Parameter(description = "List of ids artifacts that should be requested.")
+            @RequestParam("artifactIds") final List<URI> artifacts,
+            @Parameter(description = "Indicates whether the connector should automatically "
+                    + "download data of an artifact.")
+            @RequestParam("download") final boolean download,
+            @Parameter(description = "List of ids rules with an artifact id as target.")
+            @RequestBody final List<Rule> ruleList) {
+        try {
+            // Validates user input before the job is started.
+            RuleUtils.validateRuleTarget(ruleList);
+        } catch (InvalidInputException exception) {
+            return ResponseUtils.respondInvalidInput(exception);
+        }
+
+        final NegotiationJob job;
+        try {
+            job = jobService.submit(
+                    new NegotiationJob(resources.size(), artifacts.size(), download),
+                    progress -> {
+                        if (connectorConfig.isIdscpEnabled()) {
+                            negotiateViaIdscp(recipient, resources, artifacts, download,
+                                    ruleList, progress);
+                        } else {
+                            negotiateAndDownload(recipient, resources, artifacts, ruleList,
+                                    false, progress);
+                        }
+                    });
+        } catch (TaskRejectedException exception) {
+            return new JsonResponse("Too many negotiations are waiting. Try again later.")
+                    .create(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        final var headers = new HttpHeaders();
+        headers.setLocation(URI.create("/api/ids/contract/jobs/" + job.getId()));
+
+        return new ResponseEntity<>(job, headers, HttpStatus.ACCEPTED);
+    }
+
+    /**
+     * Get the progress of a contract negotiation running in the background.
+     *
+     * @param jobId The id of the job.
+     * @return The job.
+     */
+    @GetMapping("/contract/jobs/{id}")
+    @Operation(summary = "Get the progress of a contract negotiation running in the background.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ok"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "404", description = "Not found")})
+    @PreAuthorize("hasPermission(#jobId, 'rw')")
+    @ResponseBody
+    public ResponseEntity<Object> getNegotiation(
+            @Parameter(description = "The id of the job.", required = true)
+            @PathVariable("id") final UUID jobId) {
+        return jobService.get(jobId)
+                .<ResponseEntity<Object>>map(ResponseEntity::ok)
+                .orElseGet(() -> new JsonResponse("No negotiation job found.")
+                        .create(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * Negotiate the contract, download the metadata and, if requested, the data.
+     *
+     * @param recipient The recipient.
+     * @param resources List of requested resources by IDs.
+     * @param artifacts List of requested artifacts by IDs.
+     * @param ruleList  List of rules that should be used within a contract request.
+     * @param prefetch  Whether the data is queued for downloading in the background.
+     * @param job       Receives the progress and the negotiated agreement.
+     * @throws UnexpectedResponseException if a response is not as expected.
+     */
+    private void negotiateAndDownload(final URI recipient, final List<URI> resources,
+                                      final List<URI> artifacts, final List<Rule> ruleList,
+                                      final boolean prefetch, final NegotiationJob job)
+            throws UnexpectedResponseException {
+        // Initiate contract negotiation.
+        job.setState(NegotiationJob.State.NEGOTIATING);
+        final var agreementId = negotiator.negotiate(recipient, ruleList);
+        job.setAgreementId(agreementId);
+
+        // Download metadata.
+        job.setState(NegotiationJob.State.DOWNLOADING_METADATA);
+        metadataDownloader.download(recipient, resources, artifacts, job.isDownload(),
+                job::resourceDownloaded);
         updateService.linkArtifactToAgreement(artifacts, agreementId);
+
+        // Download data, if requested.
+        if (job.isDownload() && prefetch) {
+            artifactDataDownloader.enqueue(recipient, artifacts, agreementId);
+        } else if (job.isDownload()) {
+            job.setState(NegotiationJob.State.DOWNLOADING_DATA);
+            artifactDataDownloader.download(recipient, artifacts, agreementId,
+                    job::artifactDownloaded);
+        }
+    }
+
+    /**
+     * Run the contract, metadata, and data exchange via the IDSCP route.
+     *
+     * @param recipient The recipient.
+     * @param resources List of requested resources by IDs.
+     * @param artifacts List of requested artifacts by IDs.
+     * @param download  download data directly after successful contract and description request.
+     * @param ruleList  List of rules that should be used within a contract request.
+     * @param job       Receives the negotiated agreement.
+     */
+    private void negotiateViaIdscp(final URI recipient, final List<URI> resources,
+                                   final List<URI> artifacts, final boolean download,
+                                   final List<Rule> ruleList, final NegotiationJob job) {
+        job.setState(NegotiationJob.State.NEGOTIATING);
+        final var result = sendViaIdscp(recipient, resources, artifacts, download, ruleList);
+        if (result.getIn().getBody(Response.class) == null) {
+            final var body = result.getIn().getBody(ResponseEntity.class);
+            throw new IllegalStateException(body == null
+                    ? "An error occurred." : String.valueOf(body.getBody()));
+        }
+
+        job.setAgreementId(result.getProperty(ParameterUtils.AGREEMENT_ID_PARAM, UUID.class));
+    }
+
+    private Exchange sendViaIdscp(final URI recipient, final List<URI> resources,
+                                  final List<URI> artifacts, final boolean download,
+                                  final List<Rule> ruleList) {
+        return template.send("direct:contractRequestSender",
+                ExchangeBuilder.anExchange(context)
+                        .withProperty(ParameterUtils.RECIPIENT_PARAM, recipient)
+                        .withProperty(ParameterUtils.RESOURCES_PARAM, resources)
+                        .withProperty(ParameterUtils.ARTIFACTS_PARAM, artifacts)
+                        .withProperty(ParameterUtils.DOWNLOAD_PARAM, download)
+                        .withProperty(ParameterUtils.RULE_LIST_PARAM, ruleList)
+                        .build());
     }
 
     private ResponseEntity<Object> respondWithCreatedAgreement(final UUID agreementId) {
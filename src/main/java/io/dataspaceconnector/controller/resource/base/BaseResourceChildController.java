@@ -35,7 +35,10 @@ import lombok.Setter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.GenericTypeResolver;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.IanaLinkRelations;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.RepresentationModel;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
@@ -49,6 +52,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import javax.validation.Valid;
 import java.net.URI;
@@ -138,6 +142,48 @@ public class BaseResourceChildController<S extends RelationService<?, ?, ?, ?>,
         return model;
     }
 
+    /**
+     * Get the resources linked to the passed resource that follow a given resource, ordered by
+     * creation date. Endpoint for GET requests with a cursor. Unlike pages, this stays fast for
+     * resources with many children.
+     *
+     * @param ownerId The id of the owning resource.
+     * @param after   The id of the last child already received.
+     * @param size    The maximum number of children.
+     * @return The children of the resource following the cursor.
+     * @throws io.dataspaceconnector.common.exception.ResourceNotFoundException if the ownerId is
+     *                                                                          not known or the
+     *                                                                          cursor is not a
+     *                                                                          child.
+     */
+    @SuppressWarnings("unchecked")
+    @GetMapping(params = "after")
+    @Operation(summary = "Get the children of a base resource following a given child.")
+    @ApiResponse(responseCode = ResponseCode.OK, description = ResponseDescription.OK)
+    @TelemetrySpan
+    public PagedModel<V> getResourceAfter(
+            @Valid @PathVariable(name = "id") final UUID ownerId,
+            @RequestParam(name = "after") final UUID after,
+            @RequestParam(required = false, defaultValue = "30") final Integer size) {
+        final var pageable = Utils.toPageRequest(0, size);
+        final var entities = (List<T>) linker.getAfter(ownerId, after, pageable.getPageSize());
+        if (entities.isEmpty()) {
+            return (PagedModel<V>) pagedAssembler.toEmptyModel(
+                    new PageImpl<>(entities, pageable, 0), resourceType);
+        }
+
+        final var models = entities.stream().map(assembler::toModel).collect(Collectors.toList());
+        final var model = PagedModel.of(models,
+                new PagedModel.PageMetadata(pageable.getPageSize(), 0, models.size()));
+        if (entities.size() == pageable.getPageSize()) {
+            final var last = entities.get(entities.size() - 1).getId();
+            model.add(Link.of(ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("after", last).toUriString(), IanaLinkRelations.NEXT));
+        }
+
+        return model;
+    }
+
     /**
      * Add resources as children to a resource. Endpoint for POST requests.
      *
@@ -20,7 +20,9 @@
 package io.dataspaceconnector.controller.resource.type;
 
 import ids.messaging.protocol.UnexpectedResponseException;
+import io.dataspaceconnector.common.exception.InvalidInputException;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.common.exception.UploadOffsetException;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.net.ContentType;
 import io.dataspaceconnector.common.routing.dataretrieval.RetrievalInformation;
@@ -41,6 +43,7 @@ import io.dataspaceconnector.model.route.Route;
 import io.dataspaceconnector.service.ArtifactRetriever;
 import io.dataspaceconnector.service.message.SubscriberNotificationService;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.storage.UploadStaging;
 import io.dataspaceconnector.service.usagecontrol.DataAccessVerifier;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -49,10 +52,12 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -66,13 +71,13 @@ import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBo
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
  * Offers the endpoints for managing artifacts.
@@ -85,6 +90,13 @@ import java.util.UUID;
 public class ArtifactController extends BaseResourceNotificationController<Artifact, ArtifactDesc,
         ArtifactView, ArtifactService> {
 
+    /**
+     * The format of the Content-Range header of uploaded parts: the first and last byte or *,
+     * followed by the total size or * if unknown.
+     */
+    private static final Pattern CONTENT_RANGE =
+            Pattern.compile("bytes (?:(\\d{1,18})-(\\d{1,18})|\\*)/(\\d{1,18}|\\*)");
+
     /**
      * The service managing artifacts.
      */
@@ -110,6 +122,11 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
      */
     private final @NonNull RouteViewAssembler routeAssembler;
 
+    /**
+     * Collects the parts of data uploads.
+     */
+    private final @NonNull UploadStaging uploadStaging;
+
     /**
      * Returns data from the local database or a remote data source. In case of a remote data
      * source, all headers and query parameters included in this request will be used for the
@@ -166,7 +183,7 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
                 : artifactSvc.getData(accessVerifier, dataReceiver, artifactId,
                 new RetrievalInformation(agreementUri, download, queryInput), routeIds);
 
-        return returnData(artifactId, data);
+        return returnData(artifactId, data, routeIds, request);
     }
 
     /**
@@ -177,6 +194,7 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
      * @param artifactId Artifact id.
      * @param routeIds   The routes the data should be sent to.
      * @param queryInput Query input containing headers, query parameters, and path variables.
+     * @param request    The current http request.
      * @return The data object.
      * @throws IOException                 if the data could not be stored.
      * @throws UnexpectedResponseException if the ids response message has been unexpected.
@@ -188,37 +206,135 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
     public ResponseEntity<StreamingResponseBody> getData(
             @Valid @PathVariable(name = "id") final UUID artifactId,
             @RequestParam(required = false) final List<URI> routeIds,
-            @RequestBody(required = false) final QueryInput queryInput)
+            @RequestBody(required = false) final QueryInput queryInput,
+            final HttpServletRequest request)
             throws IOException,
             UnexpectedResponseException,
             io.dataspaceconnector.common.exception.UnexpectedResponseException {
         ValidationUtils.validateQueryInput(queryInput);
         final var data =
                 artifactSvc.getData(accessVerifier, dataReceiver, artifactId, queryInput, routeIds);
-        return returnData(artifactId, data);
+        return returnData(artifactId, data, routeIds, request);
     }
 
+    /**
+     * Return the data of an artifact. If the data is stored locally, the response describes it
+     * by its size and an ETag derived from its checksum. The client can then skip unchanged data
+     * with If-None-Match or request a single byte range to continue an interrupted download.
+     *
+     * @param artifactId The artifact id.
+     * @param data       The data. Closed after it has been written to the response.
+     * @param routeIds   The routes the data has been sent to.
+     * @param request    The current http request.
+     * @return The response.
+     * @throws IOException if the data cannot be skipped or closed.
+     */
     private ResponseEntity<StreamingResponseBody> returnData(
-            final UUID artifactId, final InputStream data) {
-        final StreamingResponseBody body = outputStream -> {
-            final int blockSize = 1024;
-            int numBytesToWrite;
-            var buffer = new byte[blockSize];
-            while ((numBytesToWrite = data.read(buffer, 0, buffer.length)) != -1) {
-                outputStream.write(buffer, 0, numBytesToWrite);
-            }
-
-            data.close();
-        };
-
+            final UUID artifactId, final InputStream data, final List<URI> routeIds,
+            final HttpServletRequest request) throws IOException {
         final var outputHeader = new HttpHeaders();
         outputHeader.set("Content-Disposition", "attachment;filename=" + artifactId.toString());
 
         final var type = getMediaTypeOfArtifact(artifactId);
+
+        // Size and checksum only describe the data as stored, not the results of routes.
+        if ((routeIds == null || routeIds.isEmpty()) && artifactSvc.hasLocalData(artifactId)) {
+            final var artifact = getService().get(artifactId);
+            final var length = artifact.getByteSize();
+            final var etag = getETag(artifact);
+            outputHeader.setETag(etag);
+            outputHeader.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+            if (matchesETag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+                data.close();
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(outputHeader)
+                        .build();
+            }
+
+            final var range = getRequestedRange(request, etag);
+            if (range != null) {
+                final var start = range.getRangeStart(length);
+                final var end = range.getRangeEnd(length);
+                if (start >= length || start > end) {
+                    data.close();
+                    outputHeader.set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                            .headers(outputHeader).build();
+                }
+
+                outputHeader.set(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + start + "-" + end + "/" + length);
+                outputHeader.setContentLength(end - start + 1);
+                return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                        .headers(outputHeader)
+                        .contentType(type)
+                        .body(outputStream -> {
+                            try (data) {
+                                data.skipNBytes(start);
+                                StreamUtils.copyRange(data, outputStream, 0, end - start);
+                            }
+                        });
+            }
+
+            outputHeader.setContentLength(length);
+        }
+
         return ResponseEntity.ok()
                 .headers(outputHeader)
                 .contentType(type)
-                .body(body);
+                .body(outputStream -> {
+                    try (data) {
+                        data.transferTo(outputStream);
+                    }
+                });
+    }
+
+    private static String getETag(final Artifact artifact) {
+        return "\"" + Long.toHexString(artifact.getCheckSum()) + "-"
+                + Long.toHexString(artifact.getByteSize()) + "\"";
+    }
+
+    private static boolean matchesETag(final String header, final String etag) {
+        if (header == null) {
+            return false;
+        }
+
+        for (final var value : header.split(",")) {
+            final var candidate = value.trim();
+            if ("*".equals(candidate) || etag.equals(candidate)
+                    || ("W/" + etag).equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the single byte range requested by the client. Requests for several ranges, invalid
+     * ranges and ranges of data that changed according to If-Range are answered with the
+     * complete data.
+     *
+     * @param request The current http request.
+     * @param etag    The ETag of the current data.
+     * @return The requested range, null if the complete data should be returned.
+     */
+    private static HttpRange getRequestedRange(final HttpServletRequest request,
+                                               final String etag) {
+        final var header = request.getHeader(HttpHeaders.RANGE);
+        final var ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (header == null || (ifRange != null && !etag.equals(ifRange.trim()))) {
+            return null;
+        }
+
+        try {
+            final var ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Ignoring invalid range. [range=({})]", header);
+            }
+            return null;
+        }
     }
 
     private MediaType getMediaTypeOfArtifact(final UUID artifactId) {
@@ -246,20 +362,93 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
     }
 
     /**
-     * Replace the data of an artifact.
+     * Replace the data of an artifact. The request body is streamed to the storage. With a
+     * Content-Range header, the data can be uploaded in several parts that are collected until
+     * the upload is complete. The first part starts the upload and returns its ETag, which
+     * following parts have to send as If-Match. A part without data (Content-Range:
+     * bytes &#42;/total) returns the number of bytes already received, so an interrupted upload
+     * can be continued.
      *
-     * @param artifactId  The artifact whose data should be replaced.
-     * @param inputStream The new data.
-     * @return Http Status ok.
+     * @param artifactId   The artifact whose data should be replaced.
+     * @param contentRange The position of the uploaded part, if the data is uploaded in parts.
+     * @param uploadTag    The ETag of the upload the part belongs to.
+     * @param inputStream  The new data.
+     * @return Http Status no content, or accepted if parts of the data are missing.
      * @throws IOException if the data could not be stored.
      */
     @PutMapping(value = "{id}/data", consumes = ContentType.OCTET_STREAM)
-    @ApiResponse(responseCode = ResponseCode.OK, description = ResponseDescription.OK)
+    @ApiResponse(responseCode = ResponseCode.NO_CONTENT,
+            description = ResponseDescription.NO_CONTENT)
     @TelemetrySpan(name = "PUT /api/artifacts/{id}/data")
     public ResponseEntity<Void> putData(
             @Valid @PathVariable(name = "id") final UUID artifactId,
-            @RequestBody final byte[] inputStream) throws IOException {
-        artifactSvc.setData(artifactId, new ByteArrayInputStream(inputStream));
+            @RequestHeader(value = HttpHeaders.CONTENT_RANGE, required = false)
+            final String contentRange,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false)
+            final String uploadTag,
+            final InputStream inputStream) throws IOException {
+        if (contentRange != null) {
+            return putDataPart(artifactId, contentRange, uploadTag, inputStream);
+        }
+
+        replaceData(artifactId, inputStream);
+        // The complete data replaces any upload in parts.
+        uploadStaging.discard(artifactId);
+
+        // Notify subscribers on update event.
+        subscriberNotificationSvc.notifyOnUpdate(getService().get(artifactId));
+
+        return ResponseEntity.noContent().build();
+    }
+
+    private ResponseEntity<Void> putDataPart(final UUID artifactId, final String contentRange,
+                                             final String uploadTag,
+                                             final InputStream inputStream) throws IOException {
+        final var range = CONTENT_RANGE.matcher(contentRange);
+        if (!range.matches()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        final var total = "*".equals(range.group(3)) ? -1 : Long.parseLong(range.group(3));
+        final var first = range.group(1) == null ? -1 : Long.parseLong(range.group(1));
+        final var last = range.group(2) == null ? -1 : Long.parseLong(range.group(2));
+        if (last < first || (total >= 0 && last >= total)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        // Fail before receiving data for an unknown artifact.
+        getService().get(artifactId);
+
+        final var uploadId = toUploadId(uploadTag);
+        final UploadStaging.Upload upload;
+        if (first < 0) {
+            upload = uploadStaging.get(artifactId, uploadId, total);
+        } else {
+            try {
+                upload = uploadStaging.append(artifactId, uploadId, first, last - first + 1,
+                        total, inputStream);
+            } catch (UploadOffsetException e) {
+                return withReceivedRange(ResponseEntity
+                        .status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE), uploadId,
+                        e.getReceived());
+            } catch (InvalidInputException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        final var received = upload.getReceived();
+        if (total < 0 || received < total) {
+            return withReceivedRange(ResponseEntity.status(HttpStatus.ACCEPTED), upload.getId(),
+                    received);
+        }
+
+        if (received > total) {
+            uploadStaging.discard(artifactId);
+            return ResponseEntity.badRequest().build();
+        }
+
+        replaceData(artifactId, uploadStaging.open(artifactId));
+        uploadStaging.discard(artifactId);
 
         // Notify subscribers on update event.
         subscriberNotificationSvc.notifyOnUpdate(getService().get(artifactId));
@@ -267,6 +456,33 @@ public class ArtifactController extends BaseResourceNotificationController<Artif
         return ResponseEntity.noContent().build();
     }
 
+    private void replaceData(final UUID artifactId, final InputStream data) throws IOException {
+        // Only the stored data is replaced, the returned stream is not needed.
+        artifactSvc.setData(artifactId, data).close();
+    }
+
+    private static ResponseEntity<Void> withReceivedRange(final ResponseEntity.BodyBuilder builder,
+                                                          final String uploadId,
+                                                          final long received) {
+        if (received > 0) {
+            builder.header(HttpHeaders.RANGE, "bytes=0-" + (received - 1));
+            builder.eTag(uploadId);
+        }
+        return builder.build();
+    }
+
+    private static String toUploadId(final String uploadTag) {
+        if (uploadTag == null) {
+            return null;
+        }
+
+        var tag = uploadTag.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        return tag.replace("\"", "");
+    }
+
     /**
      * Returns the route associated with an artifact, if any. Returns an empty response body
      * otherwise.
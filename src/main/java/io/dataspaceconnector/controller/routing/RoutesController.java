@@ -21,6 +21,7 @@ package io.dataspaceconnector.controller.routing;
 
 import io.dataspaceconnector.common.net.JsonResponse;
 import io.dataspaceconnector.common.net.ContentType;
+import io.dataspaceconnector.config.camel.UnmarshallerPool;
 import io.dataspaceconnector.controller.routing.tag.CamelDescription;
 import io.dataspaceconnector.controller.routing.tag.CamelName;
 import io.dataspaceconnector.controller.util.ResponseCode;
@@ -47,7 +48,6 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 
 /**
  * Controller for adding and removing routes at runtime.
@@ -67,9 +67,9 @@ public class RoutesController {
     private final @NonNull CamelContext camelContext;
 
     /**
-     * Unmarshaller for reading route definitions from XML.
+     * Unmarshallers for reading route definitions from XML.
      */
-    private final @NonNull Unmarshaller unmarshaller;
+    private final @NonNull UnmarshallerPool unmarshallerPool;
 
     /**
      * Adds one or more routes from an XML file to the Camel context.
@@ -93,7 +93,7 @@ public class RoutesController {
             }
 
             final var inputStream = file.getInputStream();
-            final var routes = (RoutesDefinition) unmarshaller.unmarshal(inputStream);
+            final var routes = (RoutesDefinition) unmarshallerPool.unmarshal(inputStream);
             camelContext.adapt(ModelCamelContext.class).addRouteDefinitions(routes.getRoutes());
 
             if (log.isInfoEnabled()) {
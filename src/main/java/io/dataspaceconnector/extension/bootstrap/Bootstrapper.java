@@ -51,11 +51,9 @@ import io.dataspaceconnector.service.resource.type.CatalogService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.context.ApplicationContext;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
@@ -72,12 +70,14 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import static io.dataspaceconnector.extension.bootstrap.util.BootstrapUtils.findFilesByExtension;
 import static io.dataspaceconnector.extension.bootstrap.util.BootstrapUtils.retrieveBootstrapConfig;
@@ -322,8 +322,7 @@ public class Bootstrapper {
         final var template = new TransactionTemplate(transactionManager);
         // Iterate over all deserialized catalogs.
         for (final var catalog : catalogs.get()) {
-            // Check for duplicates. Get all known catalogs for every bootstrap processor to detect
-            // duplicated bootstrap files.
+            // Check for duplicates, so that already bootstrapped files are not registered twice.
             final var duplicate = template.execute(x -> isDuplicate(catalog));
 
             if (duplicate != null && duplicate) {
@@ -343,33 +342,35 @@ public class Bootstrapper {
     }
 
     private boolean isDuplicate(final ResourceCatalog catalog) {
-        for (final var knownCatalog : catalogSvc.getAll(Pageable.unpaged())) {
-            Hibernate.initialize(knownCatalog.getAdditional());
-            if (catalog.getId().equals(knownCatalog.getBootstrapId())) {
-                return true;
-            }
-        }
-
-        return false;
+        return catalogSvc.existsByBootstrapId(catalog.getId());
     }
 
     private Optional<Set<ResourceCatalog>> deserializeAllCatalogs(final List<File> jsonFiles) {
-        final var catalogs = new HashSet<ResourceCatalog>();
+        // Deserialize all files in parallel, keeping the order of the files.
+        final var results = jsonFiles.parallelStream()
+                .map(this::deserializeCatalog)
+                .collect(Collectors.toList());
 
-        // Deserialize all files.
-        for (final var jsonFile : jsonFiles) {
-            try {
-                catalogs.add(deserializationSvc.getResourceCatalog(
-                        Files.readString(jsonFile.toPath())));
-            } catch (IOException e) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Could not deserialize ids catalog file. [path=({})]",
-                            jsonFile.getPath(), e);
-                }
-                return Optional.empty();
+        if (results.stream().anyMatch(Optional::isEmpty)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(results.stream()
+                .map(Optional::get)
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    private Optional<ResourceCatalog> deserializeCatalog(final File jsonFile) {
+        try {
+            return Optional.of(deserializationSvc.getResourceCatalog(
+                    Files.readString(jsonFile.toPath())));
+        } catch (IOException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Could not deserialize ids catalog file. [path=({})]",
+                        jsonFile.getPath(), e);
             }
+            return Optional.empty();
         }
-        return Optional.of(catalogs);
     }
 
     /**
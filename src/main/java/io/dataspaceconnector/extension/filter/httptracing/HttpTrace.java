@@ -53,10 +53,15 @@ public class HttpTrace {
     private String url;
 
     /**
-     * The message body.
+     * The message body. Truncated to the configured maximum size.
      */
     private String body;
 
+    /**
+     * The full size of the message body in bytes.
+     */
+    private long bodySize;
+
     /**
      * The message header.
      */
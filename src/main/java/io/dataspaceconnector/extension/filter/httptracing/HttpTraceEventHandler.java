@@ -15,33 +15,69 @@
  */
 package io.dataspaceconnector.extension.filter.httptracing;
 
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
+import io.dataspaceconnector.extension.filter.httptracing.internal.RingBuffer;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
 /**
- * Handles the processing of HttpTraces.
+ * Handles the processing of HttpTraces. Traces are handed to a background writer through a
+ * bounded buffer, so the request threads never wait for the traces to be processed. Traces are
+ * dropped if the writer cannot keep up.
  */
 @Component
 @Log4j2
-@RequiredArgsConstructor
-public class HttpTraceEventHandler {
+public class HttpTraceEventHandler implements DisposableBean {
+
+    /**
+     * The time the writer waits before polling an empty buffer again.
+     */
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
 
     /**
      * The global event publisher used for pushing the http traces.
      */
-    private final @NonNull ApplicationEventPublisher publisher;
+    private final ApplicationEventPublisher publisher;
+
+    /**
+     * The traces waiting to be published.
+     */
+    private final RingBuffer<HttpTrace> buffer;
+
+    /**
+     * Whether the writer has been started.
+     */
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /**
+     * Whether the writer should keep running.
+     */
+    private volatile boolean running = true;
+
+    /**
+     * Constructor.
+     *
+     * @param eventPublisher The global event publisher used for pushing the http traces.
+     * @param bufferSize     The maximum number of traces waiting to be published.
+     */
+    public HttpTraceEventHandler(final ApplicationEventPublisher eventPublisher,
+                                 @Value("${httptrace.buffer-size:1024}") final int bufferSize) {
+        this.publisher = eventPublisher;
+        this.buffer = new RingBuffer<>(bufferSize);
+    }
 
     /**
      * Processes raised HttpTraceEvents.
      *
      * @param trace The HttpTrace that needs to be processed
      */
-    @Async
     @EventListener
     public void handleHttpTraceEvent(final HttpTrace trace) {
         if (log.isInfoEnabled()) {
@@ -50,13 +86,56 @@ public class HttpTraceEventHandler {
     }
 
     /**
-     * Raise an HttpTraceEvent.
+     * Raise an HttpTraceEvent. The event is published by the background writer.
      *
      * @param trace The http trace that others should be notified about.
      */
     public void sendHttpTraceEvent(final HttpTrace trace) {
         if (trace != null) {
+            if (started.compareAndSet(false, true)) {
+                startWriter();
+            }
+            buffer.offer(trace);
+        }
+    }
+
+    private void startWriter() {
+        final var writer = new Thread(this::publishTraces, "http-trace-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    private void publishTraces() {
+        while (running) {
+            final var trace = buffer.poll();
+            if (trace == null) {
+                final var dropped = buffer.drainDropped();
+                if (dropped > 0 && log.isWarnEnabled()) {
+                    log.warn("Dropped http traces. [count=({})]", dropped);
+                }
+                LockSupport.parkNanos(IDLE_WAIT_NANOS);
+            } else {
+                publish(trace);
+            }
+        }
+    }
+
+    private void publish(final HttpTrace trace) {
+        try {
             publisher.publishEvent(trace);
+        } catch (RuntimeException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to publish http trace. [exception=({})]",
+                        exception.getMessage());
+            }
         }
     }
+
+    /**
+     * Stop the background writer. Traces that have not been published yet are dropped.
+     */
+    @Override
+    public void destroy() {
+        running = false;
+    }
 }
@@ -17,50 +17,64 @@ package io.dataspaceconnector.extension.filter.httptracing;
 
 import io.dataspaceconnector.common.util.UUIDUtils;
 import io.dataspaceconnector.extension.filter.httptracing.internal.RequestWrapper;
-import lombok.extern.log4j.Log4j2;
+import io.dataspaceconnector.extension.filter.httptracing.internal.ResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
- * Use this class to log all incoming and outgoing http traffic.
+ * Use this class to log all incoming and outgoing http traffic. Only a sample of the requests
+ * is traced and only the beginning of the message bodies is captured, so the bodies are never
+ * buffered completely.
  */
 @Component
 @Order(1)
-@Log4j2
 @ConditionalOnProperty(name = "httptrace.enabled")
 public final class HttpTraceFilter extends OncePerRequestFilter {
-    /**
-     * The trace id.
-     */
-    private transient UUID traceId;
 
     /**
      * The event handler.
      */
     private final transient HttpTraceEventHandler eventHandler;
 
+    /**
+     * The share of requests that are traced, between 0 and 1.
+     */
+    private final double sampleRate;
+
+    /**
+     * The maximum number of captured bytes of a message body.
+     */
+    private final int maxBodySize;
+
     /**
      * The constructor.
      *
-     * @param handler Responsible for HttpTrace events raised by this class.
+     * @param handler     Responsible for HttpTrace events raised by this class.
+     * @param rate        The share of requests that are traced, between 0 and 1.
+     * @param maxBodySize The maximum captured size of a message body.
      */
-    public HttpTraceFilter(final HttpTraceEventHandler handler) {
+    public HttpTraceFilter(final HttpTraceEventHandler handler,
+                           @Value("${httptrace.sample-rate:1.0}") final double rate,
+                           @Value("${httptrace.max-body-size:4KB}") final DataSize maxBodySize) {
         super();
         this.eventHandler = handler;
+        this.sampleRate = rate;
+        this.maxBodySize = (int) Math.min(Integer.MAX_VALUE, maxBodySize.toBytes());
     }
 
     private static UUID generateUUID() {
@@ -72,24 +86,35 @@ public final class HttpTraceFilter extends OncePerRequestFilter {
                                     final HttpServletResponse response,
                                     final FilterChain filterChain)
             throws ServletException, IOException {
-        final var requestWrapper = new RequestWrapper(request);
-        final var responseWrapper = new ContentCachingResponseWrapper(response);
+        if (!isSampled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final var requestWrapper = new RequestWrapper(request, maxBodySize);
+        final var responseWrapper = new ResponseWrapper(response, maxBodySize);
 
-        traceId = generateUUID();
-        beforeRequest(requestWrapper);
+        final var traceId = generateUUID();
+        final var timestamp = ZonedDateTime.now(ZoneOffset.UTC);
 
         try {
             filterChain.doFilter(requestWrapper, responseWrapper);
         } finally {
-            afterRequest(responseWrapper);
-            responseWrapper.copyBodyToResponse();
+            responseWrapper.flushWriter();
+            eventHandler.sendHttpTraceEvent(getRequestTrace(traceId, timestamp, requestWrapper));
+            eventHandler.sendHttpTraceEvent(getResponseTrace(traceId, responseWrapper));
         }
     }
 
-    private void beforeRequest(final RequestWrapper request) {
+    private boolean isSampled() {
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private HttpTrace getRequestTrace(final UUID traceId, final ZonedDateTime timestamp,
+                                      final RequestWrapper request) {
         final var trace = new HttpTrace();
         trace.setTraceId(traceId);
-        trace.setTimestamp(ZonedDateTime.now(ZoneOffset.UTC));
+        trace.setTimestamp(timestamp);
         trace.setUrl(request.getRequestURI());
         trace.setMethod(request.getMethod());
         trace.setClient(request.getRemoteAddr());
@@ -105,49 +130,28 @@ public final class HttpTraceFilter extends OncePerRequestFilter {
         final var parameterNames = request.getParameterNames();
         while (parameterNames.hasMoreElements()) {
             final var key = parameterNames.nextElement();
-            trace.getParameterMap().put(key, request.getHeader(key));
+            trace.getParameterMap().put(key, request.getParameter(key));
         }
 
-        try {
-            trace.setBody(new String(request.getRequestBody(), request.getCharacterEncoding()));
-        } catch (IOException e) {
-            if (log.isErrorEnabled()) {
-                log.error("Failed to get the request body. [exception=({})]", e.getMessage(), e);
-            }
-        }
+        trace.setBody(request.getCapturedBody());
+        trace.setBodySize(request.getBodySize());
 
-        eventHandler.sendHttpTraceEvent(trace);
+        return trace;
     }
 
-    private void afterRequest(final ContentCachingResponseWrapper responseWrapper) {
+    private HttpTrace getResponseTrace(final UUID traceId, final ResponseWrapper response) {
         final var trace = new HttpTrace();
         trace.setTraceId(traceId);
         trace.setTimestamp(ZonedDateTime.now(ZoneOffset.UTC));
-        trace.setStatus(responseWrapper.getStatus());
-        trace.setBody(getResponseAsPayload(responseWrapper));
+        trace.setStatus(response.getStatus());
+        trace.setBody(response.getBodySize() > 0 ? response.getCapturedBody() : "ERROR");
+        trace.setBodySize(response.getBodySize());
 
         trace.setHeaders(new HashMap<>());
-        for (final var key : responseWrapper.getHeaderNames()) {
-            trace.getHeaders().put(key, responseWrapper.getHeader(key));
-        }
-
-        eventHandler.sendHttpTraceEvent(trace);
-    }
-
-    private String getResponseAsPayload(final ContentCachingResponseWrapper wrappedResponse) {
-        var response = "ERROR";
-        if (wrappedResponse.getContentSize() > 0) {
-            try {
-                response = new String(wrappedResponse.getContentAsByteArray(), 0,
-                        wrappedResponse.getContentSize(),
-                        wrappedResponse.getCharacterEncoding());
-            } catch (UnsupportedEncodingException e) {
-                if (log.isErrorEnabled()) {
-                    log.error("Failed to get the response. [exception=({})]", e.getMessage(), e);
-                }
-            }
+        for (final var key : response.getHeaderNames()) {
+            trace.getHeaders().put(key, response.getHeader(key));
         }
 
-        return response;
+        return trace;
     }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.filter.httptracing.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+
+/**
+ * Keeps the first bytes of a message body that is streamed through a wrapper. Bytes beyond the
+ * limit are only counted.
+ */
+final class BodyCapture {
+
+    /**
+     * The initial size of the buffer for the captured bytes.
+     */
+    private static final int INITIAL_SIZE = 256;
+
+    /**
+     * The maximum number of captured bytes.
+     */
+    private final int limit;
+
+    /**
+     * The captured bytes.
+     */
+    private final ByteArrayOutputStream buffer;
+
+    /**
+     * The number of bytes streamed through the wrapper.
+     */
+    private long size;
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize The maximum number of captured bytes.
+     */
+    /* default */ BodyCapture(final int maxSize) {
+        this.limit = maxSize;
+        this.buffer = new ByteArrayOutputStream(Math.min(maxSize, INITIAL_SIZE));
+    }
+
+    /**
+     * Capture a single byte.
+     *
+     * @param value The byte.
+     */
+    /* default */ void write(final int value) {
+        if (buffer.size() < limit) {
+            buffer.write(value);
+        }
+        size++;
+    }
+
+    /**
+     * Capture a part of a byte array.
+     *
+     * @param bytes  The bytes.
+     * @param offset The start of the part.
+     * @param length The length of the part.
+     */
+    /* default */ void write(final byte[] bytes, final int offset, final int length) {
+        final var remaining = limit - buffer.size();
+        if (remaining > 0) {
+            buffer.write(bytes, offset, Math.min(remaining, length));
+        }
+        size += length;
+    }
+
+    /**
+     * Get the captured bytes as text.
+     *
+     * @param charset The charset of the body.
+     * @return The captured part of the body.
+     */
+    /* default */ String toString(final Charset charset) {
+        return buffer.toString(charset);
+    }
+
+    /**
+     * Get the number of bytes streamed through the wrapper.
+     *
+     * @return The full size of the body.
+     */
+    /* default */ long getSize() {
+        return size;
+    }
+}
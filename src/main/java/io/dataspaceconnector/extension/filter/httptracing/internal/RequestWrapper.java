@@ -15,64 +15,65 @@
  */
 package io.dataspaceconnector.extension.filter.httptracing.internal;
 
-import lombok.extern.log4j.Log4j2;
-import org.springframework.util.StreamUtils;
-
 import javax.servlet.ReadListener;
 import javax.servlet.ServletInputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletRequestWrapper;
 import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
-import java.util.Arrays;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
- * Wraps incoming HTTP requests too read the message payload multiple times.
+ * Wraps incoming HTTP requests to capture the beginning of the message payload while it is read
+ * by the application. The payload is not buffered.
  */
-@Log4j2
 public final class RequestWrapper extends HttpServletRequestWrapper {
 
     /**
-     * The original request body.
+     * The captured part of the request body.
+     */
+    private final transient BodyCapture capture;
+
+    /**
+     * The stream passed to the application.
      */
-    private transient byte[] requestBody;
+    private transient CapturingServletInputStream inputStream;
 
     /**
-     * Whether the original request body has been copied.
+     * The reader passed to the application.
      */
-    private transient boolean isBufferFilled;
+    private transient BufferedReader reader;
 
     /**
      * Default constructor.
      *
-     * @param request The request to be wrapped
+     * @param request     The request to be wrapped.
+     * @param maxBodySize The maximum number of captured bytes of the request body.
      */
-    public RequestWrapper(final HttpServletRequest request) {
+    public RequestWrapper(final HttpServletRequest request, final int maxBodySize) {
         super(request);
+        this.capture = new BodyCapture(maxBodySize);
     }
 
     /**
-     * Get the request body of the message.
+     * Get the captured part of the request body. Only the bytes read by the application so far
+     * are included.
      *
-     * @return The request body.
-     * @throws IOException if the request body could not be read.
+     * @return The captured request body.
      */
-    public byte[] getRequestBody() throws IOException {
-        final var output = isBufferFilled ? requestBody : cloneRequestBody();
-        return Arrays.copyOf(output, output.length);
+    public String getCapturedBody() {
+        return capture.toString(getCharset());
     }
 
-    private byte[] cloneRequestBody() throws IOException {
-        final var inputStream = super.getInputStream();
-        if (inputStream != null) {
-            requestBody = StreamUtils.copyToByteArray(inputStream);
-            isBufferFilled = true;
-        }
-
-        return requestBody;
+    /**
+     * Get the number of bytes of the request body read by the application.
+     *
+     * @return The size of the request body.
+     */
+    public long getBodySize() {
+        return capture.getSize();
     }
 
     /**
@@ -83,54 +84,89 @@ public final class RequestWrapper extends HttpServletRequestWrapper {
      */
     @Override
     public ServletInputStream getInputStream() throws IOException {
-        return new CustomServletInputStream(getRequestBody());
+        if (inputStream == null) {
+            inputStream = new CapturingServletInputStream(super.getInputStream(), capture);
+        }
+        return inputStream;
     }
 
     @Override
-    public BufferedReader getReader() throws UnsupportedEncodingException {
-        final var bais = new ByteArrayInputStream(this.requestBody);
-        return new BufferedReader(new InputStreamReader(bais, this.getCharacterEncoding()));
+    public BufferedReader getReader() throws IOException {
+        if (reader == null) {
+            reader = new BufferedReader(new InputStreamReader(getInputStream(), getCharset()));
+        }
+        return reader;
+    }
+
+    private Charset getCharset() {
+        final var encoding = getCharacterEncoding();
+        return encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
     }
 
     /**
-     * Custom input stream returning a clone of the original request.
+     * Input stream capturing the bytes read from the original request.
      */
-    private static class CustomServletInputStream extends ServletInputStream {
+    private static final class CapturingServletInputStream extends ServletInputStream {
+        /**
+         * The original input stream.
+         */
+        private final ServletInputStream delegate;
+
         /**
-         * Copy of the input stream.
+         * The captured part of the request body.
          */
-        private final transient ByteArrayInputStream buffer;
+        private final BodyCapture capture;
 
         /**
          * Default constructor.
          *
-         * @param contents The request body.
+         * @param original The original input stream.
+         * @param target   The captured part of the request body.
          */
-        /* default */ CustomServletInputStream(final byte[] contents) {
+        /* default */ CapturingServletInputStream(final ServletInputStream original,
+                                                  final BodyCapture target) {
             super();
-            buffer = new ByteArrayInputStream(contents);
+            this.delegate = original;
+            this.capture = target;
         }
 
         @Override
-        public int read() {
-            return buffer.read();
+        public int read() throws IOException {
+            final var value = delegate.read();
+            if (value != -1) {
+                capture.write(value);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length)
+                throws IOException {
+            final var count = delegate.read(bytes, offset, length);
+            if (count > 0) {
+                capture.write(bytes, offset, count);
+            }
+            return count;
         }
 
         @Override
         public boolean isFinished() {
-            return buffer.available() == 0;
+            return delegate.isFinished();
         }
 
         @Override
         public boolean isReady() {
-            return true;
+            return delegate.isReady();
         }
 
         @Override
         public void setReadListener(final ReadListener listener) {
-            if (log.isErrorEnabled()) {
-                log.error("Tried to set read listener.");
-            }
+            delegate.setReadListener(listener);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
         }
     }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.filter.httptracing.internal;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Wraps outgoing HTTP responses to capture the beginning of the message payload while it is
+ * written to the client. The payload is not buffered.
+ */
+public final class ResponseWrapper extends HttpServletResponseWrapper {
+
+    /**
+     * The captured part of the response body.
+     */
+    private final transient BodyCapture capture;
+
+    /**
+     * The stream passed to the application.
+     */
+    private transient CapturingServletOutputStream outputStream;
+
+    /**
+     * The writer passed to the application.
+     */
+    private transient PrintWriter writer;
+
+    /**
+     * Default constructor.
+     *
+     * @param response    The response to be wrapped.
+     * @param maxBodySize The maximum number of captured bytes of the response body.
+     */
+    public ResponseWrapper(final HttpServletResponse response, final int maxBodySize) {
+        super(response);
+        this.capture = new BodyCapture(maxBodySize);
+    }
+
+    /**
+     * Get the captured part of the response body.
+     *
+     * @return The captured response body.
+     */
+    public String getCapturedBody() {
+        return capture.toString(getCharset());
+    }
+
+    /**
+     * Get the number of bytes of the response body written by the application.
+     *
+     * @return The size of the response body.
+     */
+    public long getBodySize() {
+        return capture.getSize();
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CapturingServletOutputStream(super.getOutputStream(), capture);
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharset()));
+        }
+        return writer;
+    }
+
+    /**
+     * Pass characters still buffered by the writer to the original response.
+     */
+    public void flushWriter() {
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        flushWriter();
+        super.flushBuffer();
+    }
+
+    private Charset getCharset() {
+        final var encoding = getCharacterEncoding();
+        return encoding == null ? StandardCharsets.ISO_8859_1 : Charset.forName(encoding);
+    }
+
+    /**
+     * Output stream capturing the bytes written to the original response.
+     */
+    private static final class CapturingServletOutputStream extends ServletOutputStream {
+        /**
+         * The original output stream.
+         */
+        private final ServletOutputStream delegate;
+
+        /**
+         * The captured part of the response body.
+         */
+        private final BodyCapture capture;
+
+        /**
+         * Default constructor.
+         *
+         * @param original The original output stream.
+         * @param target   The captured part of the response body.
+         */
+        /* default */ CapturingServletOutputStream(final ServletOutputStream original,
+                                                   final BodyCapture target) {
+            super();
+            this.delegate = original;
+            this.capture = target;
+        }
+
+        @Override
+        public void write(final int value) throws IOException {
+            delegate.write(value);
+            capture.write(value);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length)
+                throws IOException {
+            delegate.write(bytes, offset, length);
+            capture.write(bytes, offset, length);
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener listener) {
+            delegate.setWriteListener(listener);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.filter.httptracing.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free ring buffer handing elements from any number of producers to a single
+ * consumer. Elements offered while the buffer is full are dropped and counted.
+ *
+ * @param <T> The type of the elements.
+ */
+public final class RingBuffer<T> {
+
+    /**
+     * The slots of the buffer. A slot is empty if it contains null.
+     */
+    private final AtomicReferenceArray<T> slots;
+
+    /**
+     * The capacity of the buffer minus one, used for mapping positions to slots.
+     */
+    private final int mask;
+
+    /**
+     * The position the next element is written to.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * The position the next element is read from.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The number of dropped elements.
+     */
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param minCapacity The minimum capacity. Rounded up to the next power of two.
+     */
+    public RingBuffer(final int minCapacity) {
+        final var capacity = Integer.highestOneBit(Math.max(1, minCapacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Add an element to the buffer. May be called concurrently.
+     *
+     * @param element The element.
+     * @return False if the buffer is full and the element has been dropped.
+     */
+    public boolean offer(final T element) {
+        long position;
+        do {
+            position = head.get();
+            if (position - tail.get() > mask) {
+                dropped.increment();
+                return false;
+            }
+        } while (!head.compareAndSet(position, position + 1));
+
+        slots.lazySet((int) position & mask, element);
+        return true;
+    }
+
+    /**
+     * Remove the oldest element from the buffer. Must only be called by a single consumer.
+     *
+     * @return The element or null, if no element is available.
+     */
+    public T poll() {
+        final var position = tail.get();
+        final var index = (int) position & mask;
+        final var element = slots.get(index);
+        if (element == null) {
+            // The buffer is empty or the producer has not stored the element yet.
+            return null;
+        }
+
+        slots.lazySet(index, null);
+        tail.lazySet(position + 1);
+        return element;
+    }
+
+    /**
+     * Get and reset the number of elements dropped since the last call.
+     *
+     * @return The number of dropped elements.
+     */
+    public long drainDropped() {
+        return dropped.sumThenReset();
+    }
+}
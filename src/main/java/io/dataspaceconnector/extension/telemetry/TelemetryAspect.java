@@ -16,18 +16,53 @@
 package io.dataspaceconnector.extension.telemetry;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.api.trace.StatusCode;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 /**
- * Logic of the AOP aspect for OpenTelemetry.
+ * Logic of the AOP aspect for OpenTelemetry. Every annotated method call is recorded as a span
+ * and its duration as a timer with a percentile histogram.
  */
 @Aspect
 @Component
 public class TelemetryAspect {
+
+    /**
+     * The name of the timer recording the durations of the annotated methods.
+     */
+    public static final String TIMER_NAME = "dsc.span";
+
+    /**
+     * Registry for the timers, if available.
+     */
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * The timers by span name and outcome.
+     */
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param registry Registry for the timers, if available.
+     */
+    public TelemetryAspect(final ObjectProvider<MeterRegistry> registry) {
+        this.meterRegistry = registry;
+    }
+
     /**
      * Defines the logic of the aspect annotation.
      *
@@ -38,26 +73,59 @@ public class TelemetryAspect {
     @Around("@annotation(TelemetrySpan)")
     @SuppressFBWarnings("THROWS_METHOD_THROWS_CLAUSE_THROWABLE")
     public Object addSpan(final ProceedingJoinPoint joinPoint) throws Throwable {
+        final var spanName = getSpanName(joinPoint);
+        final var tracer = CustomOpenTelemetry.getTracer();
+        final var start = System.nanoTime();
+        var outcome = "success";
+
+        //Create span for annotated method
+        final var span = tracer == null ? null : tracer.spanBuilder(spanName).startSpan();
+        try (var scope = span == null ? null : span.makeCurrent()) {
+            return joinPoint.proceed();
+        } catch (Throwable throwable) {
+            outcome = "error";
+            if (span != null) {
+                span.recordException(throwable);
+                span.setStatus(StatusCode.ERROR);
+            }
+            throw throwable;
+        } finally {
+            if (span != null) {
+                span.end();
+            }
+            recordDuration(spanName, outcome, System.nanoTime() - start);
+        }
+    }
+
+    private String getSpanName(final ProceedingJoinPoint joinPoint) {
         //Get context information of annotated method.
         final var signature = (MethodSignature) joinPoint.getSignature();
         final var method = signature.getMethod();
         final var telemetrySpan = method.getAnnotation(TelemetrySpan.class);
 
         //Span name: Either the name-parameter specified by the user or
-        //automatically the class name + method name.
-        final var spanName = telemetrySpan.name().isBlank()
-                ? signature.getDeclaringTypeName().substring(
-                        signature.getDeclaringTypeName()
-                                .lastIndexOf('.') + 1).trim() + "." + method.getName()
-                : telemetrySpan.name();
-
+        //automatically the class name + method name. The class of the target is used, so
+        //methods annotated in a superclass are named after the implementing class.
+        if (!telemetrySpan.name().isBlank()) {
+            return telemetrySpan.name();
+        }
 
-        //Create span for annotated method
-        final var span = CustomOpenTelemetry.getTracer().spanBuilder(spanName).startSpan();
-        span.makeCurrent();
-        final var proceeded = joinPoint.proceed();
-        span.end();
+        final var target = joinPoint.getTarget();
+        final var type = target == null
+                ? method.getDeclaringClass() : AopUtils.getTargetClass(target);
+        return type.getSimpleName() + "." + method.getName();
+    }
 
-        return proceeded;
+    private void recordDuration(final String spanName, final String outcome,
+                                final long nanos) {
+        final var registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            timers.computeIfAbsent(spanName + '|' + outcome, key -> Timer.builder(TIMER_NAME)
+                            .tag("span", spanName)
+                            .tag("outcome", outcome)
+                            .publishPercentileHistogram()
+                            .register(registry))
+                    .record(nanos, TimeUnit.NANOSECONDS);
+        }
     }
 }
@@ -105,14 +105,6 @@ public abstract class Artifact extends NamedEntity implements RemoteObject {
     @ManyToMany(mappedBy = "artifacts")
     private List<Agreement> agreements;
 
-    /**
-     * Increment the data access counter.
-     */
-    public void incrementAccessCounter() {
-        assert numAccessed >= 0;
-        numAccessed += 1;
-    }
-
     /**
      * List of subscriptions listening to updates for this artifact.
      */
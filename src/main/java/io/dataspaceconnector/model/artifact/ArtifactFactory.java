@@ -126,6 +126,8 @@ public final class ArtifactFactory extends AbstractNamedFactory<Artifact, Artifa
         if (currentData instanceof LocalData localData) {
             if (!Arrays.equals(localData.getValue(), newData)) {
                 localData.setValue(newData);
+                // The artifact service releases the previously stored data.
+                localData.setStorageKey(null);
                 setLocalArtifactData(artifact, localData);
 
                 isUpdated = true;
@@ -182,18 +184,28 @@ public final class ArtifactFactory extends AbstractNamedFactory<Artifact, Artifa
      */
     public boolean updateByteSize(final Artifact artifact, final byte[] bytes) {
         if (bytes != null) {
-            final var byteSize = bytes.length;
-            final var checkSum = calculateChecksum(bytes);
-            if (artifact.getCheckSum() != checkSum || artifact.getByteSize() != byteSize) {
-                setByteSizeAndCheckSum(artifact, byteSize, checkSum);
-                return true;
-            }
-        } else {
-            if (artifact.getByteSize() != 0 || artifact.getCheckSum() != 0) {
-                setByteSizeAndCheckSum(artifact, 0, 0);
-                return true;
-            }
+            return updateByteSize(artifact, bytes.length, calculateChecksum(bytes));
         }
+
+        return updateByteSize(artifact, 0, 0);
+    }
+
+    /**
+     * Update the byte and checksum of an artifact with values that have been computed while
+     * storing the data. This will not update the actual data.
+     *
+     * @param artifact The artifact which byte and checksum needs to be updated.
+     * @param byteSize The byte size of the data.
+     * @param checkSum The CRC32C checksum of the data.
+     * @return true if the artifact has been modified.
+     */
+    public boolean updateByteSize(final Artifact artifact, final long byteSize,
+                                  final long checkSum) {
+        if (artifact.getCheckSum() != checkSum || artifact.getByteSize() != byteSize) {
+            setByteSizeAndCheckSum(artifact, byteSize, checkSum);
+            return true;
+        }
+
         return false;
     }
 
@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.model.artifact;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -22,11 +23,14 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.Hibernate;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
+import org.hibernate.proxy.HibernateProxy;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.OneToOne;
 
 /**
@@ -47,10 +51,38 @@ public class ArtifactImpl extends Artifact {
     private static final long serialVersionUID = 1L;
 
     /**
-     * The data stored in the artifact.
+     * The data stored in the artifact. Loaded on first access, so that reading artifact metadata
+     * does not fetch the stored payload.
      **/
-    @OneToOne(cascade = { CascadeType.ALL })
+    @OneToOne(cascade = { CascadeType.ALL }, fetch = FetchType.LAZY)
     @JsonInclude
     @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
     private Data data;
+
+    /**
+     * Get the data stored in the artifact. Loads the data if this has not happened yet, which
+     * requires an open persistence context.
+     *
+     * @return The data.
+     */
+    public Data getData() {
+        if (data instanceof HibernateProxy) {
+            // Replace the proxy, so that the concrete data type is visible to callers.
+            data = (Data) Hibernate.unproxy(data);
+        }
+
+        return data;
+    }
+
+    /**
+     * Check whether the data of the artifact has already been loaded.
+     *
+     * @return True if the data can be accessed without a database query.
+     */
+    @JsonIgnore
+    public boolean isDataLoaded() {
+        return Hibernate.isInitialized(data);
+    }
 }
@@ -21,6 +21,7 @@ package io.dataspaceconnector.model.artifact;
 
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.SQLDelete;
@@ -53,6 +54,13 @@ public class LocalData extends Data {
     @Column(name = "localdata_value", columnDefinition = "TEXT")
     private byte[] value;
 
+    /**
+     * The reference to the data if it is kept in an external storage instead of this row.
+     */
+    @Column(name = "localdata_storage_key")
+    @Getter
+    private String storageKey;
+
     /**
      * Get the data.
      *
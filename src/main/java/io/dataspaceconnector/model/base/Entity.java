@@ -20,6 +20,7 @@ import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.springframework.data.annotation.CreatedDate;
@@ -38,6 +39,7 @@ import java.time.ZonedDateTime;
 import java.util.Map;
 import java.util.UUID;
 
+import static io.dataspaceconnector.model.config.DatabaseConstants.ADDITIONAL_BATCH_SIZE;
 import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LENGTH;
 
 /**
@@ -82,9 +84,11 @@ public class Entity implements Serializable {
 
     /**
      * Contains all additional fields that may have been defined but
-     * could not be mapped.
+     * could not be mapped. Loaded for many entities at once, so that lists of entities do not
+     * need a query per entity.
      */
     @ElementCollection(fetch = FetchType.EAGER)
+    @BatchSize(size = ADDITIONAL_BATCH_SIZE)
     @Setter(AccessLevel.PACKAGE)
     private Map<String, String> additional;
 
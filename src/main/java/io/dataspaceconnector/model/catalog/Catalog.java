@@ -26,6 +26,7 @@ import lombok.Setter;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
 
+import javax.persistence.Index;
 import javax.persistence.ManyToMany;
 import javax.persistence.Table;
 import java.util.List;
@@ -34,7 +35,8 @@ import java.util.List;
  * A catalog groups resources.
  */
 @javax.persistence.Entity
-@Table(name = "catalog")
+@Table(name = "catalog",
+        indexes = @Index(name = "catalog_bootstrap_id", columnList = "bootstrap_id"))
 @SQLDelete(sql = "UPDATE catalog SET deleted=true WHERE id=?")
 @Where(clause = "deleted = false")
 @Getter
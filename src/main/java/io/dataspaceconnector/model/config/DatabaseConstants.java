@@ -55,6 +55,11 @@ public final class DatabaseConstants {
      */
     public static final int ENDPOINT_LOCATION_LENGTH = 2048;
 
+    /**
+     * The number of entities whose additional fields are loaded with a single query.
+     */
+    public static final int ADDITIONAL_BATCH_SIZE = 100;
+
     /**
      * Private constructor.
      */
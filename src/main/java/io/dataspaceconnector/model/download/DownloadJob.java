@@ -0,0 +1,179 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.model.download;
+
+import io.dataspaceconnector.model.util.UriConverter;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import java.io.Serializable;
+import java.net.URI;
+import java.time.ZonedDateTime;
+
+import static io.dataspaceconnector.model.config.DatabaseConstants.URI_COLUMN_LENGTH;
+
+/**
+ * A queued download of the data of an artifact from a provider connector. There is at most one
+ * job per artifact. A running job is held by the connector instance running it for as long as
+ * the instance renews its lease.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "download_job",
+        indexes = @Index(name = "download_job_state_next_attempt",
+                columnList = "state, next_attempt"),
+        uniqueConstraints = @UniqueConstraint(name = "download_job_artifact_key",
+                columnNames = "artifact"))
+public class DownloadJob implements Serializable {
+
+    /**
+     * Serial version uid.
+     **/
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The states of a download job.
+     */
+    public enum State {
+        /**
+         * The job waits for its next attempt.
+         */
+        QUEUED,
+
+        /**
+         * The job is run by a worker.
+         */
+        RUNNING,
+
+        /**
+         * All attempts of the job have failed.
+         */
+        FAILED
+    }
+
+    /**
+     * The primary key.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @SuppressWarnings("PMD.ShortVariable")
+    private Long id;
+
+    /**
+     * The provider connector the data is requested from.
+     */
+    @Convert(converter = UriConverter.class)
+    @Column(name = "recipient", length = URI_COLUMN_LENGTH, nullable = false)
+    private URI recipient;
+
+    /**
+     * The remote id of the artifact.
+     */
+    @Convert(converter = UriConverter.class)
+    @Column(name = "artifact", length = URI_COLUMN_LENGTH, nullable = false)
+    private URI artifact;
+
+    /**
+     * The remote id of the agreement allowing the transfer.
+     */
+    @Convert(converter = UriConverter.class)
+    @Column(name = "transfer_contract", length = URI_COLUMN_LENGTH)
+    private URI transferContract;
+
+    /**
+     * The state of the job.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "state", length = 16, nullable = false)
+    private State state;
+
+    /**
+     * The number of failed attempts.
+     */
+    @Column(name = "attempts")
+    private int attempts;
+
+    /**
+     * The earliest time of the next attempt.
+     */
+    @Column(name = "next_attempt", nullable = false)
+    private ZonedDateTime nextAttempt;
+
+    /**
+     * The reason of the last failed attempt.
+     */
+    @Column(name = "last_error", length = 1024)
+    private String lastError;
+
+    /**
+     * The connector instance running the job. Null if the job is not running.
+     */
+    @Column(name = "lease_owner", length = 64)
+    private String owner;
+
+    /**
+     * The time until which the owner holds the running job. Renewed while the job is running.
+     */
+    @Column(name = "lease_expiry")
+    private ZonedDateTime leaseExpiry;
+
+    /**
+     * The time the job has been created.
+     */
+    @Column(name = "creation_date", nullable = false)
+    private ZonedDateTime creationDate;
+
+    /**
+     * Constructor for a new job that can run immediately.
+     *
+     * @param recipient        The provider connector.
+     * @param artifact         The remote id of the artifact.
+     * @param transferContract The remote id of the agreement allowing the transfer.
+     * @param now              The current time.
+     */
+    public DownloadJob(final URI recipient, final URI artifact, final URI transferContract,
+                       final ZonedDateTime now) {
+        this.recipient = recipient;
+        this.artifact = artifact;
+        this.transferContract = transferContract;
+        this.state = State.QUEUED;
+        this.nextAttempt = now;
+        this.creationDate = now;
+    }
+}
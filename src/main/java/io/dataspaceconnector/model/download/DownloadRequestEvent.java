@@ -0,0 +1,48 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.model.download;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.net.URI;
+
+/**
+ * Published when the data of an artifact should be downloaded in the background.
+ */
+@Getter
+@AllArgsConstructor
+public class DownloadRequestEvent {
+
+    /**
+     * The provider connector.
+     */
+    private final URI recipient;
+
+    /**
+     * The remote id of the artifact.
+     */
+    private final URI artifact;
+
+    /**
+     * The remote id of the agreement allowing the transfer.
+     */
+    private final URI transferContract;
+}
@@ -16,6 +16,7 @@
 package io.dataspaceconnector.repository;
 
 import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.model.artifact.ArtifactImpl;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -23,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -47,6 +49,18 @@ public interface ArtifactRepository extends RemoteEntityRepository<Artifact> {
             + "AND o.deleted = false")
     List<Artifact> findAllByResourceId(UUID resourceId);
 
+    /**
+     * Finds an artifact and loads its data in the same query.
+     *
+     * @param artifactId The artifact's id.
+     * @return The artifact with its data, if it exists.
+     */
+    @Query("SELECT a "
+            + "FROM ArtifactImpl a LEFT JOIN FETCH a.data "
+            + "WHERE a.id = :artifactId "
+            + "AND a.deleted = false")
+    Optional<ArtifactImpl> findWithDataById(UUID artifactId);
+
     /**
      * Finds all artifacts referenced in a specific agreement.
      *
@@ -77,6 +91,19 @@ public interface ArtifactRepository extends RemoteEntityRepository<Artifact> {
             + "AND ag MEMBER OF a.agreements")
     List<URI> findRemoteOriginAgreements(UUID artifactId);
 
+    /**
+     * Check whether the data of an artifact is stored locally, without loading the data.
+     *
+     * @param artifactId The artifact's id.
+     * @return True if the artifact exists and holds local data.
+     */
+    @Query("SELECT CASE WHEN COUNT(a) > 0 THEN true ELSE false END "
+            + "FROM ArtifactImpl a JOIN a.data d "
+            + "WHERE a.id = :artifactId "
+            + "AND TYPE(d) = LocalData "
+            + "AND a.deleted = false")
+    boolean hasLocalData(UUID artifactId);
+
     /**
      * Set the artifacts data.
      *
@@ -92,6 +119,35 @@ public interface ArtifactRepository extends RemoteEntityRepository<Artifact> {
             + "AND a.deleted = false")
     void setArtifactData(UUID artifactId, long checkSum, long size);
 
+    /**
+     * Increment the access counter of an artifact, as long as the counter is below the given
+     * maximum. The check and the update are executed atomically.
+     *
+     * @param artifactId The artifact.
+     * @param maxAccess  The maximum number of accesses.
+     * @return The number of updated artifacts. 0 if the maximum has already been reached.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Artifact a "
+            + "SET a.numAccessed = a.numAccessed + 1 "
+            + "WHERE a.id = :artifactId "
+            + "AND a.deleted = false "
+            + "AND a.numAccessed < :maxAccess")
+    int incrementAccessCounter(UUID artifactId, long maxAccess);
+
+    /**
+     * Get the access counter of an artifact without loading the artifact.
+     *
+     * @param artifactId The artifact.
+     * @return The number of accesses, empty if the artifact does not exist.
+     */
+    @Query("SELECT a.numAccessed "
+            + "FROM Artifact a "
+            + "WHERE a.id = :artifactId "
+            + "AND a.deleted = false")
+    Optional<Long> findNumAccessed(UUID artifactId);
+
     /**
      * Finds all artifacts with a specific bootstrap ID.
      *
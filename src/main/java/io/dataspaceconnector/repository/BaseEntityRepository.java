@@ -19,6 +19,7 @@ import io.dataspaceconnector.model.base.Entity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -28,4 +29,11 @@ import java.util.UUID;
  */
 @NoRepositoryBean
 public interface BaseEntityRepository<T extends Entity> extends JpaRepository<T, UUID> {
+    /**
+     * Count the entities with the given ids.
+     *
+     * @param ids The ids of the entities.
+     * @return The number of entities found.
+     */
+    long countByIdIn(Collection<UUID> ids);
 }
@@ -16,11 +16,26 @@
 package io.dataspaceconnector.repository;
 
 import io.dataspaceconnector.model.catalog.Catalog;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.net.URI;
+
 /**
  * The repository containing all objects of type {@link Catalog}.
  */
 @Repository
 public interface CatalogRepository extends BaseEntityRepository<Catalog> {
+
+    /**
+     * Check whether a catalog with the given bootstrap id exists, without loading any catalog.
+     *
+     * @param bootstrapId The bootstrap id.
+     * @return True if a catalog with this bootstrap id exists.
+     */
+    @Query("SELECT CASE WHEN COUNT(c) > 0 THEN true ELSE false END "
+            + "FROM Catalog c "
+            + "WHERE c.bootstrapId = :bootstrapId "
+            + "AND c.deleted = false")
+    boolean existsByBootstrapId(URI bootstrapId);
 }
@@ -28,7 +28,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Repository
 public interface DataRepository extends JpaRepository<Data, Long> {
     /**
-     * Set new local data for an entity.
+     * Set new local data for an entity. Any reference to an external storage is removed.
      *
      * @param entityId The entity id.
      * @param data     The new data.
@@ -36,10 +36,35 @@ public interface DataRepository extends JpaRepository<Data, Long> {
     @Transactional
     @Modifying
     @Query("UPDATE LocalData a "
-            + "SET a.value = :data "
+            + "SET a.value = :data, a.storageKey = null "
             + "WHERE a.id = :entityId")
     void setLocalData(Long entityId, byte[] data);
 
+    /**
+     * Set a reference to data kept in an external storage for an entity. The data stored in the
+     * database is removed.
+     *
+     * @param entityId   The entity id.
+     * @param storageKey The key of the data in the external storage.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE LocalData a "
+            + "SET a.value = null, a.storageKey = :storageKey "
+            + "WHERE a.id = :entityId")
+    void setLocalDataReference(Long entityId, String storageKey);
+
+    /**
+     * Count the local data entities referencing a key in an external storage.
+     *
+     * @param storageKey The key of the data in the external storage.
+     * @return The number of local data entities referencing the key.
+     */
+    @Query("SELECT COUNT(a) "
+            + "FROM LocalData a "
+            + "WHERE a.storageKey = :storageKey")
+    long countByStorageKey(String storageKey);
+
     /**
      * Removes a RemoteData object from the database.
      *
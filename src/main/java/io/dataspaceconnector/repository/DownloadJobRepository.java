@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.repository;
+
+import io.dataspaceconnector.model.download.DownloadJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * The repository containing all objects of type {@link DownloadJob}.
+ */
+@Repository
+public interface DownloadJobRepository extends JpaRepository<DownloadJob, Long> {
+
+    /**
+     * Find the jobs in a state whose next attempt is due, the longest waiting first.
+     *
+     * @param state    The state.
+     * @param now      The current time.
+     * @param pageable The maximum number of jobs.
+     * @return The due jobs.
+     */
+    List<DownloadJob> findByStateAndNextAttemptLessThanEqualOrderByNextAttempt(
+            DownloadJob.State state, ZonedDateTime now, Pageable pageable);
+
+    /**
+     * Claim a job for a connector instance, if it is in the expected state. The check and the
+     * update are executed atomically, so only one worker can claim a queued job, even if several
+     * connectors share the database.
+     *
+     * @param jobId       The id of the job.
+     * @param from        The expected state.
+     * @param to          The new state.
+     * @param owner       The id of the connector instance.
+     * @param leaseExpiry The time until which the instance holds the job.
+     * @return The number of updated jobs. 0 if the job is not in the expected state.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DownloadJob j "
+            + "SET j.state = :to, j.owner = :owner, j.leaseExpiry = :leaseExpiry "
+            + "WHERE j.id = :jobId "
+            + "AND j.state = :from")
+    int claim(Long jobId, DownloadJob.State from, DownloadJob.State to, String owner,
+              ZonedDateTime leaseExpiry);
+
+    /**
+     * Extend the lease of all jobs in a state held by a connector instance.
+     *
+     * @param owner       The id of the connector instance.
+     * @param state       The state.
+     * @param leaseExpiry The new end of the lease.
+     * @return The number of updated jobs.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DownloadJob j "
+            + "SET j.leaseExpiry = :leaseExpiry "
+            + "WHERE j.owner = :owner "
+            + "AND j.state = :state")
+    int renewLeases(String owner, DownloadJob.State state, ZonedDateTime leaseExpiry);
+
+    /**
+     * Release all jobs in a state whose lease has expired, e.g. because the connector instance
+     * running them has stopped.
+     *
+     * @param from The current state.
+     * @param to   The new state.
+     * @param now  The current time.
+     * @return The number of updated jobs.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DownloadJob j "
+            + "SET j.state = :to, j.owner = NULL, j.leaseExpiry = NULL "
+            + "WHERE j.state = :from "
+            + "AND j.leaseExpiry < :now")
+    int releaseExpired(DownloadJob.State from, DownloadJob.State to, ZonedDateTime now);
+
+    /**
+     * Release all jobs in a state held by a connector instance.
+     *
+     * @param from  The current state.
+     * @param to    The new state.
+     * @param owner The id of the connector instance.
+     * @return The number of updated jobs.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DownloadJob j "
+            + "SET j.state = :to, j.owner = NULL, j.leaseExpiry = NULL "
+            + "WHERE j.state = :from "
+            + "AND j.owner = :owner")
+    int releaseOwned(DownloadJob.State from, DownloadJob.State to, String owner);
+
+    /**
+     * Queue the job of an artifact again, if it is in the expected state. The attempts are
+     * reset.
+     *
+     * @param artifact The remote id of the artifact.
+     * @param from     The expected state.
+     * @param to       The new state.
+     * @param now      The current time.
+     * @return The number of updated jobs. 0 if there is no such job in the expected state.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE DownloadJob j "
+            + "SET j.state = :to, j.attempts = 0, j.nextAttempt = :now, j.lastError = NULL "
+            + "WHERE j.artifact = :artifact "
+            + "AND j.state = :from")
+    int requeue(URI artifact, DownloadJob.State from, DownloadJob.State to, ZonedDateTime now);
+
+    /**
+     * Count the jobs in a state.
+     *
+     * @param state The state.
+     * @return The number of jobs.
+     */
+    long countByState(DownloadJob.State state);
+}
@@ -20,6 +20,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -65,4 +66,16 @@ public interface SubscriptionRepository extends BaseEntityRepository<Subscriptio
             + "WHERE r.target = :target "
             + "AND r.deleted = false")
     List<Subscription> findAllByTarget(URI target);
+
+    /**
+     * Finds all subscriptions with one of the given target ids.
+     *
+     * @param targets The target ids.
+     * @return List of all matching subscriptions.
+     */
+    @Query("SELECT r "
+            + "FROM Subscription r "
+            + "WHERE r.target IN :targets "
+            + "AND r.deleted = false")
+    List<Subscription> findAllByTargetIn(Collection<URI> targets);
 }
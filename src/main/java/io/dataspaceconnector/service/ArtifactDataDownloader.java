@@ -55,6 +55,16 @@ public class ArtifactDataDownloader {
      */
     private final @NonNull EntityPersistenceService persistenceSvc;
 
+    /**
+     * Executes the artifact requests concurrently.
+     */
+    private final @NonNull DownloadExecutor executor;
+
+    /**
+     * Downloads artifact data in the background.
+     */
+    private final @NonNull DownloadQueue downloadQueue;
+
     /**
      * Download artifact data.
      *
@@ -67,24 +77,57 @@ public class ArtifactDataDownloader {
      */
     public void download(final URI recipient, final List<URI> artifacts, final UUID agreementId)
             throws UnexpectedResponseException, MessageResponseException, MessageException {
-        // Iterate over list of resource ids to send artifact request messages for each.
-        for (final var artifact : artifacts) {
+        download(recipient, artifacts, agreementId, () -> { });
+    }
+
+    /**
+     * Download artifact data. The artifacts are requested concurrently.
+     *
+     * @param recipient   The provider connector.
+     * @param artifacts   The artifact whose data should be downloaded.
+     * @param agreementId The agreement allowing the transfer.
+     * @param progress    Called after the data of an artifact has been received.
+     * @throws UnexpectedResponseException if the response type is not as expected.
+     * @throws MessageResponseException    if the response is invalid.
+     * @throws MessageException            if message handling failed.
+     */
+    public void download(final URI recipient, final List<URI> artifacts, final UUID agreementId,
+                         final Runnable progress)
+            throws UnexpectedResponseException, MessageResponseException, MessageException {
+        final var transferContract = agreementService.get(agreementId).getRemoteId();
+
+        // Send artifact request messages for all artifacts.
+        executor.forEach(recipient, artifacts, artifact -> {
             // Send and validate artifact request/response message.
             final var response = artifactReqSvc.sendMessage(recipient, artifact,
-                    agreementService.get(agreementId).getRemoteId());
+                    transferContract);
 
             // Read and process the response message.
             try {
                 persistenceSvc.saveData(response, artifact);
             } catch (IOException | ResourceNotFoundException | MessageResponseException
                     | IllegalArgumentException e) {
-                // Note: Ignore that the data saving failed. Another try can take place later.
+                // Note: Ignore that the data saving failed. Another try takes place later.
                 if (log.isWarnEnabled()) {
-                    log.warn("Could not save data for artifact. [artifact=({}), "
-                            + "exception=({})]", artifact, e.getMessage(), e);
+                    log.warn("Could not save data for artifact. Retrying in the background. "
+                            + "[artifact=({}), exception=({})]", artifact, e.getMessage(), e);
                 }
+                downloadQueue.enqueue(recipient, artifact, transferContract);
             }
-        }
+            progress.run();
+        });
+    }
+
+    /**
+     * Queue the download of artifact data, so it takes place in the background.
+     *
+     * @param recipient   The provider connector.
+     * @param artifacts   The artifact whose data should be downloaded.
+     * @param agreementId The agreement allowing the transfer.
+     */
+    public void enqueue(final URI recipient, final List<URI> artifacts, final UUID agreementId) {
+        final var transferContract = agreementService.get(agreementId).getRemoteId();
+        downloadQueue.enqueue(recipient, artifacts, transferContract);
     }
 
     /**
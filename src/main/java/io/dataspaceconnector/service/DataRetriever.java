@@ -27,15 +27,16 @@ import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.RouteDataRetriever;
 import io.dataspaceconnector.common.routing.dataretrieval.DataRetrievalService;
+import io.dataspaceconnector.extension.telemetry.TelemetrySpan;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
 import io.dataspaceconnector.model.artifact.LocalData;
 import io.dataspaceconnector.model.artifact.RemoteData;
+import io.dataspaceconnector.service.storage.LocalDataStorage;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
@@ -64,6 +65,11 @@ public class DataRetriever {
      */
     private final @NonNull ApiReferenceHelper apiReferenceHelper;
 
+    /**
+     * Storage backend for local data.
+     */
+    private final @NonNull LocalDataStorage localDataStorage;
+
     /**
      * Retrieves the data for an artifact using the specified query input.
      *
@@ -72,6 +78,7 @@ public class DataRetriever {
      * @return The data.
      * @throws IOException if the data cannot be retrieved.
      */
+    @TelemetrySpan
     public InputStream retrieveData(final ArtifactImpl artifact, final QueryInput queryInput)
             throws IOException {
         return getDataFromInternalDB(artifact, queryInput);
@@ -109,17 +116,10 @@ public class DataRetriever {
      *
      * @param data The data container.
      * @return The stored data.
+     * @throws IOException if the data cannot be read from the storage.
      */
-    private InputStream getData(final LocalData data) {
-        return toInputStream(data.getValue());
-    }
-
-    private InputStream toInputStream(final byte[] data) {
-        if (data == null) {
-            return ByteArrayInputStream.nullInputStream();
-        } else {
-            return new ByteArrayInputStream(data);
-        }
+    private InputStream getData(final LocalData data) throws IOException {
+        return localDataStorage.read(data);
     }
 
     /**
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.exception.MessageException;
+import io.dataspaceconnector.common.exception.UnexpectedResponseException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Sends the requests of a download to another connector concurrently. The workers are shared by
+ * all downloads, while the number of requests running at the same time is limited per recipient,
+ * so a single download cannot overload the provider. If all workers are busy and their queue is
+ * full, the calling thread sends the request itself.
+ */
+@Component
+public class DownloadExecutor implements DisposableBean {
+
+    /**
+     * The workers sending the requests.
+     */
+    private final ThreadPoolTaskExecutor executor;
+
+    /**
+     * The maximum number of requests running at the same time per recipient.
+     */
+    private final int maxPerRecipient;
+
+    /**
+     * The permits for running requests per recipient. Weakly referenced, so the permits of a
+     * recipient are dropped once no download is running for it.
+     */
+    private final Cache<URI, Semaphore> permits = Caffeine.newBuilder().weakValues().build();
+
+    /**
+     * Constructor.
+     *
+     * @param poolSize        The number of workers sending requests.
+     * @param maxPerRecipient The maximum number of requests running at the same time per
+     *                        recipient.
+     * @param queueCapacity   The maximum number of requests waiting for a worker.
+     */
+    public DownloadExecutor(
+            @Value("${ids.download.pool-size:16}") final int poolSize,
+            @Value("${ids.download.max-per-recipient:4}") final int maxPerRecipient,
+            @Value("${ids.download.queue-capacity:256}") final int queueCapacity) {
+        this.maxPerRecipient = maxPerRecipient;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setRejectedExecutionHandler((runnable, pool) -> {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("The download workers have been stopped.");
+            }
+            runnable.run();
+        });
+        this.executor.setThreadNamePrefix("ids-download-");
+        this.executor.initialize();
+    }
+
+    /**
+     * Run a task for each item and wait until all tasks are completed. After the first failed
+     * task, the tasks that have not been started yet are skipped and the failure is rethrown.
+     *
+     * @param recipient The recipient the tasks send requests to.
+     * @param items     The items.
+     * @param task      The task run for each item.
+     * @param <T>       The type of the items.
+     * @throws UnexpectedResponseException if a task received an unexpected response.
+     * @throws MessageException            if the calling thread has been interrupted.
+     */
+    public <T> void forEach(final URI recipient, final Collection<T> items,
+                            final Task<T> task) throws UnexpectedResponseException {
+        if (items.size() <= 1) {
+            for (final var item : items) {
+                task.run(item);
+            }
+            return;
+        }
+
+        final var recipientPermits = permits.get(recipient, x -> new Semaphore(maxPerRecipient));
+        final var failure = new AtomicReference<Throwable>();
+        final var futures = new ArrayList<Future<?>>(items.size());
+        try {
+            for (final var item : items) {
+                recipientPermits.acquire();
+                if (failure.get() != null) {
+                    recipientPermits.release();
+                    break;
+                }
+
+                futures.add(submit(recipientPermits, failure, task, item));
+            }
+
+            for (final var future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure.compareAndSet(null, new MessageException(
+                    ErrorMessage.MESSAGE_HANDLING_FAILED, e));
+        } catch (ExecutionException e) {
+            failure.compareAndSet(null, e.getCause());
+        }
+
+        rethrow(failure.get());
+    }
+
+    @SuppressFBWarnings(
+            value = "REC_CATCH_EXCEPTION",
+            justification = "any failure of a task is passed to the calling thread"
+    )
+    private <T> Future<?> submit(final Semaphore recipientPermits,
+                                 final AtomicReference<Throwable> failure, final Task<T> task,
+                                 final T item) {
+        try {
+            return executor.submit(() -> {
+                try {
+                    if (failure.get() == null) {
+                        task.run(item);
+                    }
+                } catch (Exception | Error e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    recipientPermits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            recipientPermits.release();
+            throw e;
+        }
+    }
+
+    private static void rethrow(final Throwable failure) throws UnexpectedResponseException {
+        if (failure instanceof UnexpectedResponseException) {
+            throw (UnexpectedResponseException) failure;
+        } else if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        } else if (failure instanceof Error) {
+            throw (Error) failure;
+        } else if (failure != null) {
+            throw new MessageException(ErrorMessage.MESSAGE_HANDLING_FAILED, failure);
+        }
+    }
+
+    /**
+     * Stop the workers.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * A task run for a single item of a download.
+     *
+     * @param <T> The type of the item.
+     */
+    @FunctionalInterface
+    public interface Task<T> {
+        /**
+         * Run the task.
+         *
+         * @param item The item.
+         * @throws UnexpectedResponseException if the response type is not as expected.
+         */
+        void run(T item) throws UnexpectedResponseException;
+    }
+}
@@ -0,0 +1,504 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.dataspaceconnector.model.download.DownloadJob;
+import io.dataspaceconnector.model.download.DownloadRequestEvent;
+import io.dataspaceconnector.repository.DownloadJobRepository;
+import io.dataspaceconnector.service.message.builder.type.ArtifactRequestService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Downloads the data of artifacts in the background. The jobs are stored in the database, so
+ * they survive a restart of the connector. Failed downloads are retried with an exponential
+ * backoff and the number of downloads running at the same time is limited per provider. Running
+ * jobs are leased to the connector instance running them. Connectors sharing the database only
+ * take over jobs whose lease has not been renewed in time.
+ */
+@Log4j2
+@Component
+public class DownloadQueue implements DisposableBean {
+
+    /**
+     * The name of the gauges for the number of jobs. The state is added as tag.
+     */
+    public static final String QUEUE_GAUGE_NAME = "dsc.download.queue";
+
+    /**
+     * The name of the counter for finished attempts. The outcome is added as tag.
+     */
+    public static final String ATTEMPT_COUNTER_NAME = "dsc.download.attempts";
+
+    /**
+     * The maximum length of the stored failure reason.
+     */
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    /**
+     * Stores the jobs.
+     */
+    private final DownloadJobRepository jobRepo;
+
+    /**
+     * Service for artifact request message handling.
+     */
+    private final ArtifactRequestService artifactReqSvc;
+
+    /**
+     * Service for persisting the received data.
+     */
+    private final EntityPersistenceService persistenceSvc;
+
+    /**
+     * Stores new jobs in a transaction of their own, so a duplicate job does not affect the
+     * transaction of the caller.
+     */
+    private final TransactionTemplate enqueueTransaction;
+
+    /**
+     * The id of this connector instance, held by the jobs it runs.
+     */
+    private final String instanceId;
+
+    /**
+     * Looks for due jobs. Has a single thread, so due jobs are never claimed twice.
+     */
+    private final ThreadPoolTaskScheduler poller;
+
+    /**
+     * The workers running the downloads.
+     */
+    private final ThreadPoolTaskExecutor workers;
+
+    /**
+     * The free workers.
+     */
+    private final Semaphore freeWorkers;
+
+    /**
+     * The maximum number of downloads running at the same time per provider.
+     */
+    private final int maxPerProvider;
+
+    /**
+     * The maximum number of attempts per job.
+     */
+    private final int maxAttempts;
+
+    /**
+     * The delay before the first retry. Doubled with every further retry.
+     */
+    private final Duration backoff;
+
+    /**
+     * The delay between two looks for due jobs.
+     */
+    private final Duration pollInterval;
+
+    /**
+     * The time a running job is held by this instance without renewing the lease.
+     */
+    private final Duration lease;
+
+    /**
+     * The permits for running downloads per provider. Weakly referenced, so the permits of a
+     * provider are dropped once no download is running for it.
+     */
+    private final Cache<URI, Semaphore> permits = Caffeine.newBuilder().weakValues().build();
+
+    /**
+     * Whether a look for due jobs has been triggered and not started yet.
+     */
+    private final AtomicBoolean pollPending = new AtomicBoolean();
+
+    /**
+     * Counts the successful attempts.
+     */
+    private final Counter completed;
+
+    /**
+     * Counts the failed attempts that are retried.
+     */
+    private final Counter retried;
+
+    /**
+     * Counts the failed attempts that are not retried.
+     */
+    private final Counter failed;
+
+    /**
+     * Constructor.
+     *
+     * @param jobRepository      Stores the jobs.
+     * @param requestService     Sends the artifact requests.
+     * @param persistenceService Persists the received data.
+     * @param transactionManager The transaction manager.
+     * @param meterRegistry      Registry for the metrics, if available.
+     * @param poolSize           The number of workers.
+     * @param maxPerProvider     The maximum number of downloads running at the same time per
+     *                           provider.
+     * @param maxAttempts        The maximum number of attempts per job.
+     * @param backoff            The delay before the first retry.
+     * @param pollInterval       The delay between two looks for due jobs.
+     * @param lease              The time a running job is held without renewing the lease.
+     * @param instanceId         The id of this connector instance. Generated if blank.
+     */
+    public DownloadQueue(
+            final DownloadJobRepository jobRepository,
+            final ArtifactRequestService requestService,
+            final EntityPersistenceService persistenceService,
+            final PlatformTransactionManager transactionManager,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${download.queue.pool-size:4}") final int poolSize,
+            @Value("${download.queue.max-per-provider:2}") final int maxPerProvider,
+            @Value("${download.queue.max-attempts:5}") final int maxAttempts,
+            @Value("${download.queue.backoff:30s}") final Duration backoff,
+            @Value("${download.queue.poll-interval:10s}") final Duration pollInterval,
+            @Value("${download.queue.lease:2m}") final Duration lease,
+            @Value("${download.queue.instance-id:}") final String instanceId) {
+        this.jobRepo = jobRepository;
+        this.artifactReqSvc = requestService;
+        this.persistenceSvc = persistenceService;
+        this.enqueueTransaction = new TransactionTemplate(transactionManager);
+        this.enqueueTransaction.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.instanceId = instanceId.isBlank() ? UUID.randomUUID().toString() : instanceId;
+        this.lease = lease;
+        this.maxPerProvider = maxPerProvider;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.pollInterval = pollInterval;
+        this.freeWorkers = new Semaphore(poolSize);
+
+        this.poller = new ThreadPoolTaskScheduler();
+        this.poller.setPoolSize(1);
+        this.poller.setThreadNamePrefix("download-queue-");
+        this.poller.initialize();
+
+        this.workers = new ThreadPoolTaskExecutor();
+        this.workers.setCorePoolSize(poolSize);
+        this.workers.setThreadNamePrefix("download-");
+        this.workers.initialize();
+
+        final var registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Gauge.builder(QUEUE_GAUGE_NAME, jobRepo,
+                            x -> x.countByState(DownloadJob.State.QUEUED))
+                    .description("Number of queued artifact downloads.")
+                    .tag("state", "queued")
+                    .register(registry);
+            Gauge.builder(QUEUE_GAUGE_NAME, freeWorkers,
+                            x -> poolSize - x.availablePermits())
+                    .description("Number of running artifact downloads.")
+                    .tag("state", "running")
+                    .register(registry);
+            Gauge.builder(QUEUE_GAUGE_NAME, jobRepo,
+                            x -> x.countByState(DownloadJob.State.FAILED))
+                    .description("Number of artifact downloads that failed finally.")
+                    .tag("state", "failed")
+                    .register(registry);
+        }
+
+        this.completed = counter(registry, "completed");
+        this.retried = counter(registry, "retried");
+        this.failed = counter(registry, "failed");
+    }
+
+    private static Counter counter(final MeterRegistry registry, final String outcome) {
+        if (registry == null) {
+            return null;
+        }
+
+        return Counter.builder(ATTEMPT_COUNTER_NAME)
+                .description("Finished attempts of artifact downloads.")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    /**
+     * Queue the jobs interrupted by the last shutdown of this instance and the jobs of stopped
+     * instances again, and start looking for due jobs.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        final var interrupted = jobRepo.releaseOwned(DownloadJob.State.RUNNING,
+                DownloadJob.State.QUEUED, instanceId);
+        if (interrupted > 0 && log.isInfoEnabled()) {
+            log.info("Resuming interrupted artifact downloads. [count=({})]", interrupted);
+        }
+
+        poller.scheduleWithFixedDelay(this::renewLeases, lease.dividedBy(3));
+        poller.scheduleWithFixedDelay(this::poll, pollInterval);
+    }
+
+    /**
+     * Queue the download of the data of an artifact. Nothing happens if a download of the
+     * artifact is already queued or running. A finally failed download is queued again.
+     *
+     * @param recipient        The provider connector.
+     * @param artifact         The remote id of the artifact.
+     * @param transferContract The remote id of the agreement allowing the transfer.
+     */
+    public void enqueue(final URI recipient, final URI artifact, final URI transferContract) {
+        try {
+            enqueueTransaction.executeWithoutResult(x -> {
+                if (jobRepo.requeue(artifact, DownloadJob.State.FAILED,
+                        DownloadJob.State.QUEUED, now()) == 0) {
+                    jobRepo.saveAndFlush(new DownloadJob(recipient, artifact, transferContract,
+                            now()));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // The unique artifact of the jobs prevents duplicates of concurrent requests.
+            if (log.isDebugEnabled()) {
+                log.debug("Download already queued. [artifact=({})]", artifact);
+            }
+            return;
+        }
+
+        triggerPoll();
+    }
+
+    /**
+     * Queue the downloads of the data of several artifacts.
+     *
+     * @param recipient        The provider connector.
+     * @param artifacts        The remote ids of the artifacts.
+     * @param transferContract The remote id of the agreement allowing the transfer.
+     */
+    public void enqueue(final URI recipient, final List<URI> artifacts,
+                        final URI transferContract) {
+        for (final var artifact : artifacts) {
+            enqueue(recipient, artifact, transferContract);
+        }
+    }
+
+    /**
+     * Queue a download requested by another service.
+     *
+     * @param event The requested download.
+     */
+    @EventListener
+    public void onDownloadRequest(final DownloadRequestEvent event) {
+        try {
+            enqueue(event.getRecipient(), event.getArtifact(), event.getTransferContract());
+        } catch (RuntimeException e) {
+            // Must not hide the failure that caused the request.
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to queue artifact download. [artifact=({}), exception=({})]",
+                        event.getArtifact(), e.getMessage());
+            }
+        }
+    }
+
+    private void triggerPoll() {
+        if (pollPending.compareAndSet(false, true)) {
+            try {
+                poller.execute(this::poll);
+            } catch (TaskRejectedException e) {
+                // The connector is shutting down. The job is picked up after the restart.
+                pollPending.set(false);
+            }
+        }
+    }
+
+    /**
+     * Claim due jobs and hand them to the workers, as long as workers are free and the limit of
+     * the provider has not been reached.
+     */
+    @SuppressFBWarnings(
+            value = "REC_CATCH_EXCEPTION",
+            justification = "the poller must survive failures of the database"
+    )
+    private void poll() {
+        pollPending.set(false);
+        try {
+            final var abandoned = jobRepo.releaseExpired(DownloadJob.State.RUNNING,
+                    DownloadJob.State.QUEUED, now());
+            if (abandoned > 0 && log.isInfoEnabled()) {
+                log.info("Resuming artifact downloads of stopped connectors. [count=({})]",
+                        abandoned);
+            }
+
+            final var capacity = freeWorkers.availablePermits();
+            if (capacity == 0) {
+                return;
+            }
+
+            // Fetch more jobs than free workers, since the jobs of busy providers are skipped.
+            final var due = jobRepo.findByStateAndNextAttemptLessThanEqualOrderByNextAttempt(
+                    DownloadJob.State.QUEUED, now(), PageRequest.of(0, capacity * 2));
+            for (final var job : due) {
+                if (!freeWorkers.tryAcquire()) {
+                    return;
+                }
+
+                final var providerPermits = permits.get(job.getRecipient(),
+                        x -> new Semaphore(maxPerProvider));
+                if (!providerPermits.tryAcquire()) {
+                    freeWorkers.release();
+                    continue;
+                }
+
+                if (jobRepo.claim(job.getId(), DownloadJob.State.QUEUED,
+                        DownloadJob.State.RUNNING, instanceId, now().plus(lease)) == 0) {
+                    // Claimed by another connector sharing the database.
+                    providerPermits.release();
+                    freeWorkers.release();
+                    continue;
+                }
+
+                workers.execute(() -> run(job, providerPermits));
+            }
+        } catch (Exception e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to look for due artifact downloads. [exception=({})]",
+                        e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Extend the lease of the jobs run by this instance, so that no other connector sharing the
+     * database takes them over.
+     */
+    private void renewLeases() {
+        try {
+            jobRepo.renewLeases(instanceId, DownloadJob.State.RUNNING, now().plus(lease));
+        } catch (RuntimeException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to renew leases of artifact downloads. [exception=({})]",
+                        e.getMessage());
+            }
+        }
+    }
+
+    @SuppressFBWarnings(
+            value = "REC_CATCH_EXCEPTION",
+            justification = "failures of any kind are retried"
+    )
+    private void run(final DownloadJob job, final Semaphore providerPermits) {
+        try {
+            final var response = artifactReqSvc.sendMessage(job.getRecipient(),
+                    job.getArtifact(), job.getTransferContract());
+            persistenceSvc.saveData(response, job.getArtifact());
+
+            jobRepo.deleteById(job.getId());
+            increment(completed);
+            if (log.isDebugEnabled()) {
+                log.debug("Downloaded artifact data. [artifact=({}), attempt=({})]",
+                        job.getArtifact(), job.getAttempts() + 1);
+            }
+        } catch (Exception e) {
+            retryLater(job, e);
+        } finally {
+            providerPermits.release();
+            freeWorkers.release();
+            triggerPoll();
+        }
+    }
+
+    private void retryLater(final DownloadJob job, final Exception failure) {
+        final var attempt = job.getAttempts() + 1;
+        final var reason = String.valueOf(failure.getMessage());
+        job.setAttempts(attempt);
+        job.setOwner(null);
+        job.setLeaseExpiry(null);
+        job.setLastError(reason.length() > MAX_ERROR_LENGTH
+                ? reason.substring(0, MAX_ERROR_LENGTH) : reason);
+
+        if (attempt < maxAttempts) {
+            final var delay = backoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+            job.setState(DownloadJob.State.QUEUED);
+            job.setNextAttempt(now().plus(delay));
+            increment(retried);
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to download artifact data. Retrying. [artifact=({}), "
+                        + "attempt=({}), delay=({})]", job.getArtifact(), attempt, delay);
+            }
+        } else {
+            job.setState(DownloadJob.State.FAILED);
+            increment(failed);
+            if (log.isWarnEnabled()) {
+                log.warn("Could not download artifact data. [artifact=({}), attempts=({}), "
+                        + "exception=({})]", job.getArtifact(), attempt, reason);
+            }
+        }
+
+        try {
+            jobRepo.save(job);
+        } catch (RuntimeException e) {
+            // The job is queued again once its lease has expired.
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to update artifact download. [artifact=({}), "
+                        + "exception=({})]", job.getArtifact(), e.getMessage());
+            }
+        }
+    }
+
+    private static void increment(final Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    private static ZonedDateTime now() {
+        return ZonedDateTime.now(ZoneOffset.UTC);
+    }
+
+    /**
+     * Stop looking for due jobs and stop the workers. Running downloads are resumed after the
+     * next start.
+     */
+    @Override
+    public void destroy() {
+        poller.shutdown();
+        workers.shutdown();
+    }
+}
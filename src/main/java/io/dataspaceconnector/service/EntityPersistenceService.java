@@ -31,6 +31,7 @@ import io.dataspaceconnector.common.ids.message.MessageUtils;
 import io.dataspaceconnector.common.ids.model.TemplateUtils;
 import io.dataspaceconnector.common.net.EndpointUtils;
 import io.dataspaceconnector.controller.resource.type.AgreementController;
+import io.dataspaceconnector.extension.telemetry.TelemetrySpan;
 import io.dataspaceconnector.model.agreement.AgreementDesc;
 import io.dataspaceconnector.model.app.App;
 import io.dataspaceconnector.model.appstore.AppStore;
@@ -45,7 +46,6 @@ import io.dataspaceconnector.service.usagecontrol.ContractManager;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.jose4j.base64url.Base64;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -161,6 +161,7 @@ public class EntityPersistenceService {
      * @throws PersistenceException If the contract agreement could not be saved.
      */
     @SuppressFBWarnings("REC_CATCH_EXCEPTION")
+    @TelemetrySpan
     public ContractAgreement buildAndSaveContractAgreement(
             final ContractRequest request, final List<URI> targetList, final URI issuer)
             throws PersistenceException {
@@ -242,6 +243,7 @@ public class EntityPersistenceService {
      * @param download     Indicated whether the artifact is going to be downloaded automatically.
      * @param remoteUrl    The provider's url for receiving artifact request messages.
      */
+    @TelemetrySpan
     public void saveMetadata(final Map<String, String> response, final List<URI> artifactList,
                              final boolean download, final URI remoteUrl)
             throws PersistenceException, IllegalArgumentException {
@@ -275,6 +277,7 @@ public class EntityPersistenceService {
      * @param appStore  The app store from which the app is downloaded.
      * @return The AppResource's artifact id.
      */
+    @TelemetrySpan
     public URI saveAppMetadata(final Map<String, String> response, final URI remoteUrl,
                                final Optional<AppStore> appStore)
             throws PersistenceException, IllegalArgumentException {
@@ -352,7 +355,7 @@ public class EntityPersistenceService {
         }
 
         final var artifact = artifactSvc.get(artifactId.get());
-        artifactSvc.setData(artifact.getId(), new ByteArrayInputStream(Base64.decode(base64Data)));
+        artifactSvc.setData(artifact.getId(), MessageUtils.decodeDataPayload(base64Data)).close();
         if (log.isDebugEnabled()) {
             log.debug("Updated data from artifact. [target=({})]", artifactId);
         }
@@ -37,7 +37,7 @@ import io.dataspaceconnector.model.resource.OfferedResourceDesc;
 import io.dataspaceconnector.model.resource.RequestedResource;
 import io.dataspaceconnector.model.resource.RequestedResourceDesc;
 import io.dataspaceconnector.model.rule.ContractRule;
-import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.service.resource.ids.IdsDescriptionCache;
 import io.dataspaceconnector.service.resource.ids.builder.IdsArtifactBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsContractBuilder;
@@ -50,6 +50,8 @@ import io.dataspaceconnector.service.resource.type.ContractService;
 import io.dataspaceconnector.service.resource.type.RepresentationService;
 import io.dataspaceconnector.service.resource.type.ResourceService;
 import io.dataspaceconnector.service.resource.type.RuleService;
+import io.dataspaceconnector.service.usagecontrol.AgreementCache;
+import io.dataspaceconnector.service.usagecontrol.CachedAgreement;
 import io.dataspaceconnector.common.usagecontrol.AllowAccessVerifier;
 import io.dataspaceconnector.config.BasePath;
 import io.dataspaceconnector.common.net.EndpointUtils;
@@ -150,9 +152,14 @@ public class EntityResolver {
     private final @NonNull ArtifactRetriever artifactReceiver;
 
     /**
-     * Service for deserialization.
+     * Cache for deserialized contract agreements.
      */
-    private final @NonNull DeserializationService deserializationService;
+    private final @NonNull AgreementCache agreementCache;
+
+    /**
+     * Cache for serialized ids descriptions.
+     */
+    private final @NonNull IdsDescriptionCache descriptionCache;
 
     /**
      * Return any connector entity by its id.
@@ -207,20 +214,30 @@ public class EntityResolver {
         // NOTE Maybe the builder class could be found without the ugly if array?
         try {
             if (entity instanceof Artifact artifactEntity) {
-                final var artifact = artifactBuilder.create(artifactEntity);
-                return RdfConverter.toRdf(Objects.requireNonNull(artifact));
+                return descriptionCache.get(entity, () -> {
+                    final var artifact = artifactBuilder.create(artifactEntity);
+                    return RdfConverter.toRdf(Objects.requireNonNull(artifact));
+                });
             } else if (entity instanceof OfferedResource offeredResource) {
-                final var resource = offerBuilder.create(offeredResource);
-                return RdfConverter.toRdf(Objects.requireNonNull(resource));
+                return descriptionCache.get(entity, () -> {
+                    final var resource = offerBuilder.create(offeredResource);
+                    return RdfConverter.toRdf(Objects.requireNonNull(resource));
+                });
             } else if (entity instanceof Representation representationEntity) {
-                final var representation = representationBuilder.create(representationEntity);
-                return RdfConverter.toRdf(Objects.requireNonNull(representation));
+                return descriptionCache.get(entity, () -> {
+                    final var representation = representationBuilder.create(representationEntity);
+                    return RdfConverter.toRdf(Objects.requireNonNull(representation));
+                });
             } else if (entity instanceof Catalog catalogEntity) {
-                final var catalog = catalogBuilder.create(catalogEntity);
-                return RdfConverter.toRdf(Objects.requireNonNull(catalog));
+                return descriptionCache.get(entity, () -> {
+                    final var catalog = catalogBuilder.create(catalogEntity);
+                    return RdfConverter.toRdf(Objects.requireNonNull(catalog));
+                });
             } else if (entity instanceof Contract contract) {
-                final var contractOffer = contractBuilder.create(contract);
-                return RdfConverter.toRdf(Objects.requireNonNull(contractOffer));
+                return descriptionCache.get(entity, () -> {
+                    final var contractOffer = contractBuilder.create(contract);
+                    return RdfConverter.toRdf(Objects.requireNonNull(contractOffer));
+                });
             } else if (entity instanceof Agreement agreement) {
                 return agreement.getValue();
             } else if (entity instanceof ContractRule contractRule) {
@@ -265,15 +282,27 @@ public class EntityResolver {
      * @return The respective contract agreement.
      */
     public List<ContractAgreement> getContractAgreementsByTarget(final URI target) {
+        final var agreementList = new ArrayList<ContractAgreement>();
+        for (final var agreement : getCachedAgreementsByTarget(target)) {
+            agreementList.add(agreement.getContractAgreement());
+        }
+        return agreementList;
+    }
+
+    /**
+     * Get the deserialized contract agreements, including their rules, for requested element.
+     *
+     * @param target The requested element.
+     * @return The respective contract agreements.
+     */
+    public List<CachedAgreement> getCachedAgreementsByTarget(final URI target) {
         final var uuid = EndpointUtils.getUUIDFromPath(target);
         final var artifact = artifactService.get(uuid);
 
         final var agreements = artifact.getAgreements();
-        final var agreementList = new ArrayList<ContractAgreement>();
+        final var agreementList = new ArrayList<CachedAgreement>();
         for (final var agreement : agreements) {
-            final var value = agreement.getValue();
-            final var idsAgreement = deserializationService.getContractAgreement(value);
-            agreementList.add(idsAgreement);
+            agreementList.add(agreementCache.get(agreement));
         }
         return agreementList;
     }
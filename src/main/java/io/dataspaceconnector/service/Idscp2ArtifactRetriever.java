@@ -15,11 +15,11 @@
  */
 package io.dataspaceconnector.service;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.UUID;
 
+import io.dataspaceconnector.common.ids.message.MessageUtils;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.ParameterUtils;
 import io.dataspaceconnector.service.message.handler.dto.Response;
@@ -31,7 +31,6 @@ import org.apache.camel.ProducerTemplate;
 import org.apache.camel.builder.ExchangeBuilder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.util.Base64Utils;
 
 /**
  * Performs an artifact request for an artifact via IDSCP2. All functions will block till the
@@ -84,7 +83,7 @@ public class Idscp2ArtifactRetriever implements ArtifactRetriever {
         final var response = result.getIn().getBody(Response.class);
         final var data = response.getBody();
 
-        return new ByteArrayInputStream(Base64Utils.decodeFromString(data));
+        return MessageUtils.decodeDataPayload(data);
     }
 
 }
@@ -27,7 +27,6 @@ import org.springframework.stereotype.Component;
 import javax.persistence.PersistenceException;
 import java.net.URI;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -47,6 +46,11 @@ public class MetadataDownloader {
      */
     private final @NonNull EntityPersistenceService persistenceSvc;
 
+    /**
+     * Executes the description requests concurrently.
+     */
+    private final @NonNull DownloadExecutor executor;
+
     /**
      * Download metadata from another connector.
      *
@@ -63,11 +67,32 @@ public class MetadataDownloader {
                          final List<URI> artifacts, final boolean download)
             throws UnexpectedResponseException, PersistenceException, MessageResponseException,
             MessageException {
-        Map<String, String> response;
-        for (final var resource : resources) {
-            response = descReqSvc.sendMessage(recipient, resource);
+        download(recipient, resources, artifacts, download, () -> { });
+    }
+
+    /**
+     * Download metadata from another connector. The resources are requested concurrently.
+     *
+     * @param recipient The recipient connector.
+     * @param resources The resources.
+     * @param artifacts The artifacts.
+     * @param download  If auto-downloading is enabled.
+     * @param progress  Called after the metadata of a resource has been stored.
+     * @throws UnexpectedResponseException if the response type is not as expected.
+     * @throws MessageResponseException    if the response is invalid.
+     * @throws PersistenceException        if the data could not be persisted.
+     * @throws MessageException            if message handling failed.
+     */
+    public void download(final URI recipient, final List<URI> resources,
+                         final List<URI> artifacts, final boolean download,
+                         final Runnable progress)
+            throws UnexpectedResponseException, PersistenceException, MessageResponseException,
+            MessageException {
+        executor.forEach(recipient, resources, resource -> {
+            final var response = descReqSvc.sendMessage(recipient, resource);
             persistenceSvc.saveMetadata(response, artifacts, download, recipient);
-        }
+            progress.run();
+        });
     }
 
     /**
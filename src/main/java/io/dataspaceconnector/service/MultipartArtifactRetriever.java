@@ -29,9 +29,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.util.Base64Utils;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.net.URI;
 import java.util.Map;
@@ -99,6 +97,6 @@ public class MultipartArtifactRetriever implements ArtifactRetriever {
 
         final var data = MessageUtils.extractPayloadFromMultipartMessage(response);
 
-        return new ByteArrayInputStream(Base64Utils.decodeFromString(data));
+        return MessageUtils.decodeDataPayload(data);
     }
 }
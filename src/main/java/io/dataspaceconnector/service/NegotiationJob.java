@@ -0,0 +1,209 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The progress of a contract negotiation with the following metadata and data download that is
+ * running in the background.
+ */
+@Getter
+public class NegotiationJob {
+
+    /**
+     * The steps of a negotiation job.
+     */
+    public enum State {
+        /**
+         * The job is waiting for a worker.
+         */
+        PENDING,
+
+        /**
+         * The contract is negotiated.
+         */
+        NEGOTIATING,
+
+        /**
+         * The metadata of the resources is downloaded.
+         */
+        DOWNLOADING_METADATA,
+
+        /**
+         * The data of the artifacts is downloaded.
+         */
+        DOWNLOADING_DATA,
+
+        /**
+         * The job has been completed.
+         */
+        COMPLETED,
+
+        /**
+         * The job has failed.
+         */
+        FAILED
+    }
+
+    /**
+     * The id of the job.
+     */
+    private final UUID id = UUID.randomUUID();
+
+    /**
+     * The time the job has been created.
+     */
+    private final ZonedDateTime creationDate = ZonedDateTime.now(ZoneOffset.UTC);
+
+    /**
+     * The number of requested resources.
+     */
+    private final int resources;
+
+    /**
+     * The number of requested artifacts.
+     */
+    private final int artifacts;
+
+    /**
+     * Whether the data of the artifacts is downloaded.
+     */
+    private final boolean download;
+
+    /**
+     * The current step of the job.
+     */
+    private volatile State state = State.PENDING;
+
+    /**
+     * The agreement, once the contract has been negotiated.
+     */
+    private volatile UUID agreementId;
+
+    /**
+     * The reason the job has failed.
+     */
+    private volatile String error;
+
+    /**
+     * The time of the last change of the job.
+     */
+    private volatile ZonedDateTime modificationDate = creationDate;
+
+    /**
+     * The number of resources whose metadata has been downloaded.
+     */
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger downloadedResources = new AtomicInteger();
+
+    /**
+     * The number of artifacts whose data has been downloaded.
+     */
+    @Getter(AccessLevel.NONE)
+    private final AtomicInteger downloadedArtifacts = new AtomicInteger();
+
+    /**
+     * Constructor.
+     *
+     * @param resources The number of requested resources.
+     * @param artifacts The number of requested artifacts.
+     * @param download  Whether the data of the artifacts is downloaded.
+     */
+    public NegotiationJob(final int resources, final int artifacts, final boolean download) {
+        this.resources = resources;
+        this.artifacts = artifacts;
+        this.download = download;
+    }
+
+    /**
+     * Get the number of resources whose metadata has been downloaded.
+     *
+     * @return The number of downloaded resources.
+     */
+    public int getDownloadedResources() {
+        return downloadedResources.get();
+    }
+
+    /**
+     * Get the number of artifacts whose data has been downloaded.
+     *
+     * @return The number of downloaded artifacts.
+     */
+    public int getDownloadedArtifacts() {
+        return downloadedArtifacts.get();
+    }
+
+    /**
+     * Move the job to the next step.
+     *
+     * @param next The next step.
+     */
+    public void setState(final State next) {
+        this.state = next;
+        touch();
+    }
+
+    /**
+     * Complete the negotiation.
+     *
+     * @param agreement The negotiated agreement.
+     */
+    public void setAgreementId(final UUID agreement) {
+        this.agreementId = agreement;
+        touch();
+    }
+
+    /**
+     * Count a resource whose metadata has been downloaded.
+     */
+    public void resourceDownloaded() {
+        downloadedResources.incrementAndGet();
+        touch();
+    }
+
+    /**
+     * Count an artifact whose data has been downloaded.
+     */
+    public void artifactDownloaded() {
+        downloadedArtifacts.incrementAndGet();
+        touch();
+    }
+
+    /**
+     * Mark the job as failed.
+     *
+     * @param reason The reason the job has failed.
+     */
+    public void fail(final String reason) {
+        this.error = reason;
+        setState(State.FAILED);
+    }
+
+    private void touch() {
+        this.modificationDate = ZonedDateTime.now(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Runs contract negotiations with the following metadata and data download in the background.
+ * The jobs are kept in memory while they are running and for a limited time after they have
+ * ended, so clients can poll their progress and result.
+ */
+@Log4j2
+@Component
+public class NegotiationJobService implements DisposableBean {
+
+    /**
+     * The workers running the jobs.
+     */
+    private final ThreadPoolTaskExecutor executor;
+
+    /**
+     * The jobs by id.
+     */
+    private final Cache<UUID, NegotiationJob> jobs;
+
+    /**
+     * Constructor.
+     *
+     * @param poolSize      The number of jobs running at the same time.
+     * @param queueCapacity The maximum number of jobs waiting to be run.
+     * @param retention     How long a job is kept after it has ended.
+     */
+    public NegotiationJobService(
+            @Value("${ids.negotiation.pool-size:4}") final int poolSize,
+            @Value("${ids.negotiation.queue-capacity:100}") final int queueCapacity,
+            @Value("${ids.negotiation.job-retention:1h}") final Duration retention) {
+        this.jobs = Caffeine.newBuilder().expireAfter(new Retention(retention)).build();
+
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("negotiation-");
+        this.executor.initialize();
+    }
+
+    /**
+     * Start a job in the background.
+     *
+     * @param job  The job.
+     * @param work Runs the job and reports its progress.
+     * @return The job.
+     * @throws TaskRejectedException if too many jobs are waiting to be run.
+     */
+    public NegotiationJob submit(final NegotiationJob job, final Work work) {
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, work));
+        } catch (TaskRejectedException e) {
+            jobs.invalidate(job.getId());
+            throw e;
+        }
+        return job;
+    }
+
+    /**
+     * Get a job.
+     *
+     * @param jobId The id of the job.
+     * @return The job, if it is known.
+     */
+    public Optional<NegotiationJob> get(final UUID jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId));
+    }
+
+    @SuppressFBWarnings(
+            value = "REC_CATCH_EXCEPTION",
+            justification = "any failure ends the job"
+    )
+    private void run(final NegotiationJob job, final Work work) {
+        try {
+            work.run(job);
+            job.setState(NegotiationJob.State.COMPLETED);
+        } catch (Exception e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Negotiation job failed. [job=({}), exception=({})]", job.getId(),
+                        e.getMessage(), e);
+            }
+            job.fail(e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+        } finally {
+            // Start the retention time of the ended job.
+            jobs.put(job.getId(), job);
+        }
+    }
+
+    /**
+     * Stop the workers.
+     */
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * Keeps running jobs without time limit and ended jobs for the retention time.
+     */
+    private static final class Retention implements Expiry<UUID, NegotiationJob> {
+
+        /**
+         * How long a job is kept after it has ended, in nanoseconds.
+         */
+        private final long retention;
+
+        /**
+         * Constructor.
+         *
+         * @param duration How long a job is kept after it has ended.
+         */
+        Retention(final Duration duration) {
+            this.retention = duration.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(final UUID key, final NegotiationJob job,
+                                      final long currentTime) {
+            return isEnded(job) ? retention : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(final UUID key, final NegotiationJob job,
+                                      final long currentTime, final long currentDuration) {
+            return isEnded(job) ? retention : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterRead(final UUID key, final NegotiationJob job,
+                                    final long currentTime, final long currentDuration) {
+            return isEnded(job) ? currentDuration : Long.MAX_VALUE;
+        }
+
+        private static boolean isEnded(final NegotiationJob job) {
+            return job.getState() == NegotiationJob.State.COMPLETED
+                    || job.getState() == NegotiationJob.State.FAILED;
+        }
+    }
+
+    /**
+     * The work of a negotiation job.
+     */
+    @FunctionalInterface
+    public interface Work {
+        /**
+         * Run the job.
+         *
+         * @param job The job, used to report the progress.
+         * @throws Exception if the job failed.
+         */
+        void run(NegotiationJob job) throws Exception;
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.message;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends notifications to subscribers in the background. Notifications for the same recipient
+ * and subject that are dispatched before the previous one has been sent are coalesced, so only
+ * the latest one is sent. Failed notifications are retried with an exponential backoff.
+ */
+@Log4j2
+@Component
+public class NotificationDispatcher implements DisposableBean {
+
+    /**
+     * The workers sending the notifications.
+     */
+    private final ThreadPoolTaskScheduler scheduler;
+
+    /**
+     * The maximum number of attempts for sending a notification.
+     */
+    private final int maxAttempts;
+
+    /**
+     * The delay before the first retry. Doubled with every further retry.
+     */
+    private final Duration backoff;
+
+    /**
+     * The notifications that have been dispatched, but not been sent yet.
+     */
+    private final Map<Key, Notification> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param poolSize    The number of workers sending notifications.
+     * @param maxAttempts The maximum number of attempts for sending a notification.
+     * @param backoff     The delay before the first retry.
+     */
+    public NotificationDispatcher(
+            @Value("${notification.dispatcher.pool-size:4}") final int poolSize,
+            @Value("${notification.dispatcher.max-attempts:3}") final int maxAttempts,
+            @Value("${notification.dispatcher.backoff:1s}") final Duration backoff) {
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(poolSize);
+        this.scheduler.setThreadNamePrefix("notification-");
+        this.scheduler.initialize();
+    }
+
+    /**
+     * Dispatch a notification. If a notification for the same recipient and subject is still
+     * waiting to be sent, it is replaced by the given one.
+     *
+     * @param recipient    The recipient of the notification.
+     * @param subject      Identifies what the recipient is notified about.
+     * @param notification Sends the notification.
+     */
+    public void dispatch(final URI recipient, final Object subject,
+                         final Notification notification) {
+        final var key = new Key(recipient, subject);
+        if (pending.put(key, notification) == null) {
+            scheduler.execute(() -> {
+                final var latest = pending.remove(key);
+                if (latest != null) {
+                    send(key, latest, 1);
+                }
+            });
+        }
+    }
+
+    /**
+     * Get the number of notifications waiting to be sent.
+     *
+     * @return The number of pending notifications.
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    @SuppressFBWarnings(
+            value = "REC_CATCH_EXCEPTION",
+            justification = "failures of any kind are retried"
+    )
+    private void send(final Key key, final Notification notification, final int attempt) {
+        Exception failure = null;
+        try {
+            if (notification.send()) {
+                return;
+            }
+        } catch (Exception exception) {
+            failure = exception;
+        }
+
+        if (pending.containsKey(key)) {
+            // The newer notification is sent instead.
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to notify subscriber. Superseded by a newer notification. "
+                        + "[url=({}), attempt=({})]", key.recipient, attempt);
+            }
+        } else if (attempt >= maxAttempts) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not notify subscriber. [url=({}), attempts=({}), "
+                        + "exception=({})]", key.recipient, attempt,
+                        failure == null ? null : failure.getMessage());
+            }
+        } else {
+            final var delay = backoff.multipliedBy(1L << (attempt - 1));
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to notify subscriber. Retrying. [url=({}), attempt=({}), "
+                        + "delay=({})]", key.recipient, attempt, delay);
+            }
+
+            scheduler.schedule(() -> send(key, notification, attempt + 1),
+                    Instant.now().plus(delay));
+        }
+    }
+
+    /**
+     * Stop the workers. Notifications that have not been sent yet are dropped.
+     */
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * Sends a single notification.
+     */
+    @FunctionalInterface
+    public interface Notification {
+        /**
+         * Send the notification.
+         *
+         * @return True if the notification has been delivered.
+         * @throws Exception if sending the notification failed.
+         */
+        boolean send() throws Exception;
+    }
+
+    /**
+     * Identifies the notifications that are coalesced.
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class Key {
+        /**
+         * The recipient of the notification.
+         */
+        private final URI recipient;
+
+        /**
+         * What the recipient is notified about.
+         */
+        private final Object subject;
+    }
+}
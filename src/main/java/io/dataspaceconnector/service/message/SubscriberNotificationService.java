@@ -20,7 +20,6 @@
 package io.dataspaceconnector.service.message;
 
 import de.fraunhofer.iais.eis.Resource;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.dataspaceconnector.common.exception.DataDispatchException;
 import io.dataspaceconnector.common.exception.ErrorMessage;
 import io.dataspaceconnector.common.net.HttpService;
@@ -51,11 +50,12 @@ import org.apache.camel.ProducerTemplate;
 import org.apache.camel.builder.ExchangeBuilder;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -134,29 +134,47 @@ public class SubscriberNotificationService {
     private final @NonNull ApiReferenceHelper apiReferenceHelper;
 
     /**
-     * Notify subscribers on database update event.
+     * Sends the notifications in the background.
+     */
+    private final @NonNull NotificationDispatcher dispatcher;
+
+    /**
+     * Notify subscribers on database update event. Subscribers of child elements are notified
+     * as well. The subscriptions of the entity and all its children are loaded at once.
      *
      * @param entity The updated entity.
      */
     public void notifyOnUpdate(final Entity entity) {
-        final var uri = selfLinkHelper.getSelfLink(entity);
-        final var subscriptions = subscriptionSvc.getByTarget(uri);
+        final var entities = new LinkedHashMap<URI, Entity>();
+        collectWithChildren(entity, entities);
 
-        // Notify subscribers of child elements.
+        final var subscriptions = subscriptionSvc.getByTargets(entities.keySet()).stream()
+                .collect(Collectors.groupingBy(Subscription::getTarget));
+
+        entities.forEach((uri, element) -> {
+            final var elementSubscriptions = subscriptions.get(uri);
+            if (elementSubscriptions != null) {
+                notifyAll(elementSubscriptions, uri, element);
+            }
+        });
+    }
+
+    private void collectWithChildren(final Entity entity, final Map<URI, Entity> entities) {
+        // Collect child elements first, so their subscribers are notified first.
         if (entity instanceof OfferedResource || entity instanceof RequestedResource) {
             final var representations =
                     ((io.dataspaceconnector.model.resource.Resource) entity).getRepresentations();
             for (final var rep : representations) {
-                notifyOnUpdate(rep);
+                collectWithChildren(rep, entities);
             }
         } else if (entity instanceof Representation representation) {
             final var artifacts = representation.getArtifacts();
             for (final var artifact : artifacts) {
-                notifyOnUpdate(artifact);
+                collectWithChildren(artifact, entities);
             }
         }
 
-        notifyAll(subscriptions, uri, entity);
+        entities.putIfAbsent(selfLinkHelper.getSelfLink(entity), entity);
     }
 
     /**
@@ -191,81 +209,69 @@ public class SubscriberNotificationService {
         final var notification = new HashMap<String, String>();
         notification.put("ids-target", target.toString());
         notification.put("ids-event", Event.UPDATED.toString());
-        if (!recipients.isEmpty()) {
-            sendNotification(recipients, notification, null);
+        for (final var recipient : recipients) {
+            dispatcher.dispatch(recipient, target,
+                    () -> sendNotification(recipient, notification, new byte[0]));
         }
 
-        // Only send data if entity is of type artifact.
+        // Only send data if entity is of type artifact. The data is read once for all recipients.
         if (!recipientsWithData.isEmpty()) {
-            if (entity instanceof Artifact) {
-                sendNotification(recipientsWithData, notification, retrieveDataByArtifact(entity));
-            } else {
-                sendNotification(recipientsWithData, notification, InputStream.nullInputStream());
+            final var data = retrieveDataByArtifact(entity);
+            for (final var recipient : recipientsWithData) {
+                dispatcher.dispatch(recipient, target,
+                        () -> sendNotification(recipient, notification, data));
             }
         }
     }
 
-    @SuppressFBWarnings(
-            value = "REC_CATCH_EXCEPTION",
-            justification = "caught exceptions are unchecked"
-    )
     private void notifyIdsSubscribers(final List<Subscription> subscriptions, final Entity entity) {
         final var idsRecipients = subscriptions.stream()
                 .filter(Subscription::isIdsProtocol)
                 .map(Subscription::getLocation)
                 .collect(Collectors.toList());
 
+        if (idsRecipients.isEmpty()) {
+            return;
+        }
+
         final var resources = getIdsResourcesFromEntity(entity);
 
-        // Iterate over all recipients and send ids resource update messages.
+        // Send an update message for every found resource to all recipients.
         for (final var recipient : idsRecipients) {
-            // Send update message for every found resource.
             for (final var resource : resources) {
-                try {
-                    if (connectorConfig.isIdscpEnabled()) {
-                        final var result = template.send("direct:resourceUpdateSender",
-                                ExchangeBuilder.anExchange(context)
-                                        .withProperty(ParameterUtils.RECIPIENT_PARAM, recipient)
-                                        .withProperty(ParameterUtils.RESOURCE_ID_PARAM,
-                                                resource.getId())
-                                        .build());
-                        final var response = result.getIn().getBody(Response.class);
-                        if (response != null) {
-                            if (log.isDebugEnabled()) {
-                                log.debug("Successfully sent update message. [url=({})]",
-                                        recipient);
-                            }
-                        } else {
-                            if (log.isDebugEnabled()) {
-                                log.debug("{} [url=({})]", ErrorMessage.UPDATE_MESSAGE_FAILED,
-                                        recipient);
-                            }
-                        }
-                    } else {
-                        final var response = messageSvc
-                                .sendResourceUpdateMessage(recipient, resource);
-                        if (response.isPresent()) {
-                            if (log.isDebugEnabled()) {
-                                log.debug("Successfully sent update message. [url=({})]",
-                                        recipient);
-                            }
-                        } else {
-                            if (log.isDebugEnabled()) {
-                                log.debug("{} [url=({})]", ErrorMessage.UPDATE_MESSAGE_FAILED,
-                                        recipient);
-                            }
-                        }
-                    }
-                } catch (Exception e) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("{} [url=({}), exception=({})]",
-                                ErrorMessage.UPDATE_MESSAGE_FAILED, recipient, e.getMessage());
-                    }
-                }
+                dispatcher.dispatch(recipient, resource.getId(),
+                        () -> sendResourceUpdate(recipient, resource));
             }
         }
     }
 
+    private boolean sendResourceUpdate(final URI recipient, final Resource resource)
+            throws Exception {
+        final boolean sent;
+        if (connectorConfig.isIdscpEnabled()) {
+            final var result = template.send("direct:resourceUpdateSender",
+                    ExchangeBuilder.anExchange(context)
+                            .withProperty(ParameterUtils.RECIPIENT_PARAM, recipient)
+                            .withProperty(ParameterUtils.RESOURCE_ID_PARAM, resource.getId())
+                            .build());
+            sent = result.getIn().getBody(Response.class) != null;
+        } else {
+            sent = messageSvc.sendResourceUpdateMessage(recipient, resource).isPresent();
+        }
+
+        if (sent) {
+            if (log.isDebugEnabled()) {
+                log.debug("Successfully sent update message. [url=({})]", recipient);
+            }
+        } else {
+            if (log.isDebugEnabled()) {
+                log.debug("{} [url=({})]", ErrorMessage.UPDATE_MESSAGE_FAILED, recipient);
+            }
+        }
+
+        return sent;
+    }
+
     private List<Resource> getIdsResourcesFromEntity(final Entity entity) {
         var updatedResources = new ArrayList<Resource>();
         if (entity instanceof OfferedResource offeredResource) {
@@ -298,81 +304,42 @@ public class SubscriberNotificationService {
     }
 
     /**
-     * Retrieve data if the entity is of type {@link Artifact}.
+     * Retrieve data if the entity is of type {@link Artifact}. The data is buffered, as it is
+     * sent to every recipient.
      *
      * @param entity The database entity.
-     * @return Data as input stream.
+     * @return The data or an empty array, if the entity is no artifact.
      */
-    private InputStream retrieveDataByArtifact(final Entity entity) {
+    private byte[] retrieveDataByArtifact(final Entity entity) {
         if (entity instanceof Artifact) {
             final var id = entity.getId();
-            try {
-                return artifactSvc.getData(accessVerifier, dataReceiver, id, new QueryInput(),
-                        null);
+            try (var data = artifactSvc.getData(accessVerifier, dataReceiver, id,
+                    new QueryInput(), null)) {
+                return data.readAllBytes();
             } catch (IOException exception) {
                 if (log.isDebugEnabled()) {
                     log.debug("Failed to retrieve data. [exception=({})]", exception.getMessage());
                 }
             }
         }
-        return InputStream.nullInputStream();
+        return new byte[0];
     }
 
-    private void sendNotification(final List<URI> recipients,
-                                  final Map<String, String> notification, final InputStream data) {
-        for (final var recipient : recipients) {
-            try {
-                InputStream dataCopy;
-                if (data == null) {
-                    dataCopy = InputStream.nullInputStream();
-                } else {
-                    // Reset the input stream to first position before each read.
-                    if (0 <= data.available()) {
-                        data.reset();
-                    }
-                    dataCopy = data;
-                }
-
-                if (apiReferenceHelper.isRouteReference(recipient.toURL())) {
-                    sendNotificationViaCamel(recipient, notification, dataCopy);
-                } else {
-                    sendNotificationViaHttp(recipient, notification, dataCopy);
-                }
-            } catch (IOException exception) {
-                if (log.isWarnEnabled()) {
-                    log.warn("Could not notify subscriber. [url=({})]",
-                            recipient);
-                }
-            }
-        }
-    }
-
-    private void sendNotificationViaCamel(final URI recipient,
-                                          final Map<String, String> notification,
-                                          final InputStream data) {
-        try {
+    private boolean sendNotification(final URI recipient, final Map<String, String> notification,
+                                     final byte[] data)
+            throws IOException, DataDispatchException {
+        if (apiReferenceHelper.isRouteReference(recipient.toURL())) {
             final var queryInput = new QueryInput();
             queryInput.setHeaders(notification);
-            routeDataDispatcher.send(recipient, data.readAllBytes(), queryInput);
-        } catch (DataDispatchException | IOException exception) {
-            if (log.isWarnEnabled()) {
-                log.warn("Could not notify subscriber. [url=({}), exception=({})]",
-                        recipient, exception.getMessage());
-            }
+            routeDataDispatcher.send(recipient, data, queryInput);
+            return true;
         }
-    }
 
-    private void sendNotificationViaHttp(final URI recipient,
-                                         final Map<String, String> notification,
-                                         final InputStream data) {
         final var args = new HttpService.HttpArgs();
         args.setHeaders(notification);
-        try {
-            httpService.post(recipient.toURL(), args, data);
-        } catch (IOException exception) {
-            if (log.isWarnEnabled()) {
-                log.warn("Could not notify subscriber. [url=({})]", recipient);
-            }
+        try (var response = httpService.post(recipient.toURL(), args,
+                new ByteArrayInputStream(data))) {
+            return response.isSuccessful();
         }
     }
 }
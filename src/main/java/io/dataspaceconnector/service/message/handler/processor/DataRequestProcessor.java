@@ -33,7 +33,6 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Component;
-import org.springframework.util.Base64Utils;
 
 /**
  * Fetches the data of an artifact as the response to an ArtifactRequestMessage.
@@ -78,7 +77,7 @@ class DataRequestProcessor extends IdsProcessor<
         final var desc = new ArtifactResponseMessageDesc(issuer, messageId, transferContract);
         final var responseHeader = messageService.buildMessage(desc);
 
-        return new Response(responseHeader, Base64Utils.encodeToString(data.readAllBytes()));
+        return new Response(responseHeader, MessageUtils.encodeDataPayload(data));
     }
 
     /**
@@ -17,6 +17,7 @@ package io.dataspaceconnector.service.message.handler.processor.base;
 
 import java.util.Optional;
 
+import io.dataspaceconnector.extension.telemetry.TelemetrySpan;
 import io.dataspaceconnector.service.message.handler.dto.Request;
 import io.dataspaceconnector.service.message.handler.dto.Response;
 import io.dataspaceconnector.service.message.handler.dto.RouteMsg;
@@ -42,6 +43,7 @@ public abstract class IdsProcessor<I extends RouteMsg<?, ?>> implements Processo
      */
     @Override
     @SuppressWarnings("unchecked")
+    @TelemetrySpan
     public void process(final Exchange exchange) throws Exception {
         var request = exchange.getIn().getBody(Request.class);
         var claims = (Optional<Jws<Claims>>) request.getClaims();
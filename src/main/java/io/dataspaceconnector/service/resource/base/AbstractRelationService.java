@@ -30,10 +30,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.ZonedDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Creates a parent-children relationship between two types of resources.
@@ -70,6 +73,14 @@ public abstract class AbstractRelationService<K extends Entity, W extends Entity
     @Autowired
     private X manyService;
 
+    /**
+     * Reads pages of children from the database and updates links in bulk. Not set if the
+     * service is not managed by Spring, in which case relations are handled in memory.
+     **/
+    @Autowired(required = false)
+    @Getter(AccessLevel.NONE)
+    private RelationQueryService queryService;
+
     /**
      * {@inheritDoc}
      */
@@ -91,7 +102,8 @@ public abstract class AbstractRelationService<K extends Entity, W extends Entity
     protected abstract List<W> getInternal(K owner);
 
     /**
-     * Receives a page of children assigned to the entity.
+     * Receives a page of children assigned to the entity. If the children have not been loaded
+     * yet, only the requested page is read from the database.
      *
      * @param owner    The entity whose children should be received.
      * @param pageable The children assigned to the entity.
@@ -99,7 +111,109 @@ public abstract class AbstractRelationService<K extends Entity, W extends Entity
      */
     protected Page<W> getInternal(final K owner, final Pageable pageable) {
         final var entities = getInternal(owner);
-        return Utils.toPage(entities, pageable);
+        if (pageable.isPaged() && isQueryable(entities)) {
+            return queryService.getPage(entities, owner.getId(), pageable);
+        }
+
+        return Utils.toPage(sortByCreation(entities), pageable);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<W> getAfter(final UUID ownerId, final UUID after, final int size) {
+        Utils.requireNonNull(ownerId, ErrorMessage.ENTITYID_NULL);
+        Utils.requireNonNull(after, ErrorMessage.ENTITYID_NULL);
+
+        final var owner = oneService.get(ownerId);
+        final var entities = getInternal(owner);
+        if (isQueryable(entities)) {
+            return queryService.getAfter(entities, ownerId, after, size);
+        }
+
+        final var sorted = sortByCreation(entities);
+        for (int i = 0; i < sorted.size(); i++) {
+            if (after.equals(sorted.get(i).getId())) {
+                return sorted.subList(i + 1, Math.min(i + 1 + size, sorted.size()));
+            }
+        }
+
+        throw new ResourceNotFoundException("Could not find resource.");
+    }
+
+    /**
+     * Sort children in the order the database returns them: by creation date and id. Ids are
+     * compared as in the database, by their unsigned bytes.
+     *
+     * @param entities The children.
+     * @return The sorted children.
+     */
+    private List<W> sortByCreation(final List<W> entities) {
+        return entities.stream()
+                .sorted(Comparator.comparing(W::getCreationDate,
+                                Comparator.nullsLast(Comparator.<ZonedDateTime>naturalOrder()))
+                        .thenComparing(W::getId,
+                                Comparator.nullsLast(Comparator.comparing(UUID::toString))))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Check whether the links can be changed directly in the database, without loading the
+     * children. Relations whose children are needed when the owner is persisted, e.g. because
+     * persisting triggers further actions, should not be updated in bulk.
+     *
+     * @param relation The children as returned by the owner.
+     * @return True if the links can be changed in bulk.
+     */
+    protected boolean isBulkUpdatable(final List<W> relation) {
+        return queryService != null && queryService.isBulkUpdatable(relation);
+    }
+
+    /**
+     * Link children to an entity directly in the database.
+     *
+     * @param relation The children as returned by the owner.
+     * @param ownerId  The id of the owner.
+     * @param entities The children added to the entity.
+     */
+    protected final void addInBulk(final List<W> relation, final UUID ownerId,
+                                   final Set<UUID> entities) {
+        queryService.addAll(relation, ownerId, entities);
+    }
+
+    /**
+     * Unlink children from an entity directly in the database.
+     *
+     * @param relation The children as returned by the owner.
+     * @param ownerId  The id of the owner.
+     * @param entities The children removed from the entity.
+     */
+    protected final void removeInBulk(final List<W> relation, final UUID ownerId,
+                                      final Set<UUID> entities) {
+        queryService.removeAll(relation, ownerId, entities);
+    }
+
+    /**
+     * Replace the children of an entity directly in the database.
+     *
+     * @param relation The children as returned by the owner.
+     * @param ownerId  The id of the owner.
+     * @param entities The children replacing the existing ones.
+     */
+    protected final void replaceInBulk(final List<W> relation, final UUID ownerId,
+                                       final Set<UUID> entities) {
+        queryService.replaceAll(relation, ownerId, entities);
+    }
+
+    /**
+     * Check whether the children of a relation can be read from the database page by page.
+     *
+     * @param entities The children as returned by the owner.
+     * @return True if the children can be queried.
+     */
+    private boolean isQueryable(final List<W> entities) {
+        return queryService != null && queryService.isQueryable(entities);
     }
 
     /**
@@ -151,13 +265,14 @@ public abstract class AbstractRelationService<K extends Entity, W extends Entity
     }
 
     /**
-     * Check if all entities in a set are known to the children's service.
+     * Check if all entities in a set are known to the children's service. The check is done
+     * for the complete set at once.
      *
      * @param entities The set of entities to be checked.
      * @throws ResourceNotFoundException if any of the entities is unknown.
      */
     protected void throwIfEntityDoesNotExist(final Set<UUID> entities) {
-        if (!doesExist(entities, (x) -> manyService.doesExist(x))) {
+        if (!manyService.doesExistAll(entities)) {
             throw new ResourceNotFoundException("Could not find resource.");
         }
     }
@@ -27,9 +27,13 @@ import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -53,6 +57,14 @@ public class BaseEntityService<T extends Entity, D extends Description>
      **/
     private final @NonNull AbstractFactory<T, D> factory;
 
+    /**
+     * Publishes an {@link EntityChangeEvent} whenever an entity changes. Not set if the service
+     * is not managed by Spring.
+     **/
+    @Autowired(required = false)
+    @Getter(AccessLevel.NONE)
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Creates a new persistent entity.
      *
@@ -138,6 +150,49 @@ public class BaseEntityService<T extends Entity, D extends Description>
         return repository.findById(entityId).isPresent();
     }
 
+    /**
+     * Checks if entities exist for all given ids. Uses a single query instead of one lookup
+     * per id.
+     *
+     * @param entityIds The ids of the entities.
+     * @return True if all entities exist.
+     * @throws IllegalArgumentException if the passed set is null.
+     */
+    @Override
+    public boolean doesExistAll(final Set<UUID> entityIds) {
+        Utils.requireNonNull(entityIds, ErrorMessage.ENTITYSET_NULL);
+        if (entityIds.isEmpty()) {
+            return true;
+        }
+
+        return repository.countByIdIn(entityIds) == entityIds.size();
+    }
+
+    /**
+     * Get the entities for the given ids. Uses a single query instead of one lookup per id.
+     *
+     * @param entityIds The ids of the entities.
+     * @return The entities, in no particular order.
+     * @throws IllegalArgumentException  if the passed set is null.
+     * @throws ResourceNotFoundException if any of the entities is unknown.
+     */
+    @Override
+    public List<T> getAllById(final Set<UUID> entityIds) {
+        Utils.requireNonNull(entityIds, ErrorMessage.ENTITYSET_NULL);
+        if (entityIds.isEmpty()) {
+            return List.of();
+        }
+
+        final var entities = repository.findAllById(entityIds);
+        if (entities.size() != entityIds.size()) {
+            // Handle with global exception handler.
+            throw new ResourceNotFoundException(this.getClass().getSimpleName() + ": "
+                    + entityIds);
+        }
+
+        return entities;
+    }
+
     /**
      * Delete an entity with the given id.
      *
@@ -148,15 +203,43 @@ public class BaseEntityService<T extends Entity, D extends Description>
     public void delete(final UUID entityId) {
         Utils.requireNonNull(entityId, ErrorMessage.ENTITYID_NULL);
         repository.deleteById(entityId);
+        publishChange(entityId, null);
     }
 
     /**
-     * Persists an entity.
+     * Persists an entity. Inside a {@link PersistenceBatch} the entity is not flushed
+     * immediately.
      *
      * @param entity The entity.
      * @return The persisted entity.
      */
     protected T persist(final T entity) {
-        return repository.saveAndFlush(entity);
+        final var persisted = PersistenceBatch.isActive()
+                ? repository.save(entity) : repository.saveAndFlush(entity);
+        if (persisted != null) {
+            publishChange(persisted.getId(), persisted);
+        }
+        return persisted;
+    }
+
+    /**
+     * Notifies listeners that an entity has been changed.
+     *
+     * @param entityId The id of the entity.
+     * @param entity   The changed entity. Null if the entity has been deleted.
+     */
+    protected void publishChange(final UUID entityId, final T entity) {
+        publishEvent(new EntityChangeEvent(entityId, entity));
+    }
+
+    /**
+     * Notifies listeners about an event.
+     *
+     * @param event The event.
+     */
+    protected void publishEvent(final Object event) {
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(event);
+        }
     }
 }
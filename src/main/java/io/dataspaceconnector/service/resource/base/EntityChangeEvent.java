@@ -12,26 +12,33 @@
  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
  * See the License for the specific language governing permissions and
  * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
  */
-package io.dataspaceconnector.model.artifact;
-
-import org.junit.jupiter.api.Test;
+package io.dataspaceconnector.service.resource.base;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import io.dataspaceconnector.model.base.Entity;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 
-public class ArtifactTests {
+import java.util.UUID;
 
-    @Test
-    public void incrementAccessCounter_willAddOnlyOne() {
-        ArtifactDesc desc = new ArtifactDesc();
-        ArtifactFactory factory = new ArtifactFactory();
-        var artifact = factory.create(desc);
-
-        final var before = artifact.getNumAccessed();
+/**
+ * Published after a persistent entity has been created, updated or deleted.
+ */
+@Getter
+@AllArgsConstructor
+public class EntityChangeEvent {
 
-        artifact.incrementAccessCounter();
+    /**
+     * The id of the changed entity.
+     */
+    private final UUID entityId;
 
-        assertEquals(1, artifact.getNumAccessed());
-        assertEquals(0, before);
-    }
+    /**
+     * The changed entity. Null if the entity has been deleted.
+     */
+    private final Entity entity;
 }
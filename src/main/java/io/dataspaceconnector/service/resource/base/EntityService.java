@@ -20,6 +20,9 @@ import io.dataspaceconnector.model.base.Entity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -59,6 +62,33 @@ public interface EntityService<T extends Entity, D extends Description> {
      */
     boolean doesExist(UUID entityId);
 
+    /**
+     * @param entityIds The ids of the entities.
+     * @return true, if all entities do exist.
+     */
+    default boolean doesExistAll(final Set<UUID> entityIds) {
+        for (final var entityId : entityIds) {
+            if (!doesExist(entityId)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @param entityIds The ids of the entities.
+     * @return the entities, in no particular order.
+     */
+    default List<T> getAllById(final Set<UUID> entityIds) {
+        final var entities = new ArrayList<T>(entityIds.size());
+        for (final var entityId : entityIds) {
+            entities.add(get(entityId));
+        }
+
+        return entities;
+    }
+
     /**
      * @param entityId The id of the entity.
      */
@@ -38,7 +38,13 @@ public abstract class OwningRelationService<
     @Override
     protected final void addInternal(final UUID ownerId, final Set<UUID> entities) {
         final var owner = getOneService().get(ownerId);
-        addInternal(owner, entities);
+        final var relation = getInternal(owner);
+        if (isBulkUpdatable(relation)) {
+            addInBulk(relation, ownerId, entities);
+        } else {
+            addInternal(owner, entities);
+        }
+
         getOneService().persist(owner);
     }
 
@@ -46,18 +52,26 @@ public abstract class OwningRelationService<
     protected final void removeInternal(final UUID ownerId, final Set<UUID> entities) {
         final var owner = getOneService().get(ownerId);
         final var existingEntities = getInternal(owner);
-
-        for (final var entityId : entities) {
-            existingEntities.removeIf(x -> x.getId().equals(entityId));
+        if (isBulkUpdatable(existingEntities)) {
+            removeInBulk(existingEntities, ownerId, entities);
+        } else {
+            existingEntities.removeIf(x -> entities.contains(x.getId()));
         }
+
         getOneService().persist(owner);
     }
 
     @Override
     protected final void replaceInternal(final UUID ownerId, final Set<UUID> entities) {
         final var owner = getOneService().get(ownerId);
-        getInternal(owner).clear();
-        addInternal(owner, entities);
+        final var relation = getInternal(owner);
+        if (isBulkUpdatable(relation)) {
+            replaceInBulk(relation, ownerId, entities);
+        } else {
+            relation.clear();
+            addInternal(owner, entities);
+        }
+
         getOneService().persist(owner);
     }
 
@@ -75,9 +89,6 @@ public abstract class OwningRelationService<
         final var toBeAdded = new HashSet<>(entities);
         toBeAdded.removeAll(existingIds);
 
-        for (final var entityId : toBeAdded) {
-            final var entity = getManyService().get(entityId);
-            existingEntities.add(entity);
-        }
+        existingEntities.addAll(getManyService().getAllById(toBeAdded));
     }
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.resource.base;
+
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.util.Utils;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks a scope on the current thread in which entities are persisted in bulk. Inside the scope,
+ * entity services do not flush every single entity, so that the JPA provider can group the
+ * resulting inserts into JDBC batches. Flushing is left to the caller opening the scope.
+ */
+public final class PersistenceBatch {
+
+    /**
+     * Nesting depth of batch scopes on the current thread.
+     */
+    private static final ThreadLocal<Integer> DEPTH = ThreadLocal.withInitial(() -> 0);
+
+    private PersistenceBatch() {
+        // This constructor is intentionally empty. Nothing to do here.
+    }
+
+    /**
+     * Run the given work inside a batch scope. Scopes may be nested.
+     *
+     * @param work The work to run.
+     * @param <T>  The type of the result.
+     * @return The result of the work.
+     * @throws IllegalArgumentException if the passed work is null.
+     */
+    public static <T> T run(final Supplier<T> work) {
+        Utils.requireNonNull(work, ErrorMessage.ENTITY_NULL);
+
+        DEPTH.set(DEPTH.get() + 1);
+        try {
+            return work.get();
+        } finally {
+            final var depth = DEPTH.get() - 1;
+            if (depth == 0) {
+                DEPTH.remove();
+            } else {
+                DEPTH.set(depth);
+            }
+        }
+    }
+
+    /**
+     * Check whether the current thread is inside a batch scope.
+     *
+     * @return True if entities should be persisted without flushing.
+     */
+    public static boolean isActive() {
+        return DEPTH.get() > 0;
+    }
+}
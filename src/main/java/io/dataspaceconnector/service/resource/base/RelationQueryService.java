@@ -0,0 +1,394 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.resource.base;
+
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.model.base.Entity;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.collection.AbstractCollectionPersister;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.query.NativeQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Reads the children of an entity relation page by page from the database, instead of loading
+ * the complete relation. Children are ordered by their creation date and id. Links of relations
+ * backed by a join table are added and removed with bulk statements.
+ */
+@Service
+@RequiredArgsConstructor
+public class RelationQueryService {
+
+    /**
+     * The entity manager.
+     */
+    private final @NonNull EntityManager entityManager;
+
+    /**
+     * Check whether the children of a relation can be queried from the database.
+     *
+     * @param relation The relation as returned by the owning entity.
+     * @return True if the relation is mapped by the persistence provider and not loaded yet.
+     */
+    public boolean isQueryable(final Collection<?> relation) {
+        return relation instanceof PersistentCollection collection
+                && !collection.wasInitialized()
+                && collection.getRole() != null;
+    }
+
+    /**
+     * Get a page of the children of a relation.
+     *
+     * @param <W>      Type of the children.
+     * @param relation The relation as returned by the owning entity.
+     * @param ownerId  The id of the owning entity.
+     * @param pageable The page to be returned.
+     * @return The page of children.
+     */
+    @SuppressWarnings("unchecked")
+    public <W extends Entity> Page<W> getPage(final Collection<W> relation, final UUID ownerId,
+                                              final Pageable pageable) {
+        final var query = new RelationQuery((PersistentCollection) relation);
+
+        final var total = entityManager.createQuery(
+                        "SELECT COUNT(c) " + query.getFrom(), Long.class)
+                .setParameter("ownerId", ownerId)
+                .getSingleResult();
+        if (total <= pageable.getOffset()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        final var content = entityManager.createQuery(
+                        "SELECT c " + query.getFrom() + query.getOrder(), Entity.class)
+                .setParameter("ownerId", ownerId)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return new PageImpl<>((List<W>) content, pageable, total);
+    }
+
+    /**
+     * Get the children of a relation that follow a given child. Unlike a page, the position of
+     * the cursor does not have to be skipped by the database, which keeps deep pages fast.
+     *
+     * @param <W>      Type of the children.
+     * @param relation The relation as returned by the owning entity.
+     * @param ownerId  The id of the owning entity.
+     * @param after    The id of the last child already received.
+     * @param size     The maximum number of children to be returned.
+     * @return The children following the cursor.
+     * @throws ResourceNotFoundException if the cursor is not part of the relation.
+     */
+    @SuppressWarnings("unchecked")
+    public <W extends Entity> List<W> getAfter(final Collection<W> relation, final UUID ownerId,
+                                               final UUID after, final int size) {
+        final var query = new RelationQuery((PersistentCollection) relation);
+
+        final var cursor = entityManager.createQuery(
+                        "SELECT c.creationDate " + query.getFrom() + " AND c.id = :after",
+                        ZonedDateTime.class)
+                .setParameter("ownerId", ownerId)
+                .setParameter("after", after)
+                .getResultList();
+        if (cursor.isEmpty()) {
+            throw new ResourceNotFoundException("Could not find resource.");
+        }
+
+        final var content = entityManager.createQuery("SELECT c " + query.getFrom()
+                                + " AND (c.creationDate > :created"
+                                + " OR (c.creationDate = :created AND c.id > :after))"
+                                + query.getOrder(), Entity.class)
+                .setParameter("ownerId", ownerId)
+                .setParameter("created", cursor.get(0))
+                .setParameter("after", after)
+                .setMaxResults(size)
+                .getResultList();
+
+        return (List<W>) content;
+    }
+
+    /**
+     * Check whether the links of a relation can be changed with bulk statements on its join
+     * table, without loading the relation.
+     *
+     * @param relation The relation as returned by the owning entity.
+     * @return True if the relation is an unordered, not yet loaded join table owned by the entity.
+     */
+    public boolean isBulkUpdatable(final Collection<?> relation) {
+        if (!isQueryable(relation)) {
+            return false;
+        }
+
+        final var persister = getPersister((PersistentCollection) relation);
+        return persister.isManyToMany() && !persister.isInverse() && !persister.hasIndex()
+                && persister.getElementPersister() instanceof AbstractEntityPersister;
+    }
+
+    /**
+     * Link children to an entity. Links that already exist are kept. The entity is marked as
+     * modified, its modification date is updated when it is flushed.
+     *
+     * @param relation The relation as returned by the owning entity.
+     * @param ownerId  The id of the owning entity.
+     * @param entities The ids of the children to be linked.
+     */
+    @Transactional
+    public void addAll(final Collection<?> relation, final UUID ownerId,
+                       final Set<UUID> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        final var table = new JoinTable(getPersister((PersistentCollection) relation));
+        table.bind(entityManager.createNativeQuery("INSERT INTO " + table.getName()
+                        + " (" + table.getKeyColumn() + ", " + table.getElementColumn() + ")"
+                        + " SELECT :ownerId, e." + table.getElementIdColumn()
+                        + " FROM " + table.getElementTable() + " e"
+                        + " WHERE e." + table.getElementIdColumn() + " IN (:entities)"
+                        + " AND e." + table.getElementIdColumn() + " NOT IN (SELECT "
+                        + table.getElementColumn() + " FROM " + table.getName()
+                        + " WHERE " + table.getKeyColumn() + " = :ownerId)"), ownerId, entities)
+                .executeUpdate();
+        markModified((PersistentCollection) relation);
+    }
+
+    /**
+     * Unlink children from an entity. The entity is marked as modified, its modification date is
+     * updated when it is flushed.
+     *
+     * @param relation The relation as returned by the owning entity.
+     * @param ownerId  The id of the owning entity.
+     * @param entities The ids of the children to be unlinked.
+     */
+    @Transactional
+    public void removeAll(final Collection<?> relation, final UUID ownerId,
+                          final Set<UUID> entities) {
+        if (entities.isEmpty()) {
+            return;
+        }
+
+        final var table = new JoinTable(getPersister((PersistentCollection) relation));
+        table.bind(entityManager.createNativeQuery("DELETE FROM " + table.getName()
+                        + " WHERE " + table.getKeyColumn() + " = :ownerId"
+                        + " AND " + table.getElementColumn() + " IN (:entities)"), ownerId,
+                        entities)
+                .executeUpdate();
+        markModified((PersistentCollection) relation);
+    }
+
+    /**
+     * Replace all children of an entity. The entity is marked as modified, its modification date
+     * is updated when it is flushed.
+     *
+     * @param relation The relation as returned by the owning entity.
+     * @param ownerId  The id of the owning entity.
+     * @param entities The ids of the children to be linked.
+     */
+    @Transactional
+    public void replaceAll(final Collection<?> relation, final UUID ownerId,
+                           final Set<UUID> entities) {
+        final var table = new JoinTable(getPersister((PersistentCollection) relation));
+        table.bind(entityManager.createNativeQuery("DELETE FROM " + table.getName()
+                        + " WHERE " + table.getKeyColumn() + " = :ownerId"), ownerId, Set.of())
+                .executeUpdate();
+        markModified((PersistentCollection) relation);
+
+        addAll(relation, ownerId, entities);
+    }
+
+    /**
+     * Mark the entity owning a relation as modified. The links are changed with bulk statements,
+     * which leave the entity untouched. Setting its modification date makes it dirty, so that
+     * its modification date is updated when it is flushed.
+     *
+     * @param collection The mapped relation.
+     */
+    private void markModified(final PersistentCollection collection) {
+        final var owner = getPersister(collection).getOwnerEntityPersister();
+        owner.setPropertyValue(collection.getOwner(),
+                owner.getEntityMetamodel().getPropertyIndex("modificationDate"),
+                ZonedDateTime.now());
+    }
+
+    /**
+     * Get the mapping of a relation from the persistence provider.
+     *
+     * @param collection The mapped relation.
+     * @return The mapping of the relation.
+     */
+    private AbstractCollectionPersister getPersister(final PersistentCollection collection) {
+        return (AbstractCollectionPersister) entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getMetamodel()
+                .collectionPersister(collection.getRole());
+    }
+
+    /**
+     * The table and column names of a relation backed by a join table.
+     */
+    private static final class JoinTable {
+
+        /**
+         * The mapping of the relation.
+         */
+        private final AbstractCollectionPersister persister;
+
+        /**
+         * The mapping of the children.
+         */
+        private final AbstractEntityPersister element;
+
+        /**
+         * Constructor.
+         *
+         * @param collectionPersister The mapping of the relation.
+         */
+        JoinTable(final AbstractCollectionPersister collectionPersister) {
+            this.persister = collectionPersister;
+            this.element = (AbstractEntityPersister) collectionPersister.getElementPersister();
+        }
+
+        /**
+         * Get the name of the join table.
+         *
+         * @return The table name.
+         */
+        String getName() {
+            return persister.getTableName();
+        }
+
+        /**
+         * Get the column referencing the owning entity.
+         *
+         * @return The column name.
+         */
+        String getKeyColumn() {
+            return persister.getKeyColumnNames()[0];
+        }
+
+        /**
+         * Get the column referencing the children.
+         *
+         * @return The column name.
+         */
+        String getElementColumn() {
+            return persister.getElementColumnNames()[0];
+        }
+
+        /**
+         * Get the table of the children.
+         *
+         * @return The table name.
+         */
+        String getElementTable() {
+            return element.getTableName();
+        }
+
+        /**
+         * Get the id column of the children.
+         *
+         * @return The column name.
+         */
+        String getElementIdColumn() {
+            return element.getIdentifierColumnNames()[0];
+        }
+
+        /**
+         * Bind the owner and children to a statement. The ids are bound with the types of the
+         * mapping, as the database representation of ids differs between dialects.
+         *
+         * @param query    The statement.
+         * @param ownerId  The id of the owning entity.
+         * @param entities The ids of the children. Only bound if not empty.
+         * @return The statement.
+         */
+        @SuppressWarnings("rawtypes")
+        Query bind(final Query query, final UUID ownerId, final Set<UUID> entities) {
+            final var nativeQuery = query.unwrap(NativeQuery.class);
+            nativeQuery.setParameter("ownerId", ownerId,
+                    persister.getOwnerEntityPersister().getIdentifierType());
+            if (!entities.isEmpty()) {
+                nativeQuery.setParameterList("entities", entities, element.getIdentifierType());
+            }
+            return query;
+        }
+    }
+
+    /**
+     * Builds the query parts for a mapped relation. The entity and attribute names are taken
+     * from the collection role, which the persistence provider derives from the mapping.
+     */
+    private static final class RelationQuery {
+
+        /**
+         * The from and where clause selecting the children as c.
+         */
+        private final String from;
+
+        /**
+         * Constructor.
+         *
+         * @param collection The mapped relation.
+         */
+        RelationQuery(final PersistentCollection collection) {
+            final var role = collection.getRole();
+            final var separator = role.lastIndexOf('.');
+            final var ownerEntity = role.substring(0, separator);
+            final var attribute = role.substring(separator + 1);
+
+            this.from = "FROM " + ownerEntity + " o JOIN o." + attribute + " c "
+                    + "WHERE o.id = :ownerId AND c.deleted = false";
+        }
+
+        /**
+         * Get the from and where clause.
+         *
+         * @return The clause selecting the children as c.
+         */
+        String getFrom() {
+            return from;
+        }
+
+        /**
+         * Get the order clause.
+         *
+         * @return The clause ordering the children.
+         */
+        String getOrder() {
+            return " ORDER BY c.creationDate, c.id";
+        }
+    }
+}
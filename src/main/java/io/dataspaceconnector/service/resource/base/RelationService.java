@@ -19,6 +19,7 @@ import io.dataspaceconnector.model.base.Entity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -45,6 +46,20 @@ public interface RelationService<K extends Entity, W extends Entity,
      */
     Page<W> get(UUID ownerId, Pageable pageable);
 
+    /**
+     * Get the children of an entity that follow a given child, ordered by creation date.
+     * Unlike a page, the position does not depend on the number of preceding children.
+     *
+     * @param ownerId The id of the entity whose children should be received.
+     * @param after   The id of the last child already received.
+     * @param size    The maximum number of children to be returned.
+     * @return The children following the given one.
+     * @throws IllegalArgumentException  if any of the passed arguments is null.
+     * @throws io.dataspaceconnector.common.exception.ResourceNotFoundException
+     *         if the ownerId entity does not exist or the child is not assigned to it.
+     */
+    List<W> getAfter(UUID ownerId, UUID after, int size);
+
     /**
      * Add a list of children to an entity. The children must exist.
      *
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.resource.ids;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.model.base.Entity;
+import io.dataspaceconnector.model.catalog.Catalog;
+import io.dataspaceconnector.model.contract.Contract;
+import io.dataspaceconnector.model.representation.Representation;
+import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.model.rule.ContractRule;
+import io.dataspaceconnector.service.resource.base.EntityChangeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the serialized IDS descriptions of catalogs, offered resources, representations,
+ * artifacts and contracts in memory, so that frequently requested descriptions do not have to
+ * be built and serialized on every description request. As descriptions contain the related
+ * entities, all entries are dropped whenever one of these entities changes. Entries are stored
+ * with the generation of the cache they were rendered in, so that descriptions rendered before
+ * a change are never used after it.
+ */
+@Log4j2
+@Component
+public class IdsDescriptionCache {
+
+    /**
+     * The name of the cache in the exposed metrics.
+     */
+    public static final String CACHE_NAME = "ids.descriptions";
+
+    /**
+     * The serialized descriptions.
+     */
+    private final Cache<Key, String> cache;
+
+    /**
+     * Descriptions larger than this number of characters are not cached.
+     */
+    private final long maximumEntrySize;
+
+    /**
+     * Counts the changes of related entities. Descriptions are only valid within the generation
+     * they were rendered in.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param maximumWeight The maximum number of characters of all cached descriptions.
+     * @param maximumEntry  The maximum number of characters of a single cached description.
+     * @param meterRegistry Registry for the cache metrics, if available.
+     */
+    public IdsDescriptionCache(
+            @Value("${ids.description-cache.maximum-weight:16MB}") final DataSize maximumWeight,
+            @Value("${ids.description-cache.maximum-entry-size:1MB}") final DataSize maximumEntry,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.maximumEntrySize = maximumEntry.toBytes();
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight.toBytes())
+                .weigher((Key key, String value) -> value.length())
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry ->
+                CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    /**
+     * Get the serialized description of an entity. The description is only created if no
+     * description has been cached since the last change of a related entity.
+     *
+     * @param entity   The entity.
+     * @param renderer Creates the serialized description.
+     * @return The serialized description.
+     */
+    public String get(final @NonNull Entity entity, final @NonNull Supplier<String> renderer) {
+        if (entity.getId() == null) {
+            // Not persisted yet, nothing to cache.
+            return renderer.get();
+        }
+
+        final var key = new Key(entity.getId(), generation.get(), getBaseUrl());
+        final var cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var rdf = renderer.get();
+        if (key.getGeneration() != generation.get()) {
+            // A related entity changed while rendering, the description may be outdated. It is
+            // returned as it was requested before the change, but not cached.
+            return rdf;
+        }
+
+        if (rdf != null && rdf.length() <= maximumEntrySize) {
+            cache.put(key, rdf);
+        } else if (log.isDebugEnabled()) {
+            log.debug("Description too large to be cached. [id=({})]", entity.getId());
+        }
+
+        return rdf;
+    }
+
+    /**
+     * Drops all cached descriptions if an entity that may be part of them changed.
+     *
+     * @param event The entity change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleEntityChange(final EntityChangeEvent event) {
+        final var entity = event.getEntity();
+        if (entity == null
+                || entity instanceof Catalog
+                || entity instanceof OfferedResource
+                || entity instanceof Representation
+                || entity instanceof Artifact
+                || entity instanceof Contract
+                || entity instanceof ContractRule) {
+            generation.incrementAndGet();
+            cache.invalidateAll();
+        }
+    }
+
+    /**
+     * Get the approximate number of cached descriptions.
+     *
+     * @return The number of cached descriptions.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Get the base url the links in descriptions are built with. It depends on the current
+     * request, if there is one.
+     *
+     * @return The base url or an empty string if there is no current request.
+     */
+    private static String getBaseUrl() {
+        if (RequestContextHolder.getRequestAttributes() == null) {
+            return "";
+        }
+
+        return ServletUriComponentsBuilder.fromCurrentContextPath().toUriString();
+    }
+
+    /**
+     * Identifies a description of an entity rendered in a specific generation of the cache.
+     */
+    @Getter
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class Key {
+        /**
+         * The entity id.
+         */
+        private final UUID entityId;
+
+        /**
+         * The generation of the cache the description was rendered in.
+         */
+        private final long generation;
+
+        /**
+         * The base url of the links in the description.
+         */
+        private final String baseUrl;
+    }
+}
@@ -35,4 +35,16 @@ public class RouteStepLinker extends OwningRelationService<Route, Route, RouteSe
     public final List<Route> getInternal(final Route owner) {
         return owner.getSteps();
     }
+
+    /**
+     * Sub-routes are always linked through the route service, as persisting a route also
+     * redeploys it.
+     *
+     * @param relation The sub-routes as returned by the route.
+     * @return Always false.
+     */
+    @Override
+    protected final boolean isBulkUpdatable(final List<Route> relation) {
+        return false;
+    }
 }
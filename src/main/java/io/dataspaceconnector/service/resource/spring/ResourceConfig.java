@@ -85,6 +85,7 @@ import io.dataspaceconnector.service.resource.type.RuleService;
 import io.dataspaceconnector.service.resource.type.SubscriptionService;
 import io.dataspaceconnector.service.routing.BeanManager;
 import io.dataspaceconnector.service.routing.RouteHelper;
+import io.dataspaceconnector.service.storage.LocalDataStorage;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -116,6 +117,7 @@ public class ResourceConfig {
      * @param artifactRouteSvc The artifact-route-relation service.
      * @param retriever        The data retriever.
      * @param dispatcher       The route data dispatcher.
+     * @param storage          The storage backend for local data.
      * @return The artifact service bean.
      */
     @Bean("artifactService")
@@ -125,9 +127,10 @@ public class ResourceConfig {
             final AuthenticationRepository authRepo,
             final ArtifactRouteService artifactRouteSvc,
             final DataRetriever retriever,
-            final RouteDataDispatcher dispatcher) {
+            final RouteDataDispatcher dispatcher,
+            final LocalDataStorage storage) {
         return new ArtifactService(repository, new ArtifactFactory(),
-                dataRepository, authRepo, artifactRouteSvc, retriever, dispatcher);
+                dataRepository, authRepo, artifactRouteSvc, retriever, dispatcher, storage);
     }
 
     /**
@@ -42,9 +42,12 @@ import io.dataspaceconnector.service.resource.type.OfferedResourceService;
 import io.dataspaceconnector.service.resource.type.RepresentationService;
 import io.dataspaceconnector.service.resource.type.RequestedResourceService;
 import io.dataspaceconnector.service.resource.type.RuleService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.persistence.EntityManager;
+
 /**
  * Publishes templateBuilders to spring.
  */
@@ -59,6 +62,8 @@ public class TemplateConfig {
      * @param requestedLinker  The requested resource linker.
      * @param offeredBuilder   The offered resource builder.
      * @param requestedBuilder The requested resource builder.
+     * @param entityManager    The entity manager.
+     * @param batchSize        The number of offered resources persisted at once.
      * @return The catalog template builder bean.
      */
     @Bean("catalogTemplateBuilder")
@@ -67,9 +72,11 @@ public class TemplateConfig {
             final CatalogOfferedResourceLinker offeredLinker,
             final CatalogRequestedResourceLinker requestedLinker,
             final OfferedResourceTemplateBuilder offeredBuilder,
-            final RequestedResourceTemplateBuilder requestedBuilder) {
+            final RequestedResourceTemplateBuilder requestedBuilder,
+            final EntityManager entityManager,
+            @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") final int batchSize) {
         return new CatalogTemplateBuilder(catalogService, offeredLinker, requestedLinker,
-                offeredBuilder, requestedBuilder);
+                offeredBuilder, requestedBuilder, entityManager, batchSize);
     }
 
     /**
@@ -19,12 +19,17 @@ import io.dataspaceconnector.common.exception.ErrorMessage;
 import io.dataspaceconnector.common.util.Utils;
 import io.dataspaceconnector.model.catalog.Catalog;
 import io.dataspaceconnector.model.template.CatalogTemplate;
+import io.dataspaceconnector.service.resource.base.PersistenceBatch;
 import io.dataspaceconnector.service.resource.relation.CatalogOfferedResourceLinker;
 import io.dataspaceconnector.service.resource.relation.CatalogRequestedResourceLinker;
 import io.dataspaceconnector.service.resource.type.CatalogService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import javax.persistence.EntityManager;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
@@ -59,7 +64,18 @@ public class CatalogTemplateBuilder {
     private final @NonNull RequestedResourceTemplateBuilder requestedBuilder;
 
     /**
-     * Build a catalog and dependencies from a template.
+     * The entity manager, used for flushing batches of offered resources.
+     */
+    private final @NonNull EntityManager entityManager;
+
+    /**
+     * Number of offered resources written to the database at once.
+     */
+    private final int batchSize;
+
+    /**
+     * Build a catalog and dependencies from a template. The offered resources are persisted in
+     * batches of {@link #batchSize} resources.
      *
      * @param template The catalog template.
      * @return The new resource.
@@ -68,10 +84,7 @@ public class CatalogTemplateBuilder {
     public Catalog build(final CatalogTemplate template) {
         Utils.requireNonNull(template, ErrorMessage.ENTITY_NULL);
 
-        final var offeredIds =
-                Utils.toStream(template.getOfferedResources()).map(x -> offeredBuilder.build(x)
-                        .getId())
-                        .collect(Collectors.toSet());
+        final var offeredIds = PersistenceBatch.run(() -> buildOfferedResources(template));
 
         final var requestedIds =
                 Utils.toStream(template.getRequestedResources()).map(x -> requestedBuilder.build(x)
@@ -84,4 +97,24 @@ public class CatalogTemplateBuilder {
 
         return catalog;
     }
+
+    private Set<UUID> buildOfferedResources(final CatalogTemplate template) {
+        final var batched = entityManager.isJoinedToTransaction();
+        final var offeredIds = new HashSet<UUID>();
+        for (final var resource : Utils.toStream(template.getOfferedResources())
+                .collect(Collectors.toList())) {
+            offeredIds.add(offeredBuilder.build(resource).getId());
+
+            if (batched && batchSize > 0 && offeredIds.size() % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        if (batched) {
+            entityManager.flush();
+        }
+
+        return offeredIds;
+    }
 }
@@ -32,6 +32,7 @@ import io.dataspaceconnector.common.exception.ErrorMessage;
 import io.dataspaceconnector.common.exception.InvalidEntityException;
 import io.dataspaceconnector.common.exception.NotImplemented;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.dataretrieval.RetrievalInformation;
 import io.dataspaceconnector.common.routing.RouteDataDispatcher;
@@ -39,12 +40,14 @@ import io.dataspaceconnector.common.usagecontrol.AccessVerificationInput;
 import io.dataspaceconnector.common.usagecontrol.PolicyVerifier;
 import io.dataspaceconnector.common.usagecontrol.VerificationResult;
 import io.dataspaceconnector.common.util.Utils;
+import io.dataspaceconnector.extension.telemetry.TelemetrySpan;
 import io.dataspaceconnector.model.artifact.Artifact;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
 import io.dataspaceconnector.model.artifact.Data;
 import io.dataspaceconnector.model.artifact.LocalData;
+import io.dataspaceconnector.model.download.DownloadRequestEvent;
 import io.dataspaceconnector.model.artifact.RemoteData;
 import io.dataspaceconnector.model.base.AbstractFactory;
 import io.dataspaceconnector.model.route.Route;
@@ -57,6 +60,8 @@ import io.dataspaceconnector.service.DataRetriever;
 import io.dataspaceconnector.service.resource.base.BaseEntityService;
 import io.dataspaceconnector.service.resource.base.RemoteResolver;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
+import io.dataspaceconnector.service.storage.LocalDataStorage;
+import io.dataspaceconnector.service.storage.StoredData;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
@@ -99,6 +104,11 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      */
     private final @NonNull RouteDataDispatcher routeDispatcher;
 
+    /**
+     * Storage backend for local data.
+     */
+    private final @NonNull LocalDataStorage localDataStorage;
+
     /**
      * Constructor for ArtifactService.
      *
@@ -109,6 +119,7 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      * @param artifactRouteService     The Artifact-Route-relation service.
      * @param retriever                The data retriever.
      * @param routeDataDispatcher      The route data dispatcher.
+     * @param storage                  The storage backend for local data.
      */
     public ArtifactService(final BaseEntityRepository<Artifact> repository,
                            final AbstractFactory<Artifact, ArtifactDesc> factory,
@@ -116,13 +127,15 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
                            final @NonNull AuthenticationRepository authenticationRepository,
                            final @NonNull ArtifactRouteService artifactRouteService,
                            final @NonNull DataRetriever retriever,
-                           final @NonNull RouteDataDispatcher routeDataDispatcher) {
+                           final @NonNull RouteDataDispatcher routeDataDispatcher,
+                           final @NonNull LocalDataStorage storage) {
         super(repository, factory);
         this.dataRepo = dataRepository;
         this.authRepo = authenticationRepository;
         this.artifactRouteSvc = artifactRouteService;
         this.dataRetriever = retriever;
         this.routeDispatcher = routeDataDispatcher;
+        this.localDataStorage = storage;
     }
 
     /**
@@ -185,8 +198,9 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         Utils.requireNonNull(artifactId, ErrorMessage.ENTITYID_NULL);
         Utils.requireNonNull(desc, ErrorMessage.DESC_NULL);
 
-        var artifact = get(artifactId);
+        Artifact artifact = getWithData(artifactId);
         final var cached = SerializationUtils.clone(artifact);
+        final var previousKey = getStorageKey(artifact);
 
         if (getFactory().update(artifact, desc)) {
             final var tmp = (ArtifactImpl) artifact;
@@ -211,6 +225,10 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
                 final var factory = (ArtifactFactory) getFactory();
                 factory.updateByteSize(artifact, localData.getValue());
                 artifact = persist(artifact);
+                if (previousKey != null && !previousKey.equals(localData.getStorageKey())) {
+                    // The data row no longer references the externally stored data.
+                    localDataStorage.release(previousKey);
+                }
             } else if (tmp.getData() instanceof RemoteData remoteData) {
                 final var url = remoteData.getAccessUrl();
                 artifactRouteSvc.ensureSingleArtifactPerRoute(url, artifact.getId());
@@ -235,6 +253,11 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         return artifact;
     }
 
+    private static String getStorageKey(final Artifact artifact) {
+        return ((ArtifactImpl) artifact).getData() instanceof LocalData localData
+                ? localData.getStorageKey() : null;
+    }
+
     /**
      * Get the artifacts data. If agreements for this resource exist, all of them will be tried for
      * data access.
@@ -253,6 +276,7 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      * parameters is null.
      * @throws IOException                                                      if IO errors occur.
      */
+    @TelemetrySpan
     public InputStream getData(final PolicyVerifier<AccessVerificationInput> accessVerifier,
                                final ArtifactRetriever retriever, final UUID artifactId,
                                final QueryInput queryInput, final List<URI> routeIds)
@@ -265,9 +289,9 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
         }
 
         // The artifact is not assigned to any requested resources. It must be offered if it exists.
-        final var artifact = get(artifactId);
-        var data = dataRetriever.retrieveData((ArtifactImpl) artifact, queryInput);
-        return returnData(artifact, data, routeIds);
+        final var artifact = getWithData(artifactId);
+        var data = dataRetriever.retrieveData(artifact, queryInput);
+        return returnData(artifact, data, routeIds, null);
     }
 
     private InputStream tryToAccessDataByUsingAnyAgreement(
@@ -313,16 +337,18 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      * Increases the access counter before returning data. If a list of route IDs for dispatching
      * the data is specified, the data is dispatched via all referenced routes before returning it.
      *
-     * @param artifact The artifact.
-     * @param data     The data.
-     * @param routeIds The route IDs for dispatching data.
+     * @param artifact    The artifact.
+     * @param data        The data.
+     * @param routeIds    The route IDs for dispatching data.
+     * @param accessLimit The maximum number of accesses, null if not restricted.
      * @return The data.
      * @throws IOException if the data cannot be read or there is a failure in one of the
      *                     routes.
      */
     private InputStream returnData(final Artifact artifact, final InputStream data,
-                                   final List<URI> routeIds) throws IOException {
-        incrementAccessCounter(artifact);
+                                   final List<URI> routeIds, final Long accessLimit)
+            throws IOException {
+        incrementAccessCounter(artifact, data, accessLimit);
         return new DataDispatcher(routeIds, data).dispatch();
     }
 
@@ -344,27 +370,28 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      * parameters is null.
      * @throws IOException                                                      if IO errors occurr.
      */
+    @TelemetrySpan
     public InputStream getData(final PolicyVerifier<AccessVerificationInput> accessVerifier,
                                final ArtifactRetriever retriever, final UUID artifactId,
                                final RetrievalInformation information, final List<URI> routeIds)
             throws PolicyRestrictionException, IOException {
         // Check the artifact exists and access is granted.
-        final var artifact = get(artifactId);
-        verifyDataAccess(accessVerifier,
-                new AccessVerificationInput(information.getTransferContract(), artifact));
+        final var artifact = getWithData(artifactId);
+        final var verificationInput =
+                new AccessVerificationInput(information.getTransferContract(), artifact);
+        verifyDataAccess(accessVerifier, verificationInput);
 
         // Make sure the data exists and is up to date.
         if (shouldDownload(artifact, information)) {
             final var data = downloadAndUpdateData(retriever, artifactId, information, artifact,
                     routeIds);
-            incrementAccessCounter(artifact);
+            incrementAccessCounter(artifact, data, verificationInput.getAccessLimit());
             return data;
         }
 
         // Artifact exists, access granted, data exists and data up to date.
-        var data = dataRetriever.retrieveData((ArtifactImpl) artifact,
-                information.getQueryInput());
-        return returnData(artifact, data, routeIds);
+        var data = dataRetriever.retrieveData(artifact, information.getQueryInput());
+        return returnData(artifact, data, routeIds, verificationInput.getAccessLimit());
     }
 
     private void verifyDataAccess(final PolicyVerifier<AccessVerificationInput> accessVerifier,
@@ -384,21 +411,79 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
                                               final RetrievalInformation information,
                                               final Artifact artifact, final List<URI> routeIds)
             throws IOException {
-        final var dataStream = retriever.retrieve(artifactId,
-                artifact.getRemoteAddress(),
-                information.getTransferContract(),
-                information.getQueryInput());
+        try {
+            final var dataStream = retriever.retrieve(artifactId,
+                    artifact.getRemoteAddress(),
+                    information.getTransferContract(),
+                    information.getQueryInput());
 
-        if (routeIds != null && !routeIds.isEmpty()) {
-            return new DataDispatcher(routeIds, dataStream).dispatch();
-        } else {
-            return setData(artifactId, dataStream);
+            if (routeIds != null && !routeIds.isEmpty()) {
+                return new DataDispatcher(routeIds, dataStream).dispatch();
+            } else {
+                return setData(artifactId, dataStream);
+            }
+        } catch (PolicyRestrictionException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            // Fetch the data in the background, so it is available for the next access.
+            if (information.getQueryInput() == null && artifact.getRemoteAddress() != null) {
+                publishEvent(new DownloadRequestEvent(artifact.getRemoteAddress(),
+                        artifact.getRemoteId(), information.getTransferContract()));
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Increments the access counter of an artifact in the database. If the number of accesses is
+     * restricted, the counter is only incremented while it is below the limit, so concurrent
+     * requests cannot exceed it.
+     *
+     * @param artifact    The artifact.
+     * @param data        The data that will be returned. Closed if the access is denied.
+     * @param accessLimit The maximum number of accesses, null if not restricted.
+     * @throws PolicyRestrictionException if the maximum number of accesses has been reached.
+     * @throws IOException                if the data cannot be closed.
+     */
+    private void incrementAccessCounter(final Artifact artifact, final InputStream data,
+                                        final Long accessLimit) throws IOException {
+        final var max = accessLimit == null ? Long.MAX_VALUE : accessLimit;
+        final var updated = ((ArtifactRepository) getRepository())
+                .incrementAccessCounter(artifact.getId(), max);
+        if (updated == 0 && accessLimit != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Access number reached. [artifactId=({})]", artifact.getId());
+            }
+
+            data.close();
+            throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_NUMBER_REACHED);
         }
     }
 
-    private void incrementAccessCounter(final Artifact artifact) {
-        artifact.incrementAccessCounter();
-        persist(artifact);
+    /**
+     * Check whether the data of an artifact is stored locally. Only then the byte size and
+     * checksum of the artifact describe the data returned for it.
+     *
+     * @param artifactId The id of the artifact.
+     * @return True if the artifact holds local data.
+     */
+    public boolean hasLocalData(final UUID artifactId) {
+        Utils.requireNonNull(artifactId, ErrorMessage.ENTITYID_NULL);
+        return ((ArtifactRepository) getRepository()).hasLocalData(artifactId);
+    }
+
+    /**
+     * Get the number of accesses of an artifact without loading the artifact.
+     *
+     * @param artifactId The id of the artifact.
+     * @return The number of accesses.
+     * @throws ResourceNotFoundException if the artifact does not exist.
+     */
+    public long getAccessNumber(final UUID artifactId) {
+        Utils.requireNonNull(artifactId, ErrorMessage.ENTITYID_NULL);
+        return ((ArtifactRepository) getRepository()).findNumAccessed(artifactId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        this.getClass().getSimpleName() + ": " + artifactId));
     }
 
     private boolean shouldDownload(final Artifact artifact,
@@ -451,8 +536,8 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      */
     @NonNull
     public InputStream setData(final UUID artifactId, final InputStream data) throws IOException {
-        final var artifact = get(artifactId);
-        final var currentData = ((ArtifactImpl) artifact).getData();
+        final var artifact = getWithData(artifactId);
+        final var currentData = artifact.getData();
         if (currentData instanceof LocalData localData) {
             return setLocalData(artifactId, data, artifact, localData);
         } else {
@@ -461,23 +546,27 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
     }
 
     @NonNull
-    private ByteArrayInputStream setLocalData(final UUID artifactId,
-                                              final InputStream data,
-                                              final Artifact artifact,
-                                              final LocalData localData)
+    private InputStream setLocalData(final UUID artifactId,
+                                     final InputStream data,
+                                     final Artifact artifact,
+                                     final LocalData localData)
             throws IOException {
         try {
-            // Update the internal database and return the new data.
-            final var bytes = data.readAllBytes();
-            data.close();
-            dataRepo.setLocalData(localData.getId(), bytes);
-            if (((ArtifactFactory) getFactory()).updateByteSize(artifact, bytes)) {
+            // Update the storage and return the new data.
+            final StoredData stored;
+            try (data) {
+                stored = localDataStorage.write(localData, data);
+            }
+
+            if (((ArtifactFactory) getFactory()).updateByteSize(artifact, stored.getByteSize(),
+                    stored.getCheckSum())) {
                 ((ArtifactRepository) getRepository()).setArtifactData(artifactId,
                         artifact.getCheckSum(),
                         artifact.getByteSize());
+                publishChange(artifactId, artifact);
             }
 
-            return new ByteArrayInputStream(bytes);
+            return localDataStorage.read(localData);
         } catch (IOException e) {
             if (log.isErrorEnabled()) {
                 log.error("Failed to store data. [artifactId=({}), exception=({})]",
@@ -499,7 +588,7 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
     public void delete(final UUID artifactId) {
         Utils.requireNonNull(artifactId, ErrorMessage.ENTITYID_NULL);
 
-        final var artifact = (ArtifactImpl) get(artifactId);
+        final var artifact = getWithData(artifactId);
         artifactRouteSvc.removeRouteLink(artifact);
 
         getRepository().deleteById(artifactId);
@@ -525,17 +614,35 @@ public class ArtifactService extends BaseEntityService<Artifact, ArtifactDesc>
      * @return True if artifact data null, else false.
      */
     public boolean isDataDeleted(final UUID artifactId) {
-        final var artifact = get(artifactId);
-        final var currentData = ((ArtifactImpl) artifact).getData();
+        final var currentData = getWithData(artifactId).getData();
         if (currentData instanceof LocalData localData) {
             final var value = localData.getValue();
-            return (value == null || !(value.length > 0));
+            return localData.getStorageKey() == null && (value == null || !(value.length > 0));
         } else {
             // Only local data deletion supported.
             return false;
         }
     }
 
+    /**
+     * Get an artifact and make sure its data is loaded. The data of an artifact is fetched lazily
+     * and could not be accessed later if the artifact is used outside of a persistence context.
+     *
+     * @param artifactId The id of the artifact.
+     * @return The artifact with its data.
+     * @throws ResourceNotFoundException if the artifact does not exist.
+     */
+    private ArtifactImpl getWithData(final UUID artifactId) {
+        final var artifact = (ArtifactImpl) get(artifactId);
+        if (artifact.isDataLoaded()) {
+            return artifact;
+        }
+
+        return ((ArtifactRepository) getRepository()).findWithDataById(artifactId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        this.getClass().getSimpleName() + ": " + artifactId));
+    }
+
     /**
      * Dispatches data via Camel routes.
      */
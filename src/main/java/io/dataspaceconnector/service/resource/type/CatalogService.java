@@ -15,12 +15,17 @@
  */
 package io.dataspaceconnector.service.resource.type;
 
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.util.Utils;
 import io.dataspaceconnector.model.base.AbstractFactory;
 import io.dataspaceconnector.model.catalog.Catalog;
 import io.dataspaceconnector.model.catalog.CatalogDesc;
 import io.dataspaceconnector.repository.BaseEntityRepository;
+import io.dataspaceconnector.repository.CatalogRepository;
 import io.dataspaceconnector.service.resource.base.BaseEntityService;
 
+import java.net.URI;
+
 /**
  * Handles the basic logic for catalogs.
  */
@@ -36,4 +41,15 @@ public class CatalogService extends BaseEntityService<Catalog, CatalogDesc> {
                           final AbstractFactory<Catalog, CatalogDesc> factory) {
         super(repository, factory);
     }
+
+    /**
+     * Check whether a catalog with the given bootstrap id has already been registered.
+     *
+     * @param bootstrapId The bootstrap id of the catalog.
+     * @return True if such a catalog exists.
+     */
+    public boolean existsByBootstrapId(final URI bootstrapId) {
+        Utils.requireNonNull(bootstrapId, ErrorMessage.URI_NULL);
+        return ((CatalogRepository) getRepository()).existsByBootstrapId(bootstrapId);
+    }
 }
@@ -16,6 +16,7 @@
 package io.dataspaceconnector.service.resource.type;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
@@ -132,6 +133,22 @@ public class SubscriptionService extends BaseEntityService<Subscription, Subscri
         return ((SubscriptionRepository) getRepository()).findAllByTarget(target);
     }
 
+    /**
+     * Get all subscriptions with one of the given targets.
+     *
+     * @param targets The target ids.
+     * @return All matching subscriptions.
+     * @throws IllegalArgumentException if a passed parameter is null.
+     */
+    public List<Subscription> getByTargets(final Collection<URI> targets) {
+        Utils.requireNonNull(targets, ErrorMessage.ENTITYID_NULL);
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+
+        return ((SubscriptionRepository) getRepository()).findAllByTargetIn(targets);
+    }
+
     /**
      * Remove subscription with given target id and issuer uri.
      *
@@ -67,9 +67,22 @@ public class BeanManager {
      * @param dataSource input containing all required parameters for creating the bean.
      * @throws BeanCreationException if creating the bean fails.
      */
-    @SuppressFBWarnings("TEMPLATE_INJECTION_FREEMARKER")
     public void createDataSourceBean(final DatabaseDataSource dataSource)
             throws BeanCreationException {
+        loadBeans(renderDataSourceBean(dataSource));
+    }
+
+    /**
+     * Creates the XML bean definition for a {@link DatabaseDataSource} without adding it to the
+     * application context. Can be called concurrently.
+     *
+     * @param dataSource input containing all required parameters for creating the bean.
+     * @return the XML bean definition.
+     * @throws BeanCreationException if creating the bean definition fails.
+     */
+    @SuppressFBWarnings("TEMPLATE_INJECTION_FREEMARKER")
+    public String renderDataSourceBean(final DatabaseDataSource dataSource)
+            throws BeanCreationException {
         final var freemarkerInput = new HashMap<String, Object>();
 
         freemarkerInput.put("dataSourceId", dataSource.getId());
@@ -84,8 +97,7 @@ public class BeanManager {
             final var template = freemarkerConfig.getTemplate("datasource_bean_template.ftl");
             final var writer = new StringWriter();
             template.process(freemarkerInput, writer);
-            final var xml = writer.toString();
-            beanReader.loadBeanDefinitions(new InputSource(new StringReader(xml)));
+            return writer.toString();
         } catch (IOException | TemplateException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Failed to create data source bean. [exception=({})]", e.getMessage());
@@ -95,6 +107,15 @@ public class BeanManager {
         }
     }
 
+    /**
+     * Adds the beans of an XML bean definition to the application context.
+     *
+     * @param xml the XML bean definition.
+     */
+    public void loadBeans(final String xml) {
+        beanReader.loadBeanDefinitions(new InputSource(new StringReader(xml)));
+    }
+
     /**
      * Deletes a data source bean corresponding to a {@link DatabaseDataSource}.
      *
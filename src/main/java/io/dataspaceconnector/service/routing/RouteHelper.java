@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.service.routing;
 
+import de.fraunhofer.iais.eis.AppRoute;
 import io.dataspaceconnector.common.exception.RouteCreationException;
 import io.dataspaceconnector.common.exception.RouteDeletionException;
 import io.dataspaceconnector.model.configuration.DeployMethod;
@@ -24,6 +25,9 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Helper class for deploying Camel routes from {@link Route} objects.
  */
@@ -58,6 +62,30 @@ public class RouteHelper {
         }
     }
 
+    /**
+     * Maps the routes that should be deployed via Camel to ids
+     * {@link de.fraunhofer.iais.eis.AppRoute}s, which can be deployed at once using the
+     * {@link RouteManager}. Routes that should not be deployed are removed from Camel, if they
+     * have been deployed before.
+     *
+     * @param routes the routes.
+     * @return the app routes of the routes that should be deployed.
+     * @throws RouteDeletionException if a Camel route that should not be deployed cannot be
+     * deleted.
+     */
+    public List<AppRoute> createAppRoutes(final List<Route> routes) {
+        final var appRoutes = new ArrayList<AppRoute>();
+        for (final var route : routes) {
+            if (shouldDeploy(route)) {
+                appRoutes.add(appRouteBuilder.create(route));
+            } else {
+                delete(route);
+            }
+        }
+
+        return appRoutes;
+    }
+
     /**
      * Checks whether a route should be deployed via Camel. If both start and end of the route are
      * undefined, the route should not be deployed. If the end of the route is null, the route
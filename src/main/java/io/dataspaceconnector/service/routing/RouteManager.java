@@ -27,6 +27,7 @@ import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import io.dataspaceconnector.common.exception.RouteCreationException;
 import io.dataspaceconnector.common.exception.RouteDeletionException;
+import io.dataspaceconnector.config.camel.UnmarshallerPool;
 import io.dataspaceconnector.model.route.Route;
 import io.dataspaceconnector.service.routing.config.RouteConfigurer;
 import io.dataspaceconnector.service.routing.dto.RouteStepEndpoint;
@@ -36,22 +37,27 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.camel.CamelContext;
 import org.apache.camel.model.ModelCamelContext;
+import org.apache.camel.model.RouteDefinition;
 import org.apache.camel.model.RoutesDefinition;
 import org.apache.commons.codec.binary.Base64;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
 
-import javax.xml.bind.Unmarshaller;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import static io.dataspaceconnector.common.util.Utils.escapeForXml;
 
@@ -75,15 +81,20 @@ public class RouteManager {
     private final @NonNull RouteConfigurer routeConfigurer;
 
     /**
-     * Unmarshaller for reading route definitions from XML.
+     * Unmarshallers for reading route definitions from XML.
      */
-    private final @NonNull Unmarshaller unmarshaller;
+    private final @NonNull UnmarshallerPool unmarshallerPool;
 
     /**
      * The Camel context for deploying routes.
      */
     private final @NonNull CamelContext camelContext;
 
+    /**
+     * The XML routes already generated from the route templates.
+     */
+    private final @NonNull RouteTemplateCache templateCache;
+
     /**
      * Creates a Camel XML route from a given app route. The generated XML route is then added to
      * the application's Camel context for execution.
@@ -92,6 +103,100 @@ public class RouteManager {
      * @throws RouteCreationException if the Camel route cannot be created or deployed
      */
     public void createAndDeployXMLRoute(final AppRoute appRoute) throws RouteCreationException {
+        final var routes = createXMLRoute(appRoute);
+
+        try {
+            deployRoutes(routes.getRoutes());
+        } catch (Exception exception) {
+            if (log.isDebugEnabled()) {
+                log.debug("Failed to create Camel route. [appRouteId=({}), exception=({})]",
+                        appRoute.getId(), exception.getMessage());
+            }
+            throw new RouteCreationException("Error creating Camel route for AppRoute with ID '"
+                    + appRoute.getId() + "'", exception);
+        }
+    }
+
+    /**
+     * Creates Camel XML routes from a list of app routes and adds them to the application's
+     * Camel context. The templates are populated and parsed concurrently, the resulting routes
+     * are added to the Camel context at once. A route that cannot be created does not prevent
+     * the other routes from being deployed.
+     *
+     * @param appRoutes the app routes to create Camel routes for.
+     * @return the errors of the app routes that could not be created or deployed, by app route
+     * id. Empty if all routes have been deployed.
+     */
+    public Map<URI, RouteCreationException> createAndDeployXMLRoutes(
+            final List<AppRoute> appRoutes) {
+        final var errors = new ConcurrentHashMap<URI, RouteCreationException>();
+        deployXMLRoutes(createXMLRoutes(appRoutes, errors), errors);
+        return errors;
+    }
+
+    /**
+     * Creates the Camel XML route definitions for a list of app routes without adding them to
+     * the Camel context. The templates are populated and parsed concurrently.
+     *
+     * @param appRoutes the app routes to create Camel routes for.
+     * @param errors    receives the errors of the app routes that could not be created, by app
+     *                  route id.
+     * @return the route definitions by app route id, in the order of the app routes.
+     */
+    public Map<URI, List<RouteDefinition>> createXMLRoutes(
+            final List<AppRoute> appRoutes, final Map<URI, RouteCreationException> errors) {
+        final var routes = new LinkedHashMap<URI, List<RouteDefinition>>();
+        appRoutes.parallelStream()
+                .map(appRoute -> {
+                    try {
+                        return Map.entry(appRoute.getId(), createXMLRoute(appRoute).getRoutes());
+                    } catch (RouteCreationException exception) {
+                        errors.put(appRoute.getId(), exception);
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .forEachOrdered(entry -> routes.put(entry.getKey(), entry.getValue()));
+        return routes;
+    }
+
+    /**
+     * Adds Camel route definitions to the Camel context at once. If that fails, the routes are
+     * added one app route at a time to find the routes that cannot be deployed.
+     *
+     * @param routes the route definitions by app route id.
+     * @param errors receives the errors of the app routes that could not be deployed, by app
+     *               route id.
+     */
+    public void deployXMLRoutes(final Map<URI, List<RouteDefinition>> routes,
+                                final Map<URI, RouteCreationException> errors) {
+        try {
+            deployRoutes(routes.values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList()));
+        } catch (Exception batchException) {
+            for (final var entry : routes.entrySet()) {
+                try {
+                    deployRoutes(entry.getValue());
+                } catch (Exception exception) {
+                    errors.put(entry.getKey(), new RouteCreationException("Error creating "
+                            + "Camel route for AppRoute with ID '" + entry.getKey() + "'",
+                            exception));
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the Camel XML route definitions for a given app route without adding them to the
+     * Camel context. Can be called concurrently.
+     *
+     * @param appRoute the app route to create a Camel route for.
+     * @return the route definitions.
+     * @throws RouteCreationException if the Camel route cannot be created.
+     */
+    private RoutesDefinition createXMLRoute(final AppRoute appRoute)
+            throws RouteCreationException {
         final var freemarkerInput = new HashMap<String, Object>();
 
         // Create id for Camel route.
@@ -110,7 +215,7 @@ public class RouteManager {
                 (ArrayList<? extends RouteStep>) appRoute.getHasSubRoute());
 
         try {
-            createAndDeployRoute(appRoute, freemarkerInput);
+            return createRoute(appRoute, freemarkerInput);
         } catch (Exception exception) {
             if (log.isDebugEnabled()) {
                 log.debug("Failed to create Camel route. [appRouteId=({}), exception=({})]",
@@ -121,6 +226,21 @@ public class RouteManager {
         }
     }
 
+    /**
+     * Adds route definitions to the Camel context, which starts the routes.
+     *
+     * @param routes the route definitions.
+     * @throws Exception if the routes cannot be added.
+     */
+    private void deployRoutes(final List<RouteDefinition> routes) throws Exception {
+        camelContext.adapt(ModelCamelContext.class).addRouteDefinitions(routes);
+        if (log.isDebugEnabled()) {
+            for (final var route : routes) {
+                log.debug("Added route to Camel context. [routeId=({})]", route.getRouteId());
+            }
+        }
+    }
+
     /**
      * Extracts the URL of the {@link AppRoute}'s start and adds it to the input map.
      *
@@ -274,17 +394,18 @@ public class RouteManager {
     }
 
     /**
-     * Creates and deploys a Camel route for the Dataspace Connector. First, Dataspace Connector
+     * Creates a Camel route for the Dataspace Connector. First, Dataspace Connector
      * specific configuration is added to the input map, which should already contain
      * general route information. Then, the correct route template for the given AppRoute object
-     * is chosen from the templates. Last, the generated XML route is added to the Camel context.
+     * is chosen from the templates. Last, the generated XML route is parsed.
      *
      * @param appRoute        the AppRoute object.
      * @param freemarkerInput the input map.
-     * @throws Exception if the route file cannot be created or deployed.
+     * @return the parsed route definitions.
+     * @throws Exception if the route file cannot be created.
      */
-    private void createAndDeployRoute(final AppRoute appRoute,
-                                      final Map<String, Object> freemarkerInput)
+    private RoutesDefinition createRoute(final AppRoute appRoute,
+                                         final Map<String, Object> freemarkerInput)
             throws Exception {
 
         if (log.isDebugEnabled()) {
@@ -302,16 +423,11 @@ public class RouteManager {
 
         if (template != null) {
             // Populate route template with properties from input map to create route.
-            final var writer = populateTemplate(template, freemarkerInput);
+            final var xml = templateCache.get(template, freemarkerInput,
+                    () -> populateTemplate(template, freemarkerInput).toString());
 
-            final var inputStream = new ByteArrayInputStream(writer.toString()
-                    .getBytes(StandardCharsets.UTF_8));
-            final var routes = (RoutesDefinition) unmarshaller.unmarshal(inputStream);
-            camelContext.adapt(ModelCamelContext.class).addRouteDefinitions(routes.getRoutes());
-            if (log.isDebugEnabled()) {
-                log.debug("Added route to Camel context. [routeId=({})]",
-                        freemarkerInput.get("routeId"));
-            }
+            final var inputStream = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+            return (RoutesDefinition) unmarshallerPool.unmarshal(inputStream);
         } else {
             if (log.isWarnEnabled()) {
                 log.warn("Template is null. Unable to create XML route file for AppRoute. "
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.routing;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps the Camel XML routes generated from the route templates in memory. Routes are generated
+ * again whenever an app route is updated or redeployed, mostly with unchanged parameters, so
+ * the template does not have to be populated again for the same template and parameters.
+ */
+@Component
+public class RouteTemplateCache {
+
+    /**
+     * The name of the cache in the exposed metrics.
+     */
+    public static final String CACHE_NAME = "camel.routes";
+
+    /**
+     * The generated XML routes.
+     */
+    private final Cache<Key, String> cache;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize   The maximum number of cached routes.
+     * @param meterRegistry Registry for the cache metrics, if available.
+     */
+    public RouteTemplateCache(
+            @Value("${camel.route-cache.maximum-size:1000}") final long maximumSize,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+
+        meterRegistry.ifAvailable(registry ->
+                CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME));
+    }
+
+    /**
+     * Get the XML route generated from a template and its parameters. The template is only
+     * populated if no route for the same template and parameters is cached.
+     *
+     * @param template The route template.
+     * @param input    The parameters inserted into the template.
+     * @param renderer Populates the template.
+     * @return The XML route.
+     * @throws IOException       if populating the template fails.
+     * @throws TemplateException if populating the template fails.
+     */
+    public String get(final Template template, final Map<String, Object> input,
+                      final Renderer renderer) throws IOException, TemplateException {
+        final var key = new Key(template.getName(), new HashMap<>(input));
+        final var cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var xml = renderer.render();
+        cache.put(key, xml);
+        return xml;
+    }
+
+    /**
+     * Get the approximate number of cached routes.
+     *
+     * @return The number of cached routes.
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * Populates a route template.
+     */
+    @FunctionalInterface
+    public interface Renderer {
+        /**
+         * Populates the template.
+         *
+         * @return The XML route.
+         * @throws IOException       if populating the template fails.
+         * @throws TemplateException if populating the template fails.
+         */
+        String render() throws IOException, TemplateException;
+    }
+
+    /**
+     * Identifies a route by its template and parameters.
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class Key {
+        /**
+         * The name of the template.
+         */
+        private final String template;
+
+        /**
+         * The parameters inserted into the template.
+         */
+        private final Map<String, Object> input;
+    }
+}
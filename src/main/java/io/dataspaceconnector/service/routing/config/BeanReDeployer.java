@@ -29,10 +29,14 @@ import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 /**
  * Re-creates beans for persisted data sources and adds them to the application context on
- * application start.
+ * application start. The bean definitions are created concurrently.
  */
 @Component("beanReDeployer")
 @RequiredArgsConstructor
@@ -49,28 +53,59 @@ public class BeanReDeployer {
      */
     private final @NonNull DataSourceRepository repository;
 
+    /**
+     * Measures the phases of the redeployment.
+     */
+    private final @NonNull StartupMetrics startupMetrics;
+
     /**
      * Re-creates the datasource beans for all persisted DataSources.
      */
     @PostConstruct
     public void recreateDataSourceBeans() {
-        final var dataSources = repository.findAll();
-        for (var dataSource : dataSources) {
-            if (dataSource instanceof DatabaseDataSource databaseDataSource) {
-                try {
-                    beanManager.createDataSourceBean(databaseDataSource);
-                    if (log.isDebugEnabled()) {
-                        log.debug("Added datasource bean to the application context."
-                                + " [id=({})]", dataSource.getId());
-                    }
-                } catch (BeanCreationException exception) {
-                    if (log.isWarnEnabled()) {
-                        log.warn("Failed to recreate datasource bean. Some routes might not"
-                                + " work correctly. [exception=({})]", exception.getMessage());
-                    }
-                }
+        final var dataSources = startupMetrics.record("datasources.load", () ->
+                repository.findAll().stream()
+                        .filter(DatabaseDataSource.class::isInstance)
+                        .map(DatabaseDataSource.class::cast)
+                        .collect(Collectors.toList()));
+
+        final var beans = startupMetrics.record("datasources.render", () ->
+                dataSources.parallelStream()
+                        .map(this::render)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toList()));
+
+        startupMetrics.record("datasources.register", () -> beans.forEach(this::register));
+    }
+
+    /**
+     * Creates the bean definition for a data source.
+     *
+     * @param dataSource the data source.
+     * @return the bean definition and its data source id, or null if it cannot be created.
+     */
+    private Map.Entry<UUID, String> render(final DatabaseDataSource dataSource) {
+        try {
+            return Map.entry(dataSource.getId(), beanManager.renderDataSourceBean(dataSource));
+        } catch (BeanCreationException exception) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to recreate datasource bean. Some routes might not"
+                        + " work correctly. [exception=({})]", exception.getMessage());
             }
+            return null;
         }
     }
 
+    /**
+     * Adds the bean of a data source to the application context.
+     *
+     * @param bean the bean definition and its data source id.
+     */
+    private void register(final Map.Entry<UUID, String> bean) {
+        beanManager.loadBeans(bean.getValue());
+        if (log.isDebugEnabled()) {
+            log.debug("Added datasource bean to the application context."
+                    + " [id=({})]", bean.getKey());
+        }
+    }
 }
@@ -16,15 +16,22 @@
 package io.dataspaceconnector.service.routing.config;
 
 import javax.annotation.PostConstruct;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import io.dataspaceconnector.common.exception.RouteCreationException;
-import io.dataspaceconnector.model.route.Route;
 import io.dataspaceconnector.repository.RouteRepository;
 import io.dataspaceconnector.service.routing.RouteHelper;
+import io.dataspaceconnector.service.routing.RouteManager;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.camel.model.RouteDefinition;
 import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.DependsOn;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -58,28 +65,61 @@ public class RouteReDeployer extends TransactionCallbackWithoutResult {
     private final @NonNull RouteRepository routeRepository;
 
     /**
-     * Re-deploys all persisted routes in Camel.
+     * Creates the Camel routes from the route templates.
+     */
+    private final @NonNull RouteManager routeManager;
+
+    /**
+     * Measures the phases of the redeployment.
+     */
+    private final @NonNull StartupMetrics startupMetrics;
+
+    /**
+     * The number of Camel routes added to the Camel context at once.
+     */
+    @Value("${camel.route-redeploy.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * Re-deploys all persisted routes in Camel. The Camel routes are created concurrently and
+     * deployed in batches. If a Camel route cannot be created, a warning is logged.
      *
      * @param status the associated transaction status
      */
     @Override
     protected void doInTransactionWithoutResult(@NotNull final TransactionStatus status) {
-        final var routes = routeRepository.findAllTopLevelRoutes();
-        routes.forEach(this::redeploy);
+        final var appRoutes = startupMetrics.record("routes.load", () ->
+                routeHelper.createAppRoutes(routeRepository.findAllTopLevelRoutes()));
+
+        final var errors = new ConcurrentHashMap<URI, RouteCreationException>();
+        final var routes = startupMetrics.record("routes.render", () ->
+                routeManager.createXMLRoutes(appRoutes, errors));
+        startupMetrics.record("routes.deploy", () -> deployInBatches(routes, errors));
+
+        errors.forEach((appRouteId, exception) ->
+                log.warn("Failed to redeploy persisted route. [routeId=({}), exception=({})]",
+                        appRouteId, exception.getMessage()));
     }
 
     /**
-     * Redeploys a persisted route. If the corresponding Camel route cannot be created, a warning
-     * is logged.
+     * Adds the Camel routes to the Camel context, a batch at a time.
      *
-     * @param route the route to redeploy.
+     * @param routes the route definitions by app route id.
+     * @param errors receives the errors of the routes that could not be deployed.
      */
-    private void redeploy(final Route route) {
-        try {
-            routeHelper.deploy(route);
-        } catch (RouteCreationException exception) {
-            log.warn("Failed to redeploy persisted route. [routeId=({}), exception=({})]",
-                    route.getId(), exception.getMessage());
+    private void deployInBatches(final Map<URI, List<RouteDefinition>> routes,
+                                 final Map<URI, RouteCreationException> errors) {
+        var batch = new LinkedHashMap<URI, List<RouteDefinition>>();
+        for (final var entry : routes.entrySet()) {
+            batch.put(entry.getKey(), entry.getValue());
+            if (batch.size() >= batchSize) {
+                routeManager.deployXMLRoutes(batch, errors);
+                batch = new LinkedHashMap<>();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            routeManager.deployXMLRoutes(batch, errors);
         }
     }
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.routing.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Measures the phases of redeploying persisted routes and beans on application start. The
+ * duration of every phase is logged and exposed as a timer, if metrics are available.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class StartupMetrics {
+
+    /**
+     * The name of the timer in the exposed metrics. The phase is added as tag.
+     */
+    public static final String TIMER_NAME = "dsc.startup.phase";
+
+    /**
+     * Registry for the timers, if available.
+     */
+    private final @NonNull ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * Runs a phase and records its duration.
+     *
+     * @param <T>   The type of the result.
+     * @param phase The name of the phase.
+     * @param task  The work done in the phase.
+     * @return The result of the phase.
+     */
+    public <T> T record(final String phase, final Supplier<T> task) {
+        final var start = System.nanoTime();
+        try {
+            return task.get();
+        } finally {
+            final var duration = Duration.ofNanos(System.nanoTime() - start);
+            meterRegistry.ifAvailable(registry -> Timer.builder(TIMER_NAME)
+                    .description("Duration of the phases of the application start.")
+                    .tag("phase", phase)
+                    .register(registry)
+                    .record(duration));
+
+            if (log.isInfoEnabled()) {
+                log.info("Finished startup phase. [phase=({}), duration=({} ms)]", phase,
+                        duration.toMillis());
+            }
+        }
+    }
+
+    /**
+     * Runs a phase and records its duration.
+     *
+     * @param phase The name of the phase.
+     * @param task  The work done in the phase.
+     */
+    public void record(final String phase, final Runnable task) {
+        record(phase, () -> {
+            task.run();
+            return null;
+        });
+    }
+}
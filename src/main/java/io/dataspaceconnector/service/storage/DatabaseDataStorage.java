@@ -0,0 +1,91 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.storage;
+
+import io.dataspaceconnector.model.artifact.LocalData;
+import io.dataspaceconnector.repository.DataRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * Keeps local data inside the data row of the internal database. This is the default storage.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "storage.localdata", value = "type", havingValue = "database",
+        matchIfMissing = true)
+public class DatabaseDataStorage implements LocalDataStorage {
+
+    /**
+     * Repository for storing data.
+     */
+    private final @NonNull DataRepository dataRepo;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StoredData write(final LocalData data, final InputStream stream) throws IOException {
+        final var checked = new CheckedInputStream(stream, new CRC32C());
+        final var bytes = checked.readAllBytes();
+
+        dataRepo.setLocalData(data.getId(), bytes);
+        data.setValue(bytes);
+        data.setStorageKey(null);
+
+        return new StoredData(bytes.length, checked.getChecksum().getValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream read(final LocalData data) throws IOException {
+        if (data.getStorageKey() != null) {
+            if (log.isWarnEnabled()) {
+                log.warn("Data is kept in an external storage that is not configured. "
+                        + "[storageKey=({})]", data.getStorageKey());
+            }
+
+            throw new IOException("Data is kept in an external storage that is not configured.");
+        }
+
+        final var value = data.getValue();
+        return value == null ? InputStream.nullInputStream() : new ByteArrayInputStream(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(final String storageKey) {
+        // Data kept in the data row is removed together with the row.
+    }
+}
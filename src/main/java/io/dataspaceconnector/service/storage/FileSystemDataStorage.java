@@ -0,0 +1,293 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.dataspaceconnector.model.artifact.LocalData;
+import io.dataspaceconnector.repository.DataRepository;
+import lombok.NonNull;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * Keeps local data as files in a content-addressed directory. The data row only holds the
+ * SHA-256 digest of the content, so identical payloads are stored once and data is streamed
+ * from and to disk without being loaded into memory. Storing and releasing a file are serialized
+ * per storage key: a new reference holds the lock of its key until its transaction completed,
+ * and files are only released after the transaction dropping the reference has been committed.
+ */
+@Log4j2
+@Component
+@ConditionalOnProperty(prefix = "storage.localdata", value = "type", havingValue = "filesystem")
+public class FileSystemDataStorage implements LocalDataStorage {
+
+    /**
+     * The digest algorithm used for addressing the stored files.
+     */
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /**
+     * The format of valid storage keys.
+     */
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{64}");
+
+    /**
+     * The number of key characters used for the sub-directory of a file.
+     */
+    private static final int PREFIX_LENGTH = 2;
+
+    /**
+     * The number of seconds to wait for the lock of a storage key.
+     */
+    private static final long LOCK_TIMEOUT_SECONDS = 30;
+
+    /**
+     * Repository for storing data.
+     */
+    private final @NonNull DataRepository dataRepo;
+
+    /**
+     * The root directory of the storage.
+     */
+    private final @NonNull Path root;
+
+    /**
+     * The locks of the storage keys that are currently stored or released.
+     */
+    private final Cache<String, ReentrantLock> locks = Caffeine.newBuilder().weakValues().build();
+
+    /**
+     * Constructor for FileSystemDataStorage.
+     *
+     * @param dataRepository The data repository.
+     * @param path           The root directory of the storage.
+     */
+    public FileSystemDataStorage(final @NonNull DataRepository dataRepository,
+                                 @Value("${storage.localdata.path:./data}") final String path) {
+        this.dataRepo = dataRepository;
+        this.root = Path.of(path);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StoredData write(final LocalData data, final InputStream stream) throws IOException {
+        Files.createDirectories(root);
+        final var tmp = Files.createTempFile(root, "upload-", ".tmp");
+        try {
+            final var digest = createDigest();
+            final var checked = new CheckedInputStream(
+                    new DigestInputStream(stream, digest), new CRC32C());
+            final var byteSize = Files.copy(checked, tmp, StandardCopyOption.REPLACE_EXISTING);
+            final var checkSum = checked.getChecksum().getValue();
+
+            final var previousKey = data.getStorageKey();
+            if (byteSize == 0) {
+                dataRepo.setLocalData(data.getId(), null);
+                data.setValue(null);
+                data.setStorageKey(null);
+            } else {
+                final var key = HexFormat.of().formatHex(digest.digest());
+                final var lock = lock(key);
+                try {
+                    moveToStorage(tmp, resolve(key));
+                    dataRepo.setLocalDataReference(data.getId(), key);
+                } finally {
+                    unlockAfterTransaction(lock);
+                }
+                data.setValue(null);
+                data.setStorageKey(key);
+            }
+
+            if (previousKey != null && !previousKey.equals(data.getStorageKey())) {
+                release(previousKey);
+            }
+
+            return new StoredData(byteSize, checkSum);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream read(final LocalData data) throws IOException {
+        final var key = data.getStorageKey();
+        if (key == null) {
+            // Data stored before the file system storage has been enabled.
+            final var value = data.getValue();
+            return value == null ? InputStream.nullInputStream() : new ByteArrayInputStream(value);
+        }
+
+        return Files.newInputStream(resolve(key));
+    }
+
+    private void moveToStorage(final Path tmp, final Path target) throws IOException {
+        if (Files.exists(target)) {
+            // Same content has already been stored.
+            return;
+        }
+
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Same data has been stored concurrently. [path=({})]", target);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(final String storageKey) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // The reference is only dropped for others once the transaction has been committed.
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCommit() {
+                            removeIfUnreferenced(storageKey);
+                        }
+                    });
+        } else {
+            removeIfUnreferenced(storageKey);
+        }
+    }
+
+    /**
+     * Remove a stored file if it is no longer referenced by any data element.
+     *
+     * @param key The storage key.
+     */
+    private void removeIfUnreferenced(final String key) {
+        final ReentrantLock lock;
+        try {
+            lock = lock(key);
+        } catch (IOException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to remove unreferenced data. [storageKey=({}), exception=({})]",
+                        key, e.getMessage());
+            }
+            return;
+        }
+
+        try {
+            if (dataRepo.countByStorageKey(key) > 0) {
+                return;
+            }
+
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to remove unreferenced data. [storageKey=({}), exception=({})]",
+                        key, e.getMessage());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Acquire the lock of a storage key.
+     *
+     * @param key The storage key.
+     * @return The acquired lock.
+     * @throws IOException if the lock could not be acquired in time.
+     */
+    private ReentrantLock lock(final String key) throws IOException {
+        final var lock = locks.get(key, x -> new ReentrantLock());
+        try {
+            if (lock.tryLock(LOCK_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                return lock;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        throw new IOException("The storage key is locked.");
+    }
+
+    /**
+     * Release the lock of a storage key once the current transaction has completed, so that the
+     * new reference is visible before the file can be released again.
+     *
+     * @param lock The acquired lock.
+     */
+    private static void unlockAfterTransaction(final ReentrantLock lock) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                    new TransactionSynchronization() {
+                        @Override
+                        public void afterCompletion(final int status) {
+                            lock.unlock();
+                        }
+                    });
+        } else {
+            lock.unlock();
+        }
+    }
+
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    private Path resolve(final String key) throws IOException {
+        if (!KEY_PATTERN.matcher(key).matches()) {
+            throw new IOException("Invalid storage key.");
+        }
+
+        return root.resolve(key.substring(0, PREFIX_LENGTH)).resolve(key);
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+}
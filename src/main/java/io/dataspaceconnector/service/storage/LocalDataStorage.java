@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.storage;
+
+import io.dataspaceconnector.model.artifact.LocalData;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Storage backend for the data of local artifacts. Implementations decide whether the data is kept
+ * in the data row itself or in an external storage that is only referenced by the data row.
+ */
+public interface LocalDataStorage {
+
+    /**
+     * Replace the data of a local data element. The stream is consumed but not closed. The passed
+     * data element is updated to match the persisted state.
+     *
+     * @param data   The local data element.
+     * @param stream The new data.
+     * @return Byte size and checksum of the stored data.
+     * @throws IOException if the data could not be stored.
+     */
+    StoredData write(LocalData data, InputStream stream) throws IOException;
+
+    /**
+     * Open the data of a local data element.
+     *
+     * @param data The local data element.
+     * @return The stored data.
+     * @throws IOException if the data could not be read.
+     */
+    InputStream read(LocalData data) throws IOException;
+
+    /**
+     * Release the externally stored data of a storage key that a data element no longer
+     * references. The data is only removed once no data element references it anymore.
+     *
+     * @param storageKey The storage key.
+     */
+    void release(String storageKey);
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.storage;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.dataspaceconnector.common.exception.InvalidInputException;
+import io.dataspaceconnector.common.exception.UploadOffsetException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Collects the parts of resumable artifact data uploads on disk until the upload is complete
+ * and the data can be passed to the {@link LocalDataStorage}. Parts are appended in order, so
+ * an interrupted upload can be continued at the number of bytes already received. Each upload
+ * gets an id and remembers its declared total size, so parts of different uploads are never
+ * mixed. Uploads without new parts are removed after a while.
+ */
+@Log4j2
+@Component
+public class UploadStaging {
+
+    /**
+     * The delay of the cleanup of expired uploads.
+     */
+    private static final int CLEANUP_DELAY = 600_000;
+
+    /**
+     * The file suffix of the received data.
+     */
+    private static final String PART_SUFFIX = ".part";
+
+    /**
+     * The file suffix of the upload id and the declared total size.
+     */
+    private static final String UPLOAD_SUFFIX = ".upload";
+
+    /**
+     * The directory holding the incomplete uploads.
+     */
+    private final Path root;
+
+    /**
+     * How long an upload is kept after its last part.
+     */
+    private final Duration expiry;
+
+    /**
+     * Locks serializing the parts of the same upload.
+     */
+    private final Map<UUID, Object> locks = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for UploadStaging.
+     *
+     * @param path   The directory holding the incomplete uploads.
+     * @param expiry How long an upload is kept after its last part.
+     */
+    public UploadStaging(@Value("${storage.upload.path:./data/uploads}") final String path,
+                         @Value("${storage.upload.expiry:24h}") final Duration expiry) {
+        this.root = Path.of(path);
+        this.expiry = expiry;
+    }
+
+    /**
+     * Get the state of the upload of an artifact's data. If the upload id or the declared total
+     * size do not match the started upload, the started upload is discarded.
+     *
+     * @param artifactId The id of the artifact.
+     * @param uploadId   The id of the upload, null if unknown.
+     * @param total      The declared total size, -1 if unknown.
+     * @return The upload, without id and received bytes if no matching upload has been started.
+     * @throws IOException if the upload cannot be accessed.
+     */
+    public Upload get(final UUID artifactId, final String uploadId, final long total)
+            throws IOException {
+        synchronized (getLock(artifactId)) {
+            final var upload = find(artifactId, uploadId, total);
+            return upload == null ? new Upload(null, 0) : upload;
+        }
+    }
+
+    /**
+     * Append a part to the upload of an artifact's data. The part is streamed to disk. A part
+     * at offset 0 starts a new upload and discards a previously started one. Any other part has
+     * to continue the upload with the given id at the number of bytes received so far.
+     *
+     * @param artifactId The id of the artifact.
+     * @param uploadId   The id of the upload, null if unknown.
+     * @param offset     The position of the part in the uploaded data.
+     * @param length     The declared length of the part.
+     * @param total      The declared total size, -1 if unknown.
+     * @param data       The part. Consumed but not closed.
+     * @return The upload including the part.
+     * @throws UploadOffsetException if the part does not continue a matching upload.
+     * @throws InvalidInputException if the part is not as long as declared.
+     * @throws IOException           if the part cannot be stored.
+     */
+    public Upload append(final UUID artifactId, final String uploadId, final long offset,
+                         final long length, final long total, final InputStream data)
+            throws IOException {
+        synchronized (getLock(artifactId)) {
+            final Upload upload;
+            if (offset == 0) {
+                deleteFiles(artifactId);
+                upload = start(artifactId, total);
+            } else {
+                upload = find(artifactId, uploadId, total);
+                if (upload == null) {
+                    throw new UploadOffsetException(0);
+                }
+                if (offset != upload.getReceived()) {
+                    throw new UploadOffsetException(upload.getReceived());
+                }
+            }
+
+            final var file = resolve(artifactId, PART_SUFFIX);
+            final long written;
+            try (var output = Files.newOutputStream(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                written = copy(data, output, length + 1);
+            }
+
+            if (written != length) {
+                // Drop the part, the upload can be continued with a correct one.
+                try (var channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.truncate(upload.getReceived());
+                }
+                throw new InvalidInputException("The part does not match its Content-Range.");
+            }
+
+            return new Upload(upload.getId(), upload.getReceived() + written);
+        }
+    }
+
+    /**
+     * Open the received data of an upload.
+     *
+     * @param artifactId The id of the artifact.
+     * @return The received data, empty if no data has been received.
+     * @throws IOException if the upload cannot be read.
+     */
+    public InputStream open(final UUID artifactId) throws IOException {
+        final var file = resolve(artifactId, PART_SUFFIX);
+        return Files.exists(file) ? Files.newInputStream(file) : InputStream.nullInputStream();
+    }
+
+    /**
+     * Remove the received data of an upload.
+     *
+     * @param artifactId The id of the artifact.
+     * @throws IOException if the upload cannot be removed.
+     */
+    public void discard(final UUID artifactId) throws IOException {
+        synchronized (getLock(artifactId)) {
+            deleteFiles(artifactId);
+        }
+        locks.remove(artifactId);
+    }
+
+    /**
+     * Periodically removes uploads that have not received a part within the expiry time.
+     */
+    @Scheduled(fixedDelay = CLEANUP_DELAY)
+    public void removeExpired() {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+
+        final var expired = Instant.now().minus(expiry);
+        final var artifacts = new ArrayList<UUID>();
+        try (var files = Files.list(root)) {
+            files.forEach(file -> collectArtifact(file, artifacts));
+        } catch (IOException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Could not list uploads. [exception=({})]", e.getMessage());
+            }
+            return;
+        }
+
+        for (final var artifactId : artifacts) {
+            try {
+                if (getLastChange(artifactId).isBefore(expired)) {
+                    discard(artifactId);
+                    if (log.isInfoEnabled()) {
+                        log.info("Removed expired upload. [artifactId=({})]", artifactId);
+                    }
+                }
+            } catch (IOException e) {
+                if (log.isWarnEnabled()) {
+                    log.warn("Could not remove expired upload. [artifactId=({}), "
+                            + "exception=({})]", artifactId, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Object getLock(final UUID artifactId) {
+        return locks.computeIfAbsent(artifactId, id -> new Object());
+    }
+
+    /**
+     * Get the started upload of an artifact's data, if it matches the given upload id and
+     * declared total size. A started upload that does not match is discarded.
+     */
+    private Upload find(final UUID artifactId, final String uploadId, final long total)
+            throws IOException {
+        final var metadata = resolve(artifactId, UPLOAD_SUFFIX);
+        final var part = resolve(artifactId, PART_SUFFIX);
+        if (!Files.exists(metadata)) {
+            Files.deleteIfExists(part);
+            return null;
+        }
+
+        final var properties = new Properties();
+        try (var reader = Files.newBufferedReader(metadata)) {
+            properties.load(reader);
+        }
+
+        final var id = properties.getProperty("id", "");
+        final var declared = Long.parseLong(properties.getProperty("total", "-1"));
+        if (!id.equals(uploadId) || (total >= 0 && declared >= 0 && total != declared)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Discarding upload of other client. [artifactId=({})]", artifactId);
+            }
+            deleteFiles(artifactId);
+            return null;
+        }
+
+        if (declared < 0 && total >= 0) {
+            // The total size has become known.
+            store(artifactId, id, total);
+        }
+
+        return new Upload(id, Files.exists(part) ? Files.size(part) : 0);
+    }
+
+    private Upload start(final UUID artifactId, final long total) throws IOException {
+        Files.createDirectories(root);
+        final var id = UUID.randomUUID().toString();
+        store(artifactId, id, total);
+        return new Upload(id, 0);
+    }
+
+    private void store(final UUID artifactId, final String id, final long total)
+            throws IOException {
+        final var properties = new Properties();
+        properties.setProperty("id", id);
+        properties.setProperty("total", String.valueOf(total));
+        try (var writer = Files.newBufferedWriter(resolve(artifactId, UPLOAD_SUFFIX))) {
+            properties.store(writer, null);
+        }
+    }
+
+    private void deleteFiles(final UUID artifactId) throws IOException {
+        Files.deleteIfExists(resolve(artifactId, PART_SUFFIX));
+        Files.deleteIfExists(resolve(artifactId, UPLOAD_SUFFIX));
+    }
+
+    private Instant getLastChange(final UUID artifactId) throws IOException {
+        var lastChange = Instant.EPOCH;
+        for (final var suffix : List.of(PART_SUFFIX, UPLOAD_SUFFIX)) {
+            final var file = resolve(artifactId, suffix);
+            if (Files.exists(file)) {
+                final var modified = Files.getLastModifiedTime(file).toInstant();
+                lastChange = modified.isAfter(lastChange) ? modified : lastChange;
+            }
+        }
+        return lastChange;
+    }
+
+    private static void collectArtifact(final Path file, final List<UUID> artifacts) {
+        final var name = file.getFileName().toString();
+        if (!name.endsWith(UPLOAD_SUFFIX) && !name.endsWith(PART_SUFFIX)) {
+            return;
+        }
+
+        try {
+            final var artifactId = UUID.fromString(name.substring(0, name.lastIndexOf('.')));
+            if (!artifacts.contains(artifactId)) {
+                artifacts.add(artifactId);
+            }
+        } catch (IllegalArgumentException e) {
+            // Not an upload.
+        }
+    }
+
+    private static long copy(final InputStream input, final OutputStream output,
+                             final long limit) throws IOException {
+        final var buffer = new byte[8192];
+        long copied = 0;
+        while (copied < limit) {
+            final var read = input.read(buffer, 0, (int) Math.min(buffer.length, limit - copied));
+            if (read < 0) {
+                break;
+            }
+            output.write(buffer, 0, read);
+            copied += read;
+        }
+        return copied;
+    }
+
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    private Path resolve(final UUID artifactId, final String suffix) {
+        return root.resolve(artifactId + suffix);
+    }
+
+    /**
+     * The state of an upload.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class Upload {
+        /**
+         * The id of the upload, null if no upload has been started.
+         */
+        private final String id;
+
+        /**
+         * The number of received bytes.
+         */
+        private final long received;
+    }
+}
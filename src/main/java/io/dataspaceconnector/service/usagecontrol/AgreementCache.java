@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.model.agreement.Agreement;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps deserialized contract agreements in memory, so that policy checks do not have to
+ * deserialize the stored agreement on every access. An entry is replaced as soon as the
+ * modification date of the agreement entity changes.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class AgreementCache {
+
+    /**
+     * Service for ids deserialization.
+     */
+    private final @NonNull DeserializationService deserializationService;
+
+    /**
+     * The cached agreements by agreement id.
+     */
+    private final Map<UUID, CachedAgreement> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Get the deserialized contract agreement of an agreement entity.
+     *
+     * @param agreement The agreement entity.
+     * @return The deserialized agreement.
+     * @throws IllegalArgumentException if the agreement could not be deserialized.
+     */
+    public CachedAgreement get(final @NonNull Agreement agreement) {
+        final var agreementId = agreement.getId();
+        final var version = agreement.getModificationDate();
+        if (agreementId == null || version == null) {
+            // Not persisted yet, nothing to cache.
+            return parse(agreement);
+        }
+
+        final var cached = cache.get(agreementId);
+        if (cached != null && version.isEqual(cached.getVersion())) {
+            return cached;
+        }
+
+        final var parsed = parse(agreement);
+        cache.merge(agreementId, parsed, (oldValue, newValue) ->
+                isNewer(oldValue, newValue) ? oldValue : newValue);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Cached contract agreement. [id=({}), version=({})]", agreementId,
+                    version);
+        }
+
+        return parsed;
+    }
+
+    /**
+     * Remove an agreement from the cache.
+     *
+     * @param agreementId The id of the agreement.
+     */
+    public void evict(final UUID agreementId) {
+        if (agreementId != null) {
+            cache.remove(agreementId);
+        }
+    }
+
+    /**
+     * Remove all agreements from the cache that are not part of the given ids.
+     *
+     * @param agreementIds The ids of all existing agreements.
+     */
+    public void retainAll(final @NonNull Collection<UUID> agreementIds) {
+        cache.keySet().retainAll(agreementIds);
+    }
+
+    /**
+     * Get the number of cached agreements.
+     *
+     * @return The cache size.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Deserialize the value of an agreement entity.
+     *
+     * @param agreement The agreement entity.
+     * @return The deserialized agreement.
+     * @throws IllegalArgumentException if the agreement could not be deserialized.
+     */
+    private CachedAgreement parse(final Agreement agreement) {
+        final var idsAgreement = deserializationService.getContractAgreement(
+                agreement.getValue());
+        return new CachedAgreement(Objects.requireNonNull(idsAgreement),
+                agreement.getModificationDate());
+    }
+
+    /**
+     * Check whether the first cache entry belongs to a newer agreement version.
+     *
+     * @param first  The first entry.
+     * @param second The second entry.
+     * @return True if the first entry is newer than the second one.
+     */
+    private static boolean isNewer(final CachedAgreement first, final CachedAgreement second) {
+        return first.getVersion() != null && second.getVersion() != null
+                && first.getVersion().isAfter(second.getVersion());
+    }
+}
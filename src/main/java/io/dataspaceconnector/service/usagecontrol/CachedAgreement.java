@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.common.ids.policy.ContractUtils;
+import io.dataspaceconnector.common.ids.policy.RuleUtils;
+import lombok.Getter;
+import lombok.NonNull;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A deserialized contract agreement with its rules. The rules of a target and their policy
+ * patterns are computed once on first access.
+ */
+public class CachedAgreement {
+
+    /**
+     * The deserialized contract agreement.
+     */
+    @Getter
+    private final @NonNull ContractAgreement contractAgreement;
+
+    /**
+     * The modification date of the agreement entity this instance has been created from.
+     */
+    @Getter
+    private final ZonedDateTime version;
+
+    /**
+     * All rules of the contract agreement.
+     */
+    @Getter
+    private final List<Rule> rules;
+
+    /**
+     * The rules of the contract agreement grouped by their target.
+     */
+    private final Map<URI, List<PolicyRule>> rulesByTarget = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param agreement The deserialized contract agreement.
+     * @param modified  The modification date of the agreement entity.
+     */
+    CachedAgreement(final @NonNull ContractAgreement agreement, final ZonedDateTime modified) {
+        this.contractAgreement = agreement;
+        this.version = modified;
+        this.rules = Collections.unmodifiableList(
+                ContractUtils.extractRulesFromContract(agreement));
+    }
+
+    /**
+     * Get the rules of the contract agreement that refer to the given target, together with
+     * their policy patterns.
+     *
+     * @param target The target of the rules.
+     * @return List of rules in the order of the contract agreement.
+     */
+    public List<PolicyRule> getRulesForTarget(final URI target) {
+        final var cached = rulesByTarget.get(target);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var result = new ArrayList<PolicyRule>();
+        for (final var rule : ContractUtils.getRulesForTargetId(contractAgreement, target)) {
+            result.add(new PolicyRule(rule, RuleUtils.getPatternByRule(rule)));
+        }
+
+        final var rulesOfTarget = Collections.unmodifiableList(result);
+        if (target != null) {
+            rulesByTarget.putIfAbsent(target, rulesOfTarget);
+        }
+
+        return rulesOfTarget;
+    }
+}
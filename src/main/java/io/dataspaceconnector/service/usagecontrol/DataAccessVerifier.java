@@ -15,7 +15,6 @@
  */
 package io.dataspaceconnector.service.usagecontrol;
 
-import io.dataspaceconnector.common.ids.policy.ContractUtils;
 import io.dataspaceconnector.common.ids.policy.PolicyPattern;
 import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.common.net.SelfLinkHelper;
@@ -70,9 +69,10 @@ public final class DataAccessVerifier implements PolicyVerifier<AccessVerificati
      *
      * @param target      The requested artifact.
      * @param agreementId The id of the transfer contract (agreement).
+     * @return The maximum number of accesses, null if the number is not restricted.
      * @throws PolicyRestrictionException If a policy restriction has been detected.
      */
-    public void checkPolicy(final Artifact target, final URI agreementId) throws
+    public Long checkPolicy(final Artifact target, final URI agreementId) throws
             PolicyRestrictionException {
         final var patternsToCheck = Arrays.asList(
                 PolicyPattern.PROVIDE_ACCESS,
@@ -85,13 +85,16 @@ public final class DataAccessVerifier implements PolicyVerifier<AccessVerificati
 
         try {
             final var artifactId = selfLinkHelper.getSelfLink(target);
-            checkForAccess(patternsToCheck, artifactId, target.getRemoteId(), agreementId);
+            return checkForAccess(patternsToCheck, artifactId, target.getRemoteId(),
+                    agreementId);
         } catch (PolicyRestrictionException exception) {
             // Unknown patterns cause an exception. Ignore if unsupported patterns are allowed.
             if (!connectorConfig.isAllowUnsupported()) {
                 throw exception;
             }
         }
+
+        return null;
     }
 
     /**
@@ -101,26 +104,48 @@ public final class DataAccessVerifier implements PolicyVerifier<AccessVerificati
      * @param artifactId  The requested artifact.
      * @param remoteId    The remote id of the requested artifact.
      * @param agreementId The id of the transfer contract (agreement).
+     * @return The lowest maximum number of accesses of all enforced n-times-usage rules, null
+     * if there is no such rule.
      * @throws io.dataspaceconnector.common.exception.UnsupportedPatternException if no suitable
      * pattern could be found.
      */
-    public void checkForAccess(final List<PolicyPattern> patterns, final URI artifactId,
+    public Long checkForAccess(final List<PolicyPattern> patterns, final URI artifactId,
                                final URI remoteId, final URI agreementId) {
+        Long accessLimit = null;
+
         // Get the contract agreement's rules for the target.
-        final var agreements = entityResolver.getContractAgreementsByTarget(artifactId);
+        final var agreements = entityResolver.getCachedAgreementsByTarget(artifactId);
         for (final var agreement : agreements) {
-            final var rules = ContractUtils.getRulesForTargetId(agreement, remoteId);
+            final var rules = agreement.getRulesForTarget(remoteId);
 
             // Check the policy of each rule.
             for (final var rule : rules) {
-                final var pattern = RuleUtils.getPatternByRule(rule);
+                final var pattern = rule.getPattern();
                 // Enforce only a set of patterns.
                 if (patterns.contains(pattern)) {
-                    ruleValidator.validatePolicy(pattern, rule, artifactId, null,
-                            Optional.empty(), agreementId);
+                    ruleValidator.validatePolicy(rule, artifactId, null, Optional.empty(),
+                            agreementId);
+                    if (pattern == PolicyPattern.N_TIMES_USAGE) {
+                        accessLimit = getLowerLimit(accessLimit, rule);
+                    }
                 }
             }
         }
+
+        return accessLimit;
+    }
+
+    /**
+     * Get the lower one of the current access limit and the limit of a n-times-usage rule.
+     *
+     * @param current The current limit. May be null.
+     * @param rule    The n-times-usage rule.
+     * @return The lower limit.
+     */
+    private static Long getLowerLimit(final Long current, final PolicyRule rule) {
+        final long limit = rule.getMaxAccess() == null
+                ? RuleUtils.getMaxAccess(rule.getRule()) : rule.getMaxAccess();
+        return current == null ? limit : Math.min(current, limit);
     }
 
     /**
@@ -129,7 +154,7 @@ public final class DataAccessVerifier implements PolicyVerifier<AccessVerificati
     @Override
     public VerificationResult verify(final AccessVerificationInput input) {
         try {
-            this.checkPolicy(input.getArtifact(), input.getAgreementId());
+            input.setAccessLimit(this.checkPolicy(input.getArtifact(), input.getAgreementId()));
             return VerificationResult.ALLOWED;
         } catch (PolicyRestrictionException exception) {
             if (log.isDebugEnabled()) {
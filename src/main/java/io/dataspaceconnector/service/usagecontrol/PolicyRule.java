@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  Contributors:
+ *       sovity GmbH
+ *
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import de.fraunhofer.iais.eis.Rule;
+import io.dataspaceconnector.common.ids.policy.PolicyPattern;
+import io.dataspaceconnector.common.ids.policy.RuleUtils;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+
+/**
+ * An ids rule together with the policy pattern it has been recognized as. The parameters the
+ * pattern is enforced with are read once when the instance is created. If a parameter cannot
+ * be read, it is left empty and the {@link RuleValidator} reads it from the rule again, so that
+ * invalid rules are reported on every access.
+ */
+@Log4j2
+@Getter
+public class PolicyRule {
+
+    /**
+     * The ids rule.
+     */
+    private final Rule rule;
+
+    /**
+     * The recognized policy pattern. Null if the pattern is unknown.
+     */
+    private final PolicyPattern pattern;
+
+    /**
+     * The start of the allowed usage interval.
+     */
+    private ZonedDateTime start;
+
+    /**
+     * The end of the allowed usage interval.
+     */
+    private ZonedDateTime end;
+
+    /**
+     * The allowed usage duration.
+     */
+    private Duration duration;
+
+    /**
+     * The allowed number of accesses.
+     */
+    private Integer maxAccess;
+
+    /**
+     * The connector the usage is restricted to.
+     */
+    private URI connector;
+
+    /**
+     * The security profile the usage is restricted to.
+     */
+    private String securityProfile;
+
+    /**
+     * Constructor.
+     *
+     * @param idsRule       The ids rule.
+     * @param policyPattern The recognized policy pattern.
+     */
+    public PolicyRule(final Rule idsRule, final PolicyPattern policyPattern) {
+        this.rule = idsRule;
+        this.pattern = policyPattern;
+
+        if (idsRule != null && policyPattern != null) {
+            try {
+                readParameters();
+            } catch (RuntimeException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Could not read policy parameters. [pattern=({}), "
+                            + "exception=({})]", policyPattern, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Read the parameters of the rule that are needed to enforce its pattern.
+     */
+    private void readParameters() {
+        switch (pattern) {
+            case USAGE_DURING_INTERVAL:
+            case USAGE_UNTIL_DELETION:
+                final var interval = RuleUtils.getTimeInterval(rule);
+                if (interval.getStart() != null && interval.getEnd() != null) {
+                    start = interval.getStart();
+                    end = interval.getEnd();
+                }
+                break;
+            case DURATION_USAGE:
+                duration = RuleUtils.getDuration(rule);
+                break;
+            case N_TIMES_USAGE:
+                maxAccess = RuleUtils.getMaxAccess(rule);
+                break;
+            case CONNECTOR_RESTRICTED_USAGE:
+                connector = URI.create(RuleUtils.getEndpoint(rule));
+                break;
+            case SECURITY_PROFILE_RESTRICTED_USAGE:
+                securityProfile = RuleUtils.getSecurityProfile(rule);
+                break;
+            default:
+                break;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import io.dataspaceconnector.common.ids.policy.PolicyPattern;
 import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.common.time.TimeInterval;
 import io.dataspaceconnector.common.exception.PolicyRestrictionException;
+import io.dataspaceconnector.extension.telemetry.TelemetrySpan;
 import io.dataspaceconnector.model.contract.Contract;
 import io.dataspaceconnector.model.rule.ContractRule;
 import io.dataspaceconnector.common.ids.DeserializationService;
@@ -81,33 +82,68 @@ public class RuleValidator {
      * @param agreementId     The id of the transfer contract (agreement).
      * @throws PolicyRestrictionException If a policy restriction was detected.
      */
+    @TelemetrySpan
     public void validatePolicy(final PolicyPattern pattern, final Rule rule, final URI target,
                                final URI issuerConnector, final Optional<SecurityProfile> profile,
                                final URI agreementId) throws PolicyRestrictionException {
+        validatePolicy(new PolicyRule(rule, pattern), target, issuerConnector, profile,
+                agreementId);
+    }
+
+    /**
+     * Validates the data access for a given rule whose policy parameters have already been
+     * read.
+     *
+     * @param policy          The ids rule with its pattern and parameters.
+     * @param target          The requested/accessed element.
+     * @param issuerConnector The issuer connector.
+     * @param profile         The security profile.
+     * @param agreementId     The id of the transfer contract (agreement).
+     * @throws PolicyRestrictionException If a policy restriction was detected.
+     */
+    @TelemetrySpan
+    public void validatePolicy(final PolicyRule policy, final URI target,
+                               final URI issuerConnector, final Optional<SecurityProfile> profile,
+                               final URI agreementId) throws PolicyRestrictionException {
+        final var pattern = policy.getPattern();
+        if (pattern == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("No pattern detected. [target=({})]", target);
+            }
+            throw new PolicyRestrictionException(ErrorMessage.POLICY_RESTRICTION);
+        }
+
+        final var rule = policy.getRule();
         switch (pattern) {
             case PROVIDE_ACCESS:
                 break;
             case USAGE_DURING_INTERVAL:
             case USAGE_UNTIL_DELETION:
-                validateInterval(rule);
+                validateInterval(policy);
                 break;
             case DURATION_USAGE:
-                validateDuration(rule, target);
+                validateDuration(policy.getDuration() == null
+                        ? readDuration(rule, target)
+                        : policy.getDuration(), target);
                 break;
             case USAGE_LOGGING:
                 executionService.logDataAccess(target, agreementId);
                 break;
             case N_TIMES_USAGE:
-                validateAccessNumber(rule, target);
+                validateAccessNumber(policy.getMaxAccess() == null
+                        ? RuleUtils.getMaxAccess(rule)
+                        : policy.getMaxAccess(), target);
                 break;
             case USAGE_NOTIFICATION:
                 executionService.reportDataAccess(rule, target);
                 break;
             case CONNECTOR_RESTRICTED_USAGE:
-                validateIssuerConnector(rule, issuerConnector);
+                validateIssuerConnector(policy.getConnector() == null
+                        ? URI.create(RuleUtils.getEndpoint(rule))
+                        : policy.getConnector(), issuerConnector);
                 break;
             case SECURITY_PROFILE_RESTRICTED_USAGE:
-                validateSecurityProfile(rule, profile);
+                validateSecurityProfile(rule, policy.getSecurityProfile(), profile);
                 break;
             case PROHIBIT_ACCESS:
                 throw new PolicyRestrictionException(ErrorMessage.NOT_ALLOWED);
@@ -171,44 +207,58 @@ public class RuleValidator {
     }
 
     /**
-     * Checks if the requested data access is in the allowed time interval.
+     * Reads the allowed time interval from a rule.
      *
      * @param rule The ids rule.
-     * @throws PolicyRestrictionException If the policy could not be read or a restriction is
-     *                                    detected.
+     * @return The time interval.
+     * @throws PolicyRestrictionException If the policy could not be read.
      */
-    private void validateInterval(final Rule rule) throws PolicyRestrictionException {
-        TimeInterval timeInterval;
+    private TimeInterval readInterval(final Rule rule) throws PolicyRestrictionException {
         try {
-            timeInterval = RuleUtils.getTimeInterval(rule);
+            return RuleUtils.getTimeInterval(rule);
         } catch (DateTimeParseException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Could not read time interval. [exception=({})]", e.getMessage());
             }
             throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL, e);
         }
+    }
+
+    /**
+     * Checks if the requested data access is in the allowed time interval.
+     *
+     * @param policy The ids rule with its pattern and parameters.
+     * @throws PolicyRestrictionException If the policy could not be read or a restriction is
+     *                                    detected.
+     */
+    private void validateInterval(final PolicyRule policy) throws PolicyRestrictionException {
+        var start = policy.getStart();
+        var end = policy.getEnd();
+        if (start == null || end == null) {
+            final var timeInterval = readInterval(policy.getRule());
+            start = timeInterval.getStart();
+            end = timeInterval.getEnd();
+        }
 
         final var current = RuleUtils.getCurrentDate();
-        if (!current.isAfter(timeInterval.getStart()) || !current.isBefore(timeInterval.getEnd())) {
+        if (!current.isAfter(start) || !current.isBefore(end)) {
             if (log.isWarnEnabled()) {
-                log.warn("Invalid time interval. [timeInterval=({})]", timeInterval);
+                log.warn("Invalid time interval. [start=({}), end=({})]", start, end);
             }
             throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL);
         }
     }
 
     /**
-     * Adds a duration to a given date and checks if the duration has already been exceeded.
+     * Reads the allowed usage duration from a rule.
      *
      * @param rule   The ids rule.
      * @param target The accessed element.
-     * @throws PolicyRestrictionException If the policy could not be read or a restriction is
-     *                                    detected.
+     * @return The duration.
+     * @throws PolicyRestrictionException If the policy could not be read.
      */
-    private void validateDuration(final Rule rule, final URI target)
+    private Duration readDuration(final Rule rule, final URI target)
             throws PolicyRestrictionException {
-        final var created = informationService.getCreationDate(target);
-
         final Duration duration;
         try {
             duration = RuleUtils.getDuration(rule);
@@ -227,6 +277,19 @@ public class RuleValidator {
             throw new PolicyRestrictionException(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL);
         }
 
+        return duration;
+    }
+
+    /**
+     * Adds a duration to a given date and checks if the duration has already been exceeded.
+     *
+     * @param duration The allowed usage duration.
+     * @param target   The accessed element.
+     * @throws PolicyRestrictionException If a restriction is detected.
+     */
+    private void validateDuration(final Duration duration, final URI target)
+            throws PolicyRestrictionException {
+        final var created = informationService.getCreationDate(target);
         if (RuleUtils.isExpired(RuleUtils.getCalculatedDate(created, duration))) {
             if (log.isDebugEnabled()) {
                 log.debug("Invalid date time. [target=({})]", target);
@@ -238,13 +301,12 @@ public class RuleValidator {
     /**
      * Checks whether the maximum number of accesses has already been reached.
      *
-     * @param rule   The ids rule.
+     * @param max    The allowed number of accesses.
      * @param target The accessed element.
      * @throws PolicyRestrictionException If the access number has been reached.
      */
-    private void validateAccessNumber(final Rule rule, final URI target)
+    private void validateAccessNumber(final int max, final URI target)
             throws PolicyRestrictionException {
-        final var max = RuleUtils.getMaxAccess(rule);
         final var accessed = informationService.getAccessNumber(target);
         if (accessed >= max) {
             if (log.isDebugEnabled()) {
@@ -257,15 +319,13 @@ public class RuleValidator {
     /**
      * Checks whether the requesting connector corresponds to the allowed connector.
      *
-     * @param rule            The ids rule.
+     * @param allowedConsumer The allowed connector.
      * @param issuerConnector The issuer connector.
      * @throws PolicyRestrictionException If the connector ids do no match.
      */
-    private void validateIssuerConnector(final Rule rule, final URI issuerConnector)
+    private void validateIssuerConnector(final URI allowedConsumer, final URI issuerConnector)
             throws PolicyRestrictionException {
-        final var allowedConsumer = RuleUtils.getEndpoint(rule);
-        final var allowedConsumerAsUri = URI.create(allowedConsumer);
-        if (!allowedConsumerAsUri.equals(issuerConnector)) {
+        if (!allowedConsumer.equals(issuerConnector)) {
             if (log.isDebugEnabled()) {
                 log.debug("Invalid consumer connector. [issuer=({})]", issuerConnector);
             }
@@ -276,21 +336,24 @@ public class RuleValidator {
     /**
      * Checks whether the requesting connector has the right security level.
      *
-     * @param rule    The ids rule.
-     * @param profile The security profile.
+     * @param rule           The ids rule.
+     * @param allowedProfile The allowed security profile. Read from the rule if null.
+     * @param profile        The security profile.
      * @throws PolicyRestrictionException If the connector ids do no match.
      */
     @SuppressFBWarnings("DCN_NULLPOINTER_EXCEPTION")
-    private void validateSecurityProfile(final Rule rule, final Optional<SecurityProfile> profile)
+    private void validateSecurityProfile(final Rule rule, final String allowedProfile,
+                                         final Optional<SecurityProfile> profile)
             throws PolicyRestrictionException {
         if (profile.isEmpty()) {
             throw new PolicyRestrictionException(ErrorMessage.MISSING_SECURITY_PROFILE_CLAIM);
         }
 
         try {
-            final var allowedProfile = RuleUtils.getSecurityProfile(rule);
+            final var allowed = allowedProfile == null
+                    ? RuleUtils.getSecurityProfile(rule) : allowedProfile;
             final var securityProfile = profile.get();
-            if (!allowedProfile.equals(securityProfile.toString())) {
+            if (!allowed.equals(securityProfile.toString())) {
                 throw new PolicyRestrictionException(
                         ErrorMessage.DATA_ACCESS_INVALID_SECURITY_PROFILE);
             }
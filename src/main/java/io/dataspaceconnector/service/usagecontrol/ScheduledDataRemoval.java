@@ -15,14 +15,17 @@
  */
 package io.dataspaceconnector.service.usagecontrol;
 
-import io.dataspaceconnector.common.ids.policy.ContractUtils;
-import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
+import io.dataspaceconnector.common.ids.policy.RuleUtils;
 import io.dataspaceconnector.common.ids.policy.UsageControlFramework;
 import io.dataspaceconnector.config.ConnectorConfig;
-import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.service.resource.base.EntityChangeEvent;
 import io.dataspaceconnector.service.resource.type.AgreementService;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -30,14 +33,26 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * This class implements automated policy check.
+ * This class implements automated policy check. Agreements are indexed once when they are
+ * stored. Each run only processes the deletions that are due.
  */
 @EnableScheduling
 @Log4j2
@@ -56,12 +71,12 @@ public class ScheduledDataRemoval {
     private final @NonNull ConnectorConfig connectorConfig;
 
     /**
-     * Service for ids deserialization.
+     * Cache for deserialized contract agreements.
      */
-    private final @NonNull DeserializationService deserializationService;
+    private final @NonNull AgreementCache agreementCache;
 
     /**
-     * Service for ids deserialization.
+     * Service for contract agreements.
      */
     private final @NonNull AgreementService agreementService;
 
@@ -70,6 +85,38 @@ public class ScheduledDataRemoval {
      */
     private final @NonNull ArtifactService artifactService;
 
+    /**
+     * The scheduled deletions, ordered by their due date.
+     */
+    private final PriorityQueue<ScheduledDeletion> schedule =
+            new PriorityQueue<>(Comparator.comparing(ScheduledDeletion::getDate));
+
+    /**
+     * The version (modification date) of each indexed agreement.
+     */
+    private final Map<UUID, ZonedDateTime> indexed = new HashMap<>();
+
+    /**
+     * The deletions that have been carried out, by their target. They are scheduled again when
+     * data is stored for the target afterwards.
+     */
+    private final Map<URI, List<ScheduledDeletion>> completed = new HashMap<>();
+
+    /**
+     * Agreements that have been stored since the last run.
+     */
+    private final Set<UUID> storedAgreements = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Remote ids of artifacts that have been stored since the last run.
+     */
+    private final Set<URI> storedArtifacts = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Whether all existing agreements have been indexed.
+     */
+    private boolean initialized;
+
     /**
      * Periodically checks agreements for data deletion.
      */
@@ -80,9 +127,11 @@ public class ScheduledDataRemoval {
                 if (log.isInfoEnabled()) {
                     log.info("Scanning agreements...");
                 }
-                scanAgreements();
+                indexAgreements();
+                rescheduleStoredArtifacts();
+                removeDueData();
             }
-        } catch (IllegalArgumentException | DateTimeParseException | ResourceNotFoundException e) {
+        } catch (IllegalArgumentException | ResourceNotFoundException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Failed to check policy. [exception=({})]", e.getMessage());
             }
@@ -90,28 +139,152 @@ public class ScheduledDataRemoval {
     }
 
     /**
-     * Checks all known agreements for artifacts that have to be deleted.
+     * Registers stored agreements for indexing and stored artifacts for checking completed
+     * deletions again. Only committed changes are registered, so the next run can read them.
      *
-     * @throws DateTimeParseException    If a date from a policy cannot be parsed.
-     * @throws IllegalArgumentException  If the rule could not be deserialized.
-     * @throws ResourceNotFoundException If the data could not be deleted.
+     * @param event The entity change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleEntityChange(final EntityChangeEvent event) {
+        final var entity = event.getEntity();
+        if (entity instanceof Agreement) {
+            storedAgreements.add(event.getEntityId());
+        } else if (entity instanceof Artifact artifact && artifact.getRemoteId() != null) {
+            storedArtifacts.add(artifact.getRemoteId());
+        }
+    }
+
+    /**
+     * Adds the deletion duties of all agreements that have been stored since the last run to
+     * the schedule. The first run indexes all agreements.
+     */
+    private void indexAgreements() {
+        if (!initialized) {
+            for (final var agreement : agreementService.getAll(Pageable.unpaged())) {
+                index(agreement);
+            }
+            initialized = true;
+        }
+
+        for (final var agreementId : Set.copyOf(storedAgreements)) {
+            storedAgreements.remove(agreementId);
+            try {
+                index(agreementService.get(agreementId));
+            } catch (ResourceNotFoundException e) {
+                // The agreement has been deleted in the meantime.
+                indexed.remove(agreementId);
+                agreementCache.evict(agreementId);
+            }
+        }
+    }
+
+    /**
+     * Adds the deletion duties of an agreement to the schedule, unless this version of the
+     * agreement has already been indexed.
+     *
+     * @param agreement The agreement.
      */
-    private void scanAgreements() throws DateTimeParseException, IllegalArgumentException,
-            ResourceNotFoundException {
-        for (final var agreement : agreementService.getAll(Pageable.unpaged())) {
-            final var value = agreement.getValue();
-            final var idsAgreement = deserializationService.getContractAgreement(value);
-            for (final var rule : ContractUtils.extractRulesFromContract(idsAgreement)) {
-                if (RuleUtils.checkRuleForPostDuties(rule)) {
-                    final var artifactId = artifactService.identifyByRemoteId(rule.getTarget());
-                    if (artifactId.isPresent() && !isDataDeleted(artifactId.get())) {
-                        removeDataFromArtifact(artifactId.get());
-                    }
+    private void index(final Agreement agreement) {
+        final var version = agreement.getModificationDate();
+        final var known = indexed.get(agreement.getId());
+        if (version != null && known != null && version.isEqual(known)) {
+            // Already indexed.
+            return;
+        }
+
+        indexed.put(agreement.getId(), version);
+        scheduleDeletions(agreement);
+    }
+
+    /**
+     * Schedules the completed deletions of all targets for which data has been stored since the
+     * last run again, so that data downloaded again after its deletion is removed as well.
+     */
+    private void rescheduleStoredArtifacts() {
+        for (final var target : Set.copyOf(storedArtifacts)) {
+            storedArtifacts.remove(target);
+            final var deletions = completed.remove(target);
+            if (deletions != null) {
+                schedule.addAll(deletions);
+            }
+        }
+    }
+
+    /**
+     * Adds the deletion duties of an agreement to the schedule.
+     *
+     * @param agreement The agreement.
+     */
+    private void scheduleDeletions(final Agreement agreement) {
+        try {
+            for (final var rule : agreementCache.get(agreement).getRules()) {
+                final var date = RuleUtils.getDeletionDate(rule);
+                if (date != null) {
+                    schedule.add(new ScheduledDeletion(agreement.getId(),
+                            agreement.getModificationDate(), rule.getTarget(), date));
                 }
             }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            if (log.isWarnEnabled()) {
+                log.warn("Failed to read deletion duties. [agreementId=({}), exception=({})]",
+                        agreement.getId(), e.getMessage());
+            }
         }
     }
 
+    /**
+     * Removes the data of all artifacts whose deletion is due. Deletions of artifacts that do
+     * not exist yet or whose data could not be removed are retried on the next run. Carried out
+     * deletions are kept until data is stored for their target again.
+     *
+     * @throws ResourceNotFoundException If the data could not be deleted.
+     */
+    private void removeDueData() throws ResourceNotFoundException {
+        final var retry = new ArrayList<ScheduledDeletion>();
+        while (!schedule.isEmpty() && RuleUtils.isExpired(schedule.peek().getDate())) {
+            final var deletion = schedule.poll();
+            if (!isCurrent(deletion)) {
+                // The agreement has been modified or deleted.
+                continue;
+            }
+
+            final var artifactId = artifactService.identifyByRemoteId(deletion.getTarget());
+            if (artifactId.isEmpty()) {
+                retry.add(deletion);
+            } else if (!isDataDeleted(artifactId.get())
+                    && !removeDataFromArtifact(artifactId.get())) {
+                retry.add(deletion);
+            } else {
+                completed.computeIfAbsent(deletion.getTarget(), x -> new ArrayList<>())
+                        .add(deletion);
+            }
+        }
+
+        schedule.addAll(retry);
+    }
+
+    /**
+     * Check whether a scheduled deletion still belongs to an existing and unmodified agreement.
+     *
+     * @param deletion The scheduled deletion.
+     * @return True if the deletion is still valid.
+     */
+    private boolean isCurrent(final ScheduledDeletion deletion) {
+        final var version = indexed.get(deletion.getAgreementId());
+        if (version != null && deletion.getVersion() != null
+                && !version.isEqual(deletion.getVersion())) {
+            return false;
+        }
+
+        if (!agreementService.doesExist(deletion.getAgreementId())) {
+            indexed.remove(deletion.getAgreementId());
+            agreementCache.evict(deletion.getAgreementId());
+            return false;
+        }
+
+        return true;
+    }
+
     /**
      * Check if an artifact already has the status deleted.
      *
@@ -126,18 +299,48 @@ public class ScheduledDataRemoval {
      * Delete data by artifact id.
      *
      * @param artifactId The artifact uuid.
+     * @return True if the data has been removed.
      */
-    private void removeDataFromArtifact(final UUID artifactId) {
+    private boolean removeDataFromArtifact(final UUID artifactId) {
         try {
             artifactService.setData(artifactId, InputStream.nullInputStream());
             if (log.isDebugEnabled()) {
                 log.debug("Removed data from artifact. [id=({})]", artifactId);
             }
+            return true;
         } catch (IOException | ResourceNotFoundException e) {
             if (log.isWarnEnabled()) {
                 log.warn("Failed to remove data from artifact. [id=({}), exception=({})]",
                         artifactId, e.getMessage());
             }
+            return false;
         }
     }
+
+    /**
+     * A deletion duty of an agreement.
+     */
+    @Getter
+    @AllArgsConstructor
+    private static final class ScheduledDeletion {
+        /**
+         * The id of the agreement.
+         */
+        private final UUID agreementId;
+
+        /**
+         * The version (modification date) of the agreement.
+         */
+        private final ZonedDateTime version;
+
+        /**
+         * The target of the deletion duty.
+         */
+        private final URI target;
+
+        /**
+         * The date at which the data has to be deleted.
+         */
+        private final ZonedDateTime date;
+    }
 }
@@ -0,0 +1,20 @@
+ALTER TABLE public.data ADD COLUMN localdata_storage_key VARCHAR(255);
+
+CREATE TABLE public.download_job (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    recipient character varying(2048) NOT NULL,
+    artifact character varying(2048) NOT NULL,
+    transfer_contract character varying(2048),
+    state character varying(16) NOT NULL,
+    attempts integer NOT NULL DEFAULT 0,
+    next_attempt timestamp without time zone NOT NULL,
+    last_error character varying(1024),
+    lease_owner character varying(64),
+    lease_expiry timestamp without time zone,
+    creation_date timestamp without time zone NOT NULL,
+    CONSTRAINT download_job_artifact_key UNIQUE (artifact)
+);
+
+CREATE INDEX download_job_state_next_attempt ON public.download_job (state, next_attempt);
+
+CREATE INDEX catalog_bootstrap_id ON public.catalog (bootstrap_id);
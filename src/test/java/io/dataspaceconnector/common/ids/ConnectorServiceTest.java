@@ -41,6 +41,7 @@ import ids.messaging.core.config.ConfigContainer;
 import ids.messaging.core.daps.DapsTokenProvider;
 import io.dataspaceconnector.model.catalog.Catalog;
 import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.service.resource.base.EntityChangeEvent;
 import io.dataspaceconnector.service.resource.ids.builder.IdsCatalogBuilder;
 import io.dataspaceconnector.service.resource.ids.builder.IdsResourceBuilder;
 import io.dataspaceconnector.service.resource.type.CatalogService;
@@ -55,7 +56,9 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -117,6 +120,42 @@ public class ConnectorServiceTest {
         assertEquals(idsCatalog, result.getResourceCatalog().get(0));
     }
 
+    @Test
+    public void getSelfDescription_nothingChanged_reuseCatalogs() {
+        /* ARRANGE */
+        final var catalog = getCatalog();
+
+        when(catalogService.getAll(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(catalog)));
+        when(catalogBuilder.create(eq(catalog), eq(0))).thenReturn(getIdsCatalog());
+
+        /* ACT */
+        final var first = connectorService.getSelfDescription();
+        final var second = connectorService.getSelfDescription();
+
+        /* ASSERT */
+        assertSame(first, second);
+        verify(catalogService, times(1)).getAll(Pageable.unpaged());
+    }
+
+    @Test
+    public void getSelfDescription_entityChanged_rebuildCatalogs() {
+        /* ARRANGE */
+        final var catalog = getCatalog();
+
+        when(catalogService.getAll(Pageable.unpaged())).thenReturn(new PageImpl<>(List.of(catalog)));
+        when(catalogBuilder.create(eq(catalog), eq(0))).thenReturn(getIdsCatalog());
+
+        final var first = connectorService.getSelfDescription();
+
+        /* ACT */
+        connectorService.handleEntityChange(new EntityChangeEvent(catalog.getId(), catalog));
+        final var second = connectorService.getSelfDescription();
+
+        /* ASSERT */
+        assertNotSame(first, second);
+        verify(catalogService, times(2)).getAll(Pageable.unpaged());
+    }
+
     @Test
     public void getConnectorWithoutResources_returnConnectorWithoutCatalog() {
         /* ARRANGE */
@@ -29,13 +29,17 @@ import de.fraunhofer.iais.eis.ResourceUpdateMessageBuilder;
 import de.fraunhofer.iais.eis.TokenFormat;
 import de.fraunhofer.iais.eis.util.Util;
 import io.dataspaceconnector.common.exception.MessageEmptyException;
+import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 
 import static ids.messaging.util.IdsMessageUtils.getGregorianNow;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -400,6 +404,39 @@ class MessageUtilsTest {
                 .build();
     }
 
+    @Test
+    @SneakyThrows
+    public void encodeDataPayload_binaryData_returnBase64String() {
+        /* ARRANGE */
+        final var data = new byte[]{0, 1, 2, (byte) 0xFF, (byte) 0xFE};
+
+        /* ACT */
+        final var result = MessageUtils.encodeDataPayload(new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertEquals(Base64.getEncoder().encodeToString(data), result);
+    }
+
+    @Test
+    @SneakyThrows
+    public void decodeDataPayload_encodedBinaryData_returnOriginalData() {
+        /* ARRANGE */
+        final var data = new byte[]{0, 1, 2, (byte) 0xFF, (byte) 0xFE};
+        final var payload = MessageUtils.encodeDataPayload(new ByteArrayInputStream(data));
+
+        /* ACT */
+        final var result = MessageUtils.decodeDataPayload(payload);
+
+        /* ASSERT */
+        assertArrayEquals(data, result.readAllBytes());
+    }
+
+    @Test
+    public void decodeDataPayload_null_throwIllegalArgumentException() {
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class, () -> MessageUtils.decodeDataPayload(null));
+    }
+
     private RejectionMessage getRejectionMessage(final RejectionReason rejectionReason) {
         return new RejectionMessageBuilder(messageId)
                 ._issued_(getGregorianNow())
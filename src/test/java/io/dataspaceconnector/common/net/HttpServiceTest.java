@@ -46,6 +46,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class HttpServiceTest {
@@ -233,6 +236,28 @@ class HttpServiceTest {
         assertArrayEquals(bytes, result.getData().readAllBytes());
     }
 
+    @Test
+    @SneakyThrows
+    void get_responseWithBody_streamBodyAndCloseResponseWhenConsumed() {
+        /* ARRANGE */
+        final var target = new URL("https://target");
+        final var bytes = "response".getBytes(StandardCharsets.UTF_8);
+
+        when(httpSvc.get(any())).thenReturn(response);
+        when(response.code()).thenReturn(200);
+        when(response.body()).thenReturn(responseBody);
+        when(responseBody.byteStream()).thenReturn(new ByteArrayInputStream(bytes));
+
+        /* ACT */
+        final var result = (HttpResponse) service.get(target, new HttpService.HttpArgs());
+
+        /* ASSERT */
+        verify(response, never()).close();
+        verify(responseBody, never()).bytes();
+        assertArrayEquals(bytes, result.getData().readAllBytes());
+        verify(response, times(1)).close();
+    }
+
     @Test
     @SneakyThrows
     void get_withAlreadyDefinedQuery() {
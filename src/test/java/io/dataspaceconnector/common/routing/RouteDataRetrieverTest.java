@@ -15,8 +15,12 @@
  */
 package io.dataspaceconnector.common.routing;
 
+import java.io.InputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import io.dataspaceconnector.common.exception.DataRetrievalException;
@@ -26,12 +30,14 @@ import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Message;
 import org.apache.camel.ProducerTemplate;
+import org.apache.camel.converter.stream.InputStreamCache;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -66,7 +72,7 @@ class RouteDataRetrieverTest {
         when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
         when(exchange.getIn()).thenReturn(in);
         when(exchange.getException()).thenReturn(null);
-        when(in.getBody(String.class)).thenReturn(response);
+        when(in.getBody()).thenReturn(response);
 
         /* ACT */
         final var result = routeDataRetriever.get(url, null);
@@ -75,6 +81,66 @@ class RouteDataRetrieverTest {
         assertEquals(response, new String(result.getData().readAllBytes()));
     }
 
+    @Test
+    @SneakyThrows
+    void get_binaryStreamCacheInRoute_returnUnmodifiedData() {
+        /* ARRANGE */
+        final var url = new URL("https://" + UUID.randomUUID());
+        final var response = new byte[]{0, (byte) 0xC3, (byte) 0x28, (byte) 0xFF};
+        final var cache = new InputStreamCache(response);
+
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
+        when(exchange.getIn()).thenReturn(in);
+        when(exchange.getException()).thenReturn(null);
+        when(in.getBody()).thenReturn(cache);
+
+        /* ACT */
+        final var result = routeDataRetriever.get(url, null);
+
+        /* ASSERT */
+        assertArrayEquals(response, result.getData().readAllBytes());
+    }
+
+    @Test
+    @SneakyThrows
+    void get_rowsInRoute_returnRowsAsText() {
+        /* ARRANGE */
+        final var url = new URL("https://" + UUID.randomUUID());
+        final var rows = List.of(Map.of("id", 1), Map.of("id", 2));
+
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
+        when(exchange.getIn()).thenReturn(in);
+        when(exchange.getException()).thenReturn(null);
+        when(in.getBody()).thenReturn(rows);
+        when(in.getBody(InputStream.class)).thenReturn(null);
+        when(in.getBody(String.class)).thenReturn(rows.toString());
+
+        /* ACT */
+        final var result = routeDataRetriever.get(url, null);
+
+        /* ASSERT */
+        assertEquals(rows.toString(),
+                new String(result.getData().readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @SneakyThrows
+    void get_noBodyInRoute_returnEmptyData() {
+        /* ARRANGE */
+        final var url = new URL("https://" + UUID.randomUUID());
+
+        when(producerTemplate.send(anyString(), any(Exchange.class))).thenReturn(exchange);
+        when(exchange.getIn()).thenReturn(in);
+        when(exchange.getException()).thenReturn(null);
+        when(in.getBody()).thenReturn(null);
+
+        /* ACT */
+        final var result = routeDataRetriever.get(url, null);
+
+        /* ASSERT */
+        assertEquals(0, result.getData().readAllBytes().length);
+    }
+
     @Test
     @SneakyThrows
     void get_exceptionInRoute_throwDataRetrievalException() {
@@ -165,6 +165,20 @@ class UtilsTest {
         assertTrue(result.toList().contains(3));
     }
 
+    @Test
+    public void toPage_pageAfterFirstPages_returnOnlyPage() {
+        /* ARRANGE */
+        final var list = List.of(5, 4, 3, 2, 1);
+        final var pageable = PageRequest.of(2, 2);
+
+        /* ACT */
+        final var result = Utils.toPage(list, pageable);
+
+        /* ASSERT */
+        assertEquals(List.of(1), result.toList());
+        assertEquals(5, result.getTotalElements());
+    }
+
     /***********************************************************************************************
      * toPageRequest.                                                                              *
      **********************************************************************************************/
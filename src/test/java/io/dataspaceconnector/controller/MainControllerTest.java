@@ -24,6 +24,7 @@ import de.fraunhofer.iais.eis.BaseConnectorBuilder;
 import de.fraunhofer.iais.eis.ConnectorEndpointBuilder;
 import de.fraunhofer.iais.eis.SecurityProfile;
 import io.dataspaceconnector.common.ids.ConnectorService;
+import io.dataspaceconnector.common.ids.SelfDescription;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -102,7 +103,7 @@ public class MainControllerTest {
                         ._accessURL_(URI.create("https://accessUrl"))
                         .build())
                 .build();
-        Mockito.doReturn(connector).when(connectorService).getConnectorWithOfferedResources();
+        final var selfDescription = mockSelfDescription(connector.toRdf());
 
         /* ACT */
         final var result =
@@ -110,6 +111,23 @@ public class MainControllerTest {
 
         /* ASSERT */
         assertEquals(connector.toRdf(), result.getResponse().getContentAsString());
+        assertEquals(selfDescription.getEtag(), result.getResponse().getHeader("ETag"));
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    public void getPrivateSelfDescription_etagMatches_NotModified() throws Exception {
+        /* ARRANGE */
+        final var selfDescription = mockSelfDescription("{}");
+
+        /* ACT */
+        final var result = mockMvc.perform(get("/api/connector")
+                        .header("If-None-Match", selfDescription.getEtag()))
+                .andExpect(status().isNotModified()).andReturn();
+
+        /* ASSERT */
+        assertEquals("", result.getResponse().getContentAsString());
+        assertEquals(selfDescription.getEtag(), result.getResponse().getHeader("ETag"));
     }
 
 
@@ -117,7 +135,7 @@ public class MainControllerTest {
     @WithMockUser("ADMIN")
     public void getPrivateSelfDescription_serviceFails_InternalServerError() throws Exception {
         /* ARRANGE */
-        Mockito.doThrow(ConstraintViolationException.class).when(connectorService).getConnectorWithOfferedResources();
+        Mockito.doThrow(ConstraintViolationException.class).when(connectorService).getSerializedSelfDescription();
 
         /* ACT */
         final var result = mockMvc.perform(get("/api/connector"))
@@ -176,4 +194,12 @@ public class MainControllerTest {
                 result.getResponse().getContentAsString());
         assertEquals("application/hal+json", result.getResponse().getContentType());
     }
+
+    private SelfDescription mockSelfDescription(final String rdf) {
+        final var selfDescription = Mockito.mock(SelfDescription.class);
+        Mockito.doReturn(rdf).when(selfDescription).getRdf();
+        Mockito.doReturn("\"etag\"").when(selfDescription).getEtag();
+        Mockito.doReturn(selfDescription).when(connectorService).getSerializedSelfDescription();
+        return selfDescription;
+    }
 }
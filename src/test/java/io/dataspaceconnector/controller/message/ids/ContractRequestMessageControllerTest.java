@@ -15,15 +15,23 @@
  */
 package io.dataspaceconnector.controller.message.ids;
 
+import de.fraunhofer.iais.eis.DynamicAttributeTokenBuilder;
+import de.fraunhofer.iais.eis.TokenFormat;
+import io.dataspaceconnector.common.ids.ConnectorService;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.UUID;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
 @SpringBootTest
@@ -33,6 +41,9 @@ public class ContractRequestMessageControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @MockBean
+    private ConnectorService connectorService;
+
     @Test
     @WithMockUser("ADMIN")
     public void sendContractRequestMessage_noRecipient_throws400() throws Exception {
@@ -47,4 +58,33 @@ public class ContractRequestMessageControllerTest {
         assertTrue(result.getResponse().getContentAsString().isEmpty());
         assertEquals(400, result.getResponse().getStatus());
     }
+
+    @Test
+    @WithMockUser("ADMIN")
+    public void startNegotiation_noRecipient_throws400() throws Exception {
+        /* ACT */
+        final var result = mockMvc.perform(post("/api/ids/contract/jobs"))
+                .andReturn();
+
+        /* ASSERT */
+        assertEquals(400, result.getResponse().getStatus());
+    }
+
+    @Test
+    @WithMockUser("ADMIN")
+    public void getNegotiation_unknownJob_throws404() throws Exception {
+        /* ARRANGE */
+        Mockito.doReturn(new DynamicAttributeTokenBuilder()
+                ._tokenValue_("token")
+                ._tokenFormat_(TokenFormat.JWT)
+                .build()).when(connectorService).getCurrentDat();
+
+        /* ACT */
+        final var result = mockMvc.perform(get("/api/ids/contract/jobs/"
+                        + UUID.randomUUID()))
+                .andReturn();
+
+        /* ASSERT */
+        assertEquals(404, result.getResponse().getStatus());
+    }
 }
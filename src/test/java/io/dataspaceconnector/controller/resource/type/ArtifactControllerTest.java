@@ -16,6 +16,8 @@
 package io.dataspaceconnector.controller.resource.type;
 
 import ids.messaging.protocol.UnexpectedResponseException;
+import io.dataspaceconnector.common.exception.InvalidInputException;
+import io.dataspaceconnector.common.exception.UploadOffsetException;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.RouteDataDispatcher;
 import io.dataspaceconnector.controller.resource.view.artifact.ArtifactViewAssembler;
@@ -31,6 +33,7 @@ import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.service.message.SubscriberNotificationService;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
 import io.dataspaceconnector.service.resource.type.ArtifactService;
+import io.dataspaceconnector.service.storage.UploadStaging;
 import io.dataspaceconnector.service.usagecontrol.DataAccessVerifier;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -39,13 +42,20 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 
@@ -94,6 +104,9 @@ class ArtifactControllerTest {
     @MockBean
     private RouteViewAssembler routeViewAssembler;
 
+    @MockBean
+    private UploadStaging uploadStaging;
+
     @SpyBean
     private ArtifactService service;
 
@@ -106,15 +119,139 @@ class ArtifactControllerTest {
         final var artifactId = UUID.randomUUID();
         final byte[] data = {0 , 1, 2, 3};
 
-        Mockito.doReturn(null).when(service).setData(eq(artifactId), any());
+        Mockito.doReturn(InputStream.nullInputStream()).when(service)
+                .setData(eq(artifactId), any());
         Mockito.doReturn(null).when(service).get(any());
         Mockito.doNothing().when(subscriberNotificationService).notifyOnUpdate(any());
 
         /* ACT */
-        final var result = controller.putData(artifactId, data);
+        final var result = controller.putData(artifactId, null, null,
+                new ByteArrayInputStream(data));
+
+        /* ASSERT */
+        assertEquals(HttpStatus.NO_CONTENT.value(), result.getStatusCode().value());
+        Mockito.verify(uploadStaging).discard(artifactId);
+        Mockito.verifyNoMoreInteractions(uploadStaging);
+    }
+
+    @Test
+    public void putData_firstPart_acceptAndReturnReceivedRange() throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var data = new ByteArrayInputStream(new byte[]{0, 1});
+
+        Mockito.doReturn(null).when(service).get(any());
+        Mockito.doReturn(new UploadStaging.Upload("upload", 2)).when(uploadStaging)
+                .append(artifactId, null, 0, 2, 4, data);
+
+        /* ACT */
+        final var result = controller.putData(artifactId, "bytes 0-1/4", null, data);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.ACCEPTED.value(), result.getStatusCode().value());
+        assertEquals("bytes=0-1", result.getHeaders().getFirst(HttpHeaders.RANGE));
+        assertEquals("\"upload\"", result.getHeaders().getETag());
+        Mockito.verify(service, Mockito.never()).setData(any(), any());
+    }
+
+    @Test
+    public void putData_lastPart_storeCollectedData() throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var data = new ByteArrayInputStream(new byte[]{2, 3});
+        final var collected = new ByteArrayInputStream(new byte[]{0, 1, 2, 3});
+
+        Mockito.doReturn(null).when(service).get(any());
+        Mockito.doReturn(new UploadStaging.Upload("upload", 4)).when(uploadStaging)
+                .append(artifactId, "upload", 2, 2, 4, data);
+        Mockito.doReturn(collected).when(uploadStaging).open(artifactId);
+        Mockito.doReturn(InputStream.nullInputStream()).when(service)
+                .setData(artifactId, collected);
+
+        /* ACT */
+        final var result = controller.putData(artifactId, "bytes 2-3/4", "\"upload\"", data);
 
         /* ASSERT */
         assertEquals(HttpStatus.NO_CONTENT.value(), result.getStatusCode().value());
+        Mockito.verify(service).setData(artifactId, collected);
+        Mockito.verify(uploadStaging).discard(artifactId);
+        Mockito.verify(subscriberNotificationService).notifyOnUpdate(any());
+    }
+
+    @Test
+    public void putData_partAtWrongOffset_returnReceivedRange() throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var data = new ByteArrayInputStream(new byte[]{2, 3});
+
+        Mockito.doReturn(null).when(service).get(any());
+        Mockito.doThrow(new UploadOffsetException(1)).when(uploadStaging)
+                .append(artifactId, "upload", 2, 2, 4, data);
+
+        /* ACT */
+        final var result = controller.putData(artifactId, "bytes 2-3/4", "\"upload\"", data);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value(),
+                result.getStatusCode().value());
+        assertEquals("bytes=0-0", result.getHeaders().getFirst(HttpHeaders.RANGE));
+    }
+
+    @Test
+    public void putData_statusQuery_returnReceivedRange() throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+
+        Mockito.doReturn(null).when(service).get(any());
+        Mockito.doReturn(new UploadStaging.Upload("upload", 3)).when(uploadStaging)
+                .get(artifactId, "upload", 4);
+
+        /* ACT */
+        final var result = controller.putData(artifactId, "bytes */4", "\"upload\"",
+                InputStream.nullInputStream());
+
+        /* ASSERT */
+        assertEquals(HttpStatus.ACCEPTED.value(), result.getStatusCode().value());
+        assertEquals("bytes=0-2", result.getHeaders().getFirst(HttpHeaders.RANGE));
+    }
+
+    @Test
+    public void putData_invalidContentRange_returnBadRequest() throws IOException {
+        /* ACT */
+        final var result = controller.putData(UUID.randomUUID(), "bytes 0-1", null,
+                InputStream.nullInputStream());
+
+        /* ASSERT */
+        assertEquals(HttpStatus.BAD_REQUEST.value(), result.getStatusCode().value());
+    }
+
+    @Test
+    public void putData_partLongerThanDeclared_returnBadRequest() throws IOException {
+        /* ARRANGE */
+        final var artifactId = UUID.randomUUID();
+        final var data = new ByteArrayInputStream(new byte[]{0, 1, 2});
+
+        Mockito.doReturn(null).when(service).get(any());
+        Mockito.doThrow(new InvalidInputException("too long")).when(uploadStaging)
+                .append(artifactId, null, 0, 2, 4, data);
+
+        /* ACT */
+        final var result = controller.putData(artifactId, "bytes 0-1/4", null, data);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.BAD_REQUEST.value(), result.getStatusCode().value());
+        Mockito.verify(service, Mockito.never()).setData(any(), any());
+    }
+
+    @Test
+    public void putData_partBeyondTotal_returnBadRequest() throws IOException {
+        /* ACT */
+        final var result = controller.putData(UUID.randomUUID(), "bytes 2-4/4", "\"upload\"",
+                InputStream.nullInputStream());
+
+        /* ASSERT */
+        assertEquals(HttpStatus.BAD_REQUEST.value(), result.getStatusCode().value());
+        Mockito.verifyNoInteractions(uploadStaging);
     }
 
     @Test
@@ -132,12 +269,127 @@ class ArtifactControllerTest {
                 .getData(any(), any(), eq(artifactId), eq(queryInput), any());
 
         /* ACT */
-        final var result = controller.getData(artifactId, null, queryInput);
+        final var result = controller.getData(artifactId, null, queryInput,
+                new MockHttpServletRequest());
 
         /* ASSERT */
         assertEquals(HttpStatus.OK.value(), result.getStatusCode().value());
     }
 
+    @Test
+    public void getData_localData_returnETagAndLength() throws
+            IOException,
+            UnexpectedResponseException,
+            io.dataspaceconnector.common.exception.UnexpectedResponseException {
+        /* ARRANGE */
+        final var artifactId = mockLocalData(new byte[]{0, 1, 2, 3});
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, new QueryInput(),
+                new MockHttpServletRequest());
+
+        /* ASSERT */
+        assertEquals(HttpStatus.OK.value(), result.getStatusCode().value());
+        assertEquals("\"2a-4\"", result.getHeaders().getETag());
+        assertEquals(4, result.getHeaders().getContentLength());
+        assertEquals("bytes", result.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES));
+    }
+
+    @Test
+    public void getData_matchingIfNoneMatch_returnNotModified() throws
+            IOException,
+            UnexpectedResponseException,
+            io.dataspaceconnector.common.exception.UnexpectedResponseException {
+        /* ARRANGE */
+        final var artifactId = mockLocalData(new byte[]{0, 1, 2, 3});
+        final var request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"2a-4\"");
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, new QueryInput(), request);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), result.getStatusCode().value());
+        assertNull(result.getBody());
+    }
+
+    @Test
+    public void getData_range_returnPartialContent() throws
+            IOException,
+            UnexpectedResponseException,
+            io.dataspaceconnector.common.exception.UnexpectedResponseException {
+        /* ARRANGE */
+        final var artifactId = mockLocalData(new byte[]{0, 1, 2, 3});
+        final var request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=1-2");
+        final var output = new ByteArrayOutputStream();
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, new QueryInput(), request);
+        Objects.requireNonNull(result.getBody()).writeTo(output);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.PARTIAL_CONTENT.value(), result.getStatusCode().value());
+        assertEquals("bytes 1-2/4", result.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+        assertArrayEquals(new byte[]{1, 2}, output.toByteArray());
+    }
+
+    @Test
+    public void getData_rangeOfChangedData_returnAllData() throws
+            IOException,
+            UnexpectedResponseException,
+            io.dataspaceconnector.common.exception.UnexpectedResponseException {
+        /* ARRANGE */
+        final var artifactId = mockLocalData(new byte[]{0, 1, 2, 3});
+        final var request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=1-2");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"1-4\"");
+        final var output = new ByteArrayOutputStream();
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, new QueryInput(), request);
+        Objects.requireNonNull(result.getBody()).writeTo(output);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.OK.value(), result.getStatusCode().value());
+        assertArrayEquals(new byte[]{0, 1, 2, 3}, output.toByteArray());
+    }
+
+    @Test
+    public void getData_unsatisfiableRange_returnRangeNotSatisfiable() throws
+            IOException,
+            UnexpectedResponseException,
+            io.dataspaceconnector.common.exception.UnexpectedResponseException {
+        /* ARRANGE */
+        final var artifactId = mockLocalData(new byte[]{0, 1, 2, 3});
+        final var request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.RANGE, "bytes=4-");
+
+        /* ACT */
+        final var result = controller.getData(artifactId, null, new QueryInput(), request);
+
+        /* ASSERT */
+        assertEquals(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value(),
+                result.getStatusCode().value());
+        assertEquals("bytes */4", result.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE));
+    }
+
+    private UUID mockLocalData(final byte[] data) throws
+            IOException,
+            UnexpectedResponseException,
+            io.dataspaceconnector.common.exception.UnexpectedResponseException {
+        final var artifactId = UUID.randomUUID();
+        final var artifact = Mockito.mock(Artifact.class);
+        Mockito.doReturn((long) data.length).when(artifact).getByteSize();
+        Mockito.doReturn(42L).when(artifact).getCheckSum();
+
+        Mockito.doReturn(new ByteArrayInputStream(data)).when(service)
+                .getData(any(), any(), eq(artifactId), any(QueryInput.class), any());
+        Mockito.doReturn(true).when(service).hasLocalData(artifactId);
+        Mockito.doReturn(artifact).when(service).get(artifactId);
+        return artifactId;
+    }
+
     //    @Test
 //    public void getData_null_throwIllegalArgumentException() {
 //        /* ARRANGE */
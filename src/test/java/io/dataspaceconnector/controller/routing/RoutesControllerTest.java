@@ -16,10 +16,10 @@
 package io.dataspaceconnector.controller.routing;
 
 import javax.xml.bind.JAXBException;
-import javax.xml.bind.Unmarshaller;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 
+import io.dataspaceconnector.config.camel.UnmarshallerPool;
 import org.apache.camel.impl.DefaultCamelContext;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.RoutesDefinition;
@@ -50,7 +50,7 @@ public class RoutesControllerTest {
     private RouteController routeController;
 
     @MockBean
-    private Unmarshaller unmarshaller;
+    private UnmarshallerPool unmarshaller;
 
     @Autowired
     private RoutesController routesController;
@@ -90,6 +90,11 @@ public class BootstrapperTest {
                .when(catalogService)
                .getAll(Mockito.any());
 
+        Mockito.doAnswer(x -> catalogList.stream()
+                       .anyMatch(c -> x.getArgument(0).equals(c.getBootstrapId())))
+               .when(catalogService)
+               .existsByBootstrapId(Mockito.any());
+
         Mockito.doAnswer(x -> createCatalog(x.getArgument(0)))
                .when(templateBuilder)
                .build(Mockito.any(CatalogTemplate.class));
@@ -105,6 +110,21 @@ public class BootstrapperTest {
         assertEquals(2, catalogService.getAll(Pageable.unpaged()).getSize());
     }
 
+    @SneakyThrows
+    @Test
+    public void bootstrap_catalogsAlreadyRegistered_skipCatalogs() {
+        /* ARRANGE */
+        Mockito.doReturn(getResponse()).when(messageService).sendConnectorUpdateMessage(Mockito.any());
+        Mockito.doReturn(true).when(catalogService).existsByBootstrapId(Mockito.any());
+
+        /* ACT */
+        bootstrapper.bootstrap();
+
+        /* ASSERT */
+        Mockito.verify(templateBuilder, Mockito.never()).build(Mockito.any(CatalogTemplate.class));
+        Mockito.verify(catalogService, Mockito.never()).getAll(Mockito.any());
+    }
+
 
     @SneakyThrows
     private Catalog getCatalogOne() {
@@ -41,7 +41,7 @@ public class HttpTraceEventHandlerTest {
         handler.sendHttpTraceEvent(trace);
 
         /* ASSERT */
-        Mockito.verify(publisher, Mockito.atMostOnce()).publishEvent(Mockito.eq(trace));
+        Mockito.verify(publisher, Mockito.timeout(5000).times(1)).publishEvent(Mockito.eq(trace));
     }
 
     @Test
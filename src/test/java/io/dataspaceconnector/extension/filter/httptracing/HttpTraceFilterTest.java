@@ -15,28 +15,30 @@
  */
 package io.dataspaceconnector.extension.filter.httptracing;
 
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
-import java.time.ZonedDateTime;
-import java.util.Collections;
-import java.util.HashMap;
 
-import io.dataspaceconnector.extension.filter.httptracing.internal.RequestWrapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+import javax.servlet.Servlet;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @ExtendWith(MockitoExtension.class)
 public class HttpTraceFilterTest {
@@ -44,52 +46,23 @@ public class HttpTraceFilterTest {
     @Mock
     HttpTraceEventHandler eventHandler;
 
-    @Mock
-    MockHttpServletRequest request;
-
-    @Mock
-    MockHttpServletResponse response;
-
-    @Mock
-    MockFilterChain filterChain;
-
     @Captor
     private ArgumentCaptor<HttpTrace> traceCaptor;
 
-    @InjectMocks
-    private HttpTraceFilter filter;
-
     @Test
     public void doFilterInternal_validRequest_captureRequest() throws Exception {
         /* ARRANGE */
-        final var now = ZonedDateTime.now();
-        final var headers = new HashMap<>();
-        headers.put("SOME", "HEADER");
-
-        final var headerNames = Collections.enumeration(headers.keySet());
-
-        Mockito.doReturn(headerNames).when(request).getHeaderNames();
-        Mockito.doReturn("/URI").when(request).getRequestURI();
-        Mockito.doReturn("METHOD").when(request).getMethod();
-        Mockito.doReturn("CLIENT").when(request).getRemoteAddr();
-
-        final var params = new HashMap<>();
-        params.put("OTHER", "PARAMETER");
-
-        final var parameterNames = Collections.enumeration(params.keySet());
-        Mockito.doReturn(parameterNames).when(request).getParameterNames();
-
-        final var customServletIS =
-                RequestWrapper.class.getDeclaredClasses()[0].getDeclaredConstructor(byte[].class);
-        customServletIS.setAccessible(true);
-        final var requestBody =
-                customServletIS.newInstance("BODY".getBytes(StandardCharsets.UTF_8));
-
-        Mockito.doReturn(requestBody).when(request).getInputStream();
-        Mockito.doReturn(StandardCharsets.UTF_8.name()).when(request).getCharacterEncoding();
+        final var filter = new HttpTraceFilter(eventHandler, 1.0, DataSize.ofKilobytes(4));
+        final var request = new MockHttpServletRequest("METHOD", "/URI");
+        request.addHeader("SOME", "HEADER");
+        request.addParameter("OTHER", "PARAMETER");
+        request.setRemoteAddr("CLIENT");
+        request.setContent("BODY".getBytes(StandardCharsets.UTF_8));
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        final var response = new MockHttpServletResponse();
 
         /* ACT */
-        filter.doFilter(request, response, filterChain);
+        filter.doFilter(request, response, new MockFilterChain(echoServlet()));
 
         /* ASSERT */
         Mockito.verify(eventHandler, Mockito.times(2)).sendHttpTraceEvent(traceCaptor.capture());
@@ -99,22 +72,94 @@ public class HttpTraceFilterTest {
 
         final var requestTrace = traces.get(0);
         assertNotNull(requestTrace.getTraceId());
-        // FIXME HttpTraceFilterTest.doFilterInternal_validRequest_captureRequest:102 expected: <true> but was: <false>
-//        assertTrue(requestTrace.getTimestamp().isAfter(now));
+        assertNotNull(requestTrace.getTimestamp());
         assertEquals("/URI", requestTrace.getUrl());
         assertEquals("METHOD", requestTrace.getMethod());
         assertEquals("CLIENT", requestTrace.getClient());
+        assertEquals("HEADER", requestTrace.getHeaders().get("SOME"));
+        assertEquals("PARAMETER", requestTrace.getParameterMap().get("OTHER"));
+        assertEquals("BODY", requestTrace.getBody());
+        assertEquals(4, requestTrace.getBodySize());
 
         final var responseTrace = traces.get(1);
         assertEquals(responseTrace.getTraceId(), requestTrace.getTraceId());
-        // FIXME HttpTraceFilterTest.doFilterInternal_validRequest_captureRequest:109 expected: <true> but was: <false>
-//        assertTrue(responseTrace.getTimestamp().isAfter(requestTrace.getTimestamp()));
         assertNull(responseTrace.getMethod());
         assertNull(responseTrace.getUrl());
-        assertEquals("ERROR", responseTrace.getBody());
-        assertEquals(0, responseTrace.getHeaders().size());
-        assertEquals(0, responseTrace.getStatus());
+        assertEquals("BODY", responseTrace.getBody());
+        assertEquals(200, responseTrace.getStatus());
         assertNull(responseTrace.getClient());
         assertNull(responseTrace.getParameterMap());
+        assertEquals("BODY", response.getContentAsString());
+    }
+
+    @Test
+    public void doFilterInternal_largeBody_truncateCapturedBody() throws Exception {
+        /* ARRANGE */
+        final var filter = new HttpTraceFilter(eventHandler, 1.0, DataSize.ofBytes(2));
+        final var request = new MockHttpServletRequest("POST", "/URI");
+        request.setContent("BODY".getBytes(StandardCharsets.UTF_8));
+        final var response = new MockHttpServletResponse();
+
+        /* ACT */
+        filter.doFilter(request, response, new MockFilterChain(echoServlet()));
+
+        /* ASSERT */
+        Mockito.verify(eventHandler, Mockito.times(2)).sendHttpTraceEvent(traceCaptor.capture());
+        final var traces = traceCaptor.getAllValues();
+        assertEquals("BO", traces.get(0).getBody());
+        assertEquals(4, traces.get(0).getBodySize());
+        assertEquals("BO", traces.get(1).getBody());
+        assertEquals(4, traces.get(1).getBodySize());
+        assertEquals("BODY", response.getContentAsString());
+    }
+
+    @Test
+    public void doFilterInternal_responseWrittenWithWriter_captureResponse() throws Exception {
+        /* ARRANGE */
+        final var filter = new HttpTraceFilter(eventHandler, 1.0, DataSize.ofKilobytes(4));
+        final var request = new MockHttpServletRequest("GET", "/URI");
+        final var response = new MockHttpServletResponse();
+        final var servlet = new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse res)
+                    throws IOException {
+                res.getWriter().write("HELLO");
+            }
+        };
+
+        /* ACT */
+        filter.doFilter(request, response, new MockFilterChain(servlet));
+
+        /* ASSERT */
+        Mockito.verify(eventHandler, Mockito.times(2)).sendHttpTraceEvent(traceCaptor.capture());
+        assertEquals("HELLO", traceCaptor.getAllValues().get(1).getBody());
+        assertEquals("HELLO", response.getContentAsString());
+    }
+
+    @Test
+    public void doFilterInternal_notSampled_passRequestWithoutTrace() throws Exception {
+        /* ARRANGE */
+        final var filter = new HttpTraceFilter(eventHandler, 0.0, DataSize.ofKilobytes(4));
+        final var request = new MockHttpServletRequest("GET", "/URI");
+        final var response = new MockHttpServletResponse();
+        final var chain = new MockFilterChain();
+
+        /* ACT */
+        filter.doFilter(request, response, chain);
+
+        /* ASSERT */
+        Mockito.verifyNoInteractions(eventHandler);
+        assertEquals(request, chain.getRequest());
+        assertEquals(response, chain.getResponse());
+    }
+
+    private Servlet echoServlet() {
+        return new HttpServlet() {
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse res)
+                    throws IOException {
+                StreamUtils.copy(req.getInputStream(), res.getOutputStream());
+            }
+        };
     }
 }
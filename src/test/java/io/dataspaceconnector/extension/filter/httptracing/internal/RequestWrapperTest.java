@@ -18,74 +18,77 @@ package io.dataspaceconnector.extension.filter.httptracing.internal;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockHttpServletRequest;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RequestWrapperTest {
 
     @Test
-    public void getRequestBody_copyBody_returnContent() throws IOException {
+    public void getInputStream_readBody_returnContentAndCaptureBody() throws IOException {
         /* ARRANGE */
         final var request = new MockHttpServletRequest();
         request.setContent("HELLO".getBytes(StandardCharsets.UTF_8));
-        request.setCharacterEncoding(String.valueOf(Charset.defaultCharset()));
-
-        final var wrapper = new RequestWrapper(request);
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        final var wrapper = new RequestWrapper(request, 1024);
 
         /* ACT */
-        final var result = wrapper.getRequestBody();
+        final var result = wrapper.getInputStream();
 
         /* ASSERT */
-        assertTrue(Arrays.equals("HELLO".getBytes(StandardCharsets.UTF_8), result));
+        assertTrue(Arrays.equals("HELLO".getBytes(StandardCharsets.UTF_8), result.readAllBytes()));
+        assertTrue(result.isFinished());
+        assertTrue(result.isReady());
+        assertSame(result, wrapper.getInputStream());
+        assertEquals("HELLO", wrapper.getCapturedBody());
+        assertEquals(5, wrapper.getBodySize());
     }
 
     @Test
-    public void getInputStream_copyBody_returnContent() throws IOException {
+    public void getInputStream_bodyLargerThanLimit_captureBeginningOnly() throws IOException {
         /* ARRANGE */
         final var request = new MockHttpServletRequest();
         request.setContent("HELLO".getBytes(StandardCharsets.UTF_8));
-        request.setCharacterEncoding(String.valueOf(Charset.defaultCharset()));
-        final var wrapper = new RequestWrapper(request);
+        final var wrapper = new RequestWrapper(request, 2);
 
         /* ACT */
-        final var result = wrapper.getInputStream();
+        final var result = wrapper.getInputStream().readAllBytes();
 
         /* ASSERT */
-        assertTrue(Arrays.equals("HELLO".getBytes(StandardCharsets.UTF_8), result.readAllBytes()));
-        assertTrue(result.isFinished());
-        assertTrue(result.isReady());
+        assertEquals(5, result.length);
+        assertEquals("HE", wrapper.getCapturedBody());
+        assertEquals(5, wrapper.getBodySize());
     }
 
     @Test
-    public void getReader_copyBody_returnContent() throws IOException {
+    public void getReader_readBody_returnContentAndCaptureBody() throws IOException {
         /* ARRANGE */
         final var request = new MockHttpServletRequest();
         request.setContent("HELLO".getBytes(StandardCharsets.UTF_8));
-        request.setCharacterEncoding(String.valueOf(Charset.defaultCharset()));
-        final var wrapper = new RequestWrapper(request);
-        wrapper.getRequestBody();
+        request.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        final var wrapper = new RequestWrapper(request, 1024);
 
-        final var reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(
-                "HELLO".getBytes(StandardCharsets.UTF_8))));
+        /* ACT */
+        final var result = wrapper.getReader().readLine();
 
-        /* ACT && ASSERT */
-        final var result = wrapper.getReader();
+        /* ASSERT */
+        assertEquals("HELLO", result);
+        assertEquals("HELLO", wrapper.getCapturedBody());
+    }
 
-        while (true) {
-            final var x = result.read();
-            final var y = reader.read();
-            assertEquals(x, y);
-            if (x == -1 || y == -1) {
-                break;
-            }
-        }
+    @Test
+    public void getCapturedBody_bodyNotRead_returnEmpty() {
+        /* ARRANGE */
+        final var request = new MockHttpServletRequest();
+        request.setContent("HELLO".getBytes(StandardCharsets.UTF_8));
+        final var wrapper = new RequestWrapper(request, 1024);
+
+        /* ACT && ASSERT */
+        assertEquals("", wrapper.getCapturedBody());
+        assertEquals(0, wrapper.getBodySize());
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.filter.httptracing.internal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ResponseWrapperTest {
+
+    @Test
+    public void getOutputStream_writeBody_passContentAndCaptureBody() throws IOException {
+        /* ARRANGE */
+        final var response = new MockHttpServletResponse();
+        final var wrapper = new ResponseWrapper(response, 2);
+
+        /* ACT */
+        wrapper.getOutputStream().write("HELLO".getBytes(StandardCharsets.UTF_8));
+
+        /* ASSERT */
+        assertEquals("HELLO", response.getContentAsString());
+        assertEquals("HE", wrapper.getCapturedBody());
+        assertEquals(5, wrapper.getBodySize());
+    }
+
+    @Test
+    public void getWriter_writeBody_passContentAfterFlush() throws IOException {
+        /* ARRANGE */
+        final var response = new MockHttpServletResponse();
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        final var wrapper = new ResponseWrapper(response, 1024);
+
+        /* ACT */
+        wrapper.getWriter().write("HELLO");
+        wrapper.flushBuffer();
+
+        /* ASSERT */
+        assertEquals("HELLO", response.getContentAsString());
+        assertEquals("HELLO", wrapper.getCapturedBody());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.filter.httptracing.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferTest {
+
+    @Test
+    public void offer_bufferFull_dropElement() {
+        /* ARRANGE */
+        final var buffer = new RingBuffer<Integer>(2);
+        buffer.offer(1);
+        buffer.offer(2);
+
+        /* ACT */
+        final var result = buffer.offer(3);
+
+        /* ASSERT */
+        assertFalse(result);
+        assertEquals(1, buffer.drainDropped());
+        assertEquals(0, buffer.drainDropped());
+        assertEquals(1, buffer.poll());
+        assertEquals(2, buffer.poll());
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    public void poll_afterWrapAround_returnElementsInOrder() {
+        /* ARRANGE */
+        final var buffer = new RingBuffer<Integer>(4);
+
+        /* ACT */
+        final var result = new ArrayList<Integer>();
+        for (int i = 0; i < 10; i++) {
+            assertTrue(buffer.offer(i));
+            result.add(buffer.poll());
+        }
+
+        /* ASSERT */
+        assertEquals(10, result.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, result.get(i));
+        }
+    }
+
+    @Test
+    public void offer_concurrentProducers_keepAllAcceptedElements() throws Exception {
+        /* ARRANGE */
+        final var buffer = new RingBuffer<Integer>(4096);
+        final var start = new CountDownLatch(1);
+        final var producers = new ArrayList<Thread>();
+        for (int p = 0; p < 4; p++) {
+            final var producer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 1000; i++) {
+                    buffer.offer(i);
+                }
+            });
+            producer.start();
+            producers.add(producer);
+        }
+
+        /* ACT */
+        start.countDown();
+        for (final var producer : producers) {
+            producer.join();
+        }
+
+        /* ASSERT */
+        var count = 0;
+        while (buffer.poll() != null) {
+            count++;
+        }
+        assertEquals(4000, count);
+        assertEquals(0, buffer.drainDropped());
+    }
+}
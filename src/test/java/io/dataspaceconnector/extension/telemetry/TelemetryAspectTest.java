@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.extension.telemetry;
+
+import java.util.Map;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.trace.Span;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TelemetryAspectTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final Traced traced = createProxy();
+
+    @BeforeAll
+    static void initTracer() {
+        new CustomOpenTelemetry("");
+    }
+
+    @Test
+    public void addSpan_methodSucceeds_closeScopeAndRecordDuration() {
+        /* ACT */
+        final var spanInMethod = traced.succeed();
+
+        /* ASSERT */
+        assertTrue(spanInMethod.getSpanContext().isValid());
+        assertNotEquals(spanInMethod, Span.current());
+        assertFalse(Span.current().getSpanContext().isValid());
+        assertEquals(1, registry.get(TelemetryAspect.TIMER_NAME)
+                .tag("span", "Traced.succeed").tag("outcome", "success").timer().count());
+    }
+
+    @Test
+    public void addSpan_methodFails_closeScopeAndRecordError() {
+        /* ACT */
+        assertThrows(IllegalStateException.class, traced::fail);
+
+        /* ASSERT */
+        assertFalse(Span.current().getSpanContext().isValid());
+        assertEquals(1, registry.get(TelemetryAspect.TIMER_NAME)
+                .tag("span", "custom").tag("outcome", "error").timer().count());
+    }
+
+    private Traced createProxy() {
+        final var factory = new AspectJProxyFactory(new Traced());
+        factory.addAspect(new TelemetryAspect(
+                new StaticListableBeanFactory(Map.of("registry", registry))
+                        .getBeanProvider(MeterRegistry.class)));
+        return factory.getProxy();
+    }
+
+    public static class Traced {
+        @TelemetrySpan
+        public Span succeed() {
+            return Span.current();
+        }
+
+        @TelemetrySpan(name = "custom")
+        public void fail() {
+            throw new IllegalStateException();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.model.artifact.ArtifactDesc;
+import io.dataspaceconnector.model.artifact.ArtifactFactory;
+import io.dataspaceconnector.model.artifact.Data;
+import io.dataspaceconnector.model.artifact.LocalData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArtifactRepositoryIT extends AbstractRepositoryIT {
+
+    @Autowired
+    private ArtifactRepository repository;
+
+    @Test
+    public void findAll_pageThroughArtifacts_doNotLoadData() {
+        /* ARRANGE */
+        final var factory = new ArtifactFactory();
+        final var artifacts = new ArrayList<Artifact>();
+        for (int i = 0; i < 1000; i++) {
+            final var desc = new ArtifactDesc();
+            desc.setValue("payload-" + i);
+            artifacts.add(factory.create(desc));
+        }
+        repository.saveAll(artifacts);
+        final var statistics = startCounting();
+
+        /* ACT */
+        var page = repository.findAll(PageRequest.of(0, 100));
+        var loaded = page.getNumberOfElements();
+        while (page.hasNext()) {
+            page = repository.findAll(page.nextPageable());
+            loaded += page.getNumberOfElements();
+        }
+
+        /* ASSERT */
+        assertTrue(loaded >= 1000);
+        assertEquals(0, statistics.getEntityStatistics(Data.class.getName()).getLoadCount());
+        assertEquals(0, statistics.getEntityStatistics(LocalData.class.getName()).getLoadCount());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void incrementAccessCounter_concurrentAccesses_countEveryAccessUpToLimit()
+            throws Exception {
+        /* ARRANGE */
+        final var artifact = repository.save(new ArtifactFactory().create(new ArtifactDesc()));
+        final var executor = Executors.newFixedThreadPool(4);
+        final var accesses = IntStream.range(0, 200)
+                .mapToObj(i -> (Callable<Integer>) () ->
+                        repository.incrementAccessCounter(artifact.getId(), 150))
+                .collect(Collectors.toList());
+
+        /* ACT */
+        var updated = 0;
+        try {
+            for (final var result : executor.invokeAll(accesses)) {
+                updated += result.get();
+            }
+        } finally {
+            executor.shutdown();
+            repository.delete(artifact);
+        }
+
+        /* ASSERT */
+        assertEquals(150, updated);
+    }
+
+    @Test
+    public void incrementAccessCounter_artifactDeleted_doNotCount() {
+        /* ARRANGE */
+        final var artifact = repository.save(new ArtifactFactory().create(new ArtifactDesc()));
+        repository.delete(artifact);
+        repository.flush();
+
+        /* ACT */
+        final var updated = repository.incrementAccessCounter(artifact.getId(), Long.MAX_VALUE);
+
+        /* ASSERT */
+        assertEquals(0, updated);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.repository;
+
+import java.util.ArrayList;
+
+import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.model.resource.OfferedResourceDesc;
+import io.dataspaceconnector.model.resource.OfferedResourceFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OfferedResourcesRepositoryIT extends AbstractRepositoryIT {
+
+    @Autowired
+    private OfferedResourcesRepository repository;
+
+    @Test
+    public void findAll_pageOfResources_loadAdditionalWithOneQuery() {
+        /* ARRANGE */
+        final var factory = new OfferedResourceFactory();
+        final var resources = new ArrayList<OfferedResource>();
+        for (int i = 0; i < 150; i++) {
+            final var desc = new OfferedResourceDesc();
+            desc.addOverflow("index", String.valueOf(i));
+            resources.add(factory.create(desc));
+        }
+        repository.saveAll(resources);
+        final var statistics = startCounting();
+
+        /* ACT */
+        final var page = repository.findAll(PageRequest.of(0, 100));
+        page.forEach(resource -> resource.getAdditional().size());
+
+        /* ASSERT */
+        // Without batching, the additional fields are loaded with one query per resource.
+        assertEquals(100, page.getNumberOfElements());
+        assertEquals(1, statistics.getCollectionFetchCount());
+    }
+}
@@ -35,7 +35,7 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.eq;
 
-@SpringBootTest(classes = { ArtifactDataDownloader.class })
+@SpringBootTest(classes = { ArtifactDataDownloader.class, DownloadExecutor.class })
 class ArtifactDataDownloaderTest {
     @MockBean
     private ArtifactRequestService artifactReqSvc;
@@ -46,6 +46,9 @@ class ArtifactDataDownloaderTest {
     @MockBean
     private EntityPersistenceService persistenceSvc;
 
+    @MockBean
+    private DownloadQueue downloadQueue;
+
     @Autowired
     private ArtifactDataDownloader downloader;
 
@@ -91,5 +94,7 @@ class ArtifactDataDownloaderTest {
 
         /* ACT && ASSERT */
         assertDoesNotThrow(() -> downloader.download(recipient, artifacts, agreementId));
+        Mockito.verify(downloadQueue).enqueue(eq(recipient), eq(artifacts.get(0)),
+                eq(agreement.getRemoteId()));
     }
 }
@@ -33,6 +33,8 @@ import io.dataspaceconnector.model.artifact.Data;
 import io.dataspaceconnector.model.artifact.LocalData;
 import io.dataspaceconnector.model.artifact.RemoteData;
 import io.dataspaceconnector.model.auth.Authentication;
+import io.dataspaceconnector.repository.DataRepository;
+import io.dataspaceconnector.service.storage.DatabaseDataStorage;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,7 +48,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
-@SpringBootTest(classes = {DataRetriever.class})
+@SpringBootTest(classes = {DataRetriever.class, DatabaseDataStorage.class})
 class DataRetrieverTest {
 
     @MockBean
@@ -58,6 +60,9 @@ class DataRetrieverTest {
     @MockBean
     private ApiReferenceHelper apiReferenceHelper;
 
+    @MockBean
+    private DataRepository dataRepository;
+
     @Autowired
     private DataRetriever retriever;
 
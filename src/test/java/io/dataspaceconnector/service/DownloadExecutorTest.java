@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service;
+
+import io.dataspaceconnector.common.exception.UnexpectedResponseException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DownloadExecutorTest {
+
+    private final DownloadExecutor executor = new DownloadExecutor(8, 2, 16);
+
+    private final URI recipient = URI.create("https://recipient");
+
+    @AfterEach
+    void shutdown() {
+        executor.destroy();
+    }
+
+    @Test
+    void forEach_manyItems_runAllTasks() throws UnexpectedResponseException {
+        /* ARRANGE */
+        final Set<Integer> done = ConcurrentHashMap.newKeySet();
+
+        /* ACT */
+        executor.forEach(recipient, List.of(1, 2, 3, 4, 5), done::add);
+
+        /* ASSERT */
+        assertEquals(Set.of(1, 2, 3, 4, 5), done);
+    }
+
+    @Test
+    void forEach_manyItems_limitRequestsPerRecipient() throws UnexpectedResponseException {
+        /* ARRANGE */
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+
+        /* ACT */
+        executor.forEach(recipient, List.of(1, 2, 3, 4, 5, 6, 7, 8), item -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+        });
+
+        /* ASSERT */
+        assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    void forEach_queueFull_runTaskInCallingThread() throws UnexpectedResponseException {
+        /* ARRANGE */
+        final var busyExecutor = new DownloadExecutor(1, 3, 1);
+        final var release = new CountDownLatch(1);
+        final var caller = Thread.currentThread();
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+        /* ACT */
+        try {
+            busyExecutor.forEach(recipient, List.of(1, 2, 3), item -> {
+                threads.add(Thread.currentThread());
+                if (item == 1) {
+                    await(release);
+                } else if (Thread.currentThread() == caller) {
+                    release.countDown();
+                }
+            });
+        } finally {
+            busyExecutor.destroy();
+        }
+
+        /* ASSERT */
+        assertTrue(threads.contains(caller));
+    }
+
+    @Test
+    void forEach_taskFails_rethrowFailure() {
+        /* ARRANGE */
+        final var failure = new UnexpectedResponseException(new HashMap<>());
+
+        /* ACT */
+        final var result = assertThrows(UnexpectedResponseException.class,
+                () -> executor.forEach(recipient, List.of(1, 2, 3), item -> {
+                    if (item == 2) {
+                        throw failure;
+                    }
+                }));
+
+        /* ASSERT */
+        assertSame(failure, result);
+    }
+
+    @Test
+    void forEach_taskThrowsRuntimeException_rethrowException() {
+        /* ACT && ASSERT */
+        assertThrows(IllegalArgumentException.class,
+                () -> executor.forEach(recipient, List.of(1, 2), item -> {
+                    throw new IllegalArgumentException();
+                }));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
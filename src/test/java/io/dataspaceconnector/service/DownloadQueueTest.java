@@ -0,0 +1,198 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service;
+
+import io.dataspaceconnector.common.exception.ErrorMessage;
+import io.dataspaceconnector.common.exception.MessageException;
+import io.dataspaceconnector.model.download.DownloadJob;
+import io.dataspaceconnector.model.download.DownloadRequestEvent;
+import io.dataspaceconnector.repository.DownloadJobRepository;
+import io.dataspaceconnector.service.message.builder.type.ArtifactRequestService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+
+class DownloadQueueTest {
+
+    private final DownloadJobRepository jobRepo = Mockito.mock(DownloadJobRepository.class);
+
+    private final ArtifactRequestService artifactReqSvc =
+            Mockito.mock(ArtifactRequestService.class);
+
+    private final EntityPersistenceService persistenceSvc =
+            Mockito.mock(EntityPersistenceService.class);
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final DownloadQueue queue = new DownloadQueue(jobRepo, artifactReqSvc,
+            persistenceSvc, Mockito.mock(PlatformTransactionManager.class),
+            new StaticListableBeanFactory(Map.of("registry", registry))
+                    .getBeanProvider(MeterRegistry.class),
+            2, 1, 2, Duration.ofMinutes(1), Duration.ofHours(1), Duration.ofMinutes(2),
+            "instance");
+
+    private final URI recipient = URI.create("https://provider");
+
+    private final URI artifact = URI.create("https://provider/artifacts/1");
+
+    private final URI contract = URI.create("https://provider/agreements/1");
+
+    @AfterEach
+    void shutdown() {
+        queue.destroy();
+    }
+
+    @Test
+    void enqueue_downloadAlreadyQueued_doNothing() {
+        /* ARRANGE */
+        Mockito.when(jobRepo.saveAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("download_job_artifact_key"));
+
+        /* ACT */
+        queue.enqueue(recipient, artifact, contract);
+
+        /* ASSERT */
+        Mockito.verify(jobRepo, Mockito.never())
+                .findByStateAndNextAttemptLessThanEqualOrderByNextAttempt(any(), any(), any());
+    }
+
+    @Test
+    void enqueue_downloadFailedFinally_queueAgain() {
+        /* ARRANGE */
+        Mockito.when(jobRepo.requeue(eq(artifact), eq(DownloadJob.State.FAILED),
+                eq(DownloadJob.State.QUEUED), any())).thenReturn(1);
+
+        /* ACT */
+        queue.enqueue(recipient, artifact, contract);
+
+        /* ASSERT */
+        Mockito.verify(jobRepo, Mockito.never()).saveAndFlush(any());
+    }
+
+    @Test
+    void start_jobsOfOtherInstances_onlyResumeOwnJobs() {
+        /* ACT */
+        queue.start();
+
+        /* ASSERT */
+        Mockito.verify(jobRepo).releaseOwned(DownloadJob.State.RUNNING,
+                DownloadJob.State.QUEUED, "instance");
+        Mockito.verify(jobRepo, timeout(5000)).releaseExpired(eq(DownloadJob.State.RUNNING),
+                eq(DownloadJob.State.QUEUED), any());
+        Mockito.verify(jobRepo, timeout(5000)).renewLeases(eq("instance"),
+                eq(DownloadJob.State.RUNNING), any());
+    }
+
+    @Test
+    void onDownloadRequest_newArtifact_storeJob() {
+        /* ACT */
+        queue.onDownloadRequest(new DownloadRequestEvent(recipient, artifact, contract));
+
+        /* ASSERT */
+        final var captor = ArgumentCaptor.forClass(DownloadJob.class);
+        Mockito.verify(jobRepo).saveAndFlush(captor.capture());
+        assertEquals(artifact, captor.getValue().getArtifact());
+        assertEquals(DownloadJob.State.QUEUED, captor.getValue().getState());
+    }
+
+    @Test
+    void enqueue_downloadSucceeds_removeJob() throws Exception {
+        /* ARRANGE */
+        final var job = dueJob(0);
+        final var response = new HashMap<String, String>();
+        Mockito.when(artifactReqSvc.sendMessage(recipient, artifact, contract))
+                .thenReturn(response);
+
+        /* ACT */
+        queue.enqueue(recipient, artifact, contract);
+
+        /* ASSERT */
+        Mockito.verify(persistenceSvc, timeout(5000)).saveData(response, artifact);
+        Mockito.verify(jobRepo, timeout(5000)).deleteById(job.getId());
+        Mockito.verify(jobRepo).claim(eq(job.getId()), eq(DownloadJob.State.QUEUED),
+                eq(DownloadJob.State.RUNNING), eq("instance"), any());
+    }
+
+    @Test
+    void enqueue_downloadFails_retryLater() throws Exception {
+        /* ARRANGE */
+        final var job = dueJob(0);
+        Mockito.when(artifactReqSvc.sendMessage(recipient, artifact, contract))
+                .thenThrow(new MessageException(ErrorMessage.MESSAGE_SENDING_FAILED, null));
+
+        /* ACT */
+        queue.enqueue(recipient, artifact, contract);
+
+        /* ASSERT */
+        Mockito.verify(jobRepo, timeout(5000)).save(job);
+        assertEquals(DownloadJob.State.QUEUED, job.getState());
+        assertEquals(1, job.getAttempts());
+        assertTrue(job.getNextAttempt().isAfter(ZonedDateTime.now(ZoneOffset.UTC)));
+    }
+
+    @Test
+    void enqueue_lastAttemptFails_failJob() throws Exception {
+        /* ARRANGE */
+        final var job = dueJob(1);
+        Mockito.when(artifactReqSvc.sendMessage(recipient, artifact, contract))
+                .thenThrow(new IllegalStateException("failed"));
+
+        /* ACT */
+        queue.enqueue(recipient, artifact, contract);
+
+        /* ASSERT */
+        Mockito.verify(jobRepo, timeout(5000)).save(job);
+        assertEquals(DownloadJob.State.FAILED, job.getState());
+        assertEquals("failed", job.getLastError());
+        assertEquals(1, registry.get(DownloadQueue.ATTEMPT_COUNTER_NAME)
+                .tag("outcome", "failed").counter().count());
+    }
+
+    private DownloadJob dueJob(final int attempts) {
+        final var job = new DownloadJob(recipient, artifact, contract,
+                ZonedDateTime.now(ZoneOffset.UTC));
+        ReflectionTestUtils.setField(job, "id", 1L);
+        job.setAttempts(attempts);
+
+        Mockito.when(jobRepo.findByStateAndNextAttemptLessThanEqualOrderByNextAttempt(
+                eq(DownloadJob.State.QUEUED), any(), any())).thenReturn(List.of(job), List.of());
+        Mockito.when(jobRepo.claim(anyLong(), eq(DownloadJob.State.QUEUED),
+                eq(DownloadJob.State.RUNNING), eq("instance"), any())).thenReturn(1);
+        return job;
+    }
+}
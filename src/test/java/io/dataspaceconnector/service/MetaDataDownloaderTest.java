@@ -29,7 +29,7 @@ import java.util.HashMap;
 
 import static org.mockito.ArgumentMatchers.eq;
 
-@SpringBootTest(classes = { MetadataDownloader.class })
+@SpringBootTest(classes = { MetadataDownloader.class, DownloadExecutor.class })
 class MetaDataDownloaderTest {
 
     @MockBean
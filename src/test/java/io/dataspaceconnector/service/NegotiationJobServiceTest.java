@@ -0,0 +1,134 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NegotiationJobServiceTest {
+
+    private final NegotiationJobService service =
+            new NegotiationJobService(1, 1, Duration.ofMinutes(1));
+
+    @AfterEach
+    void shutdown() {
+        service.destroy();
+    }
+
+    @Test
+    void submit_workSucceeds_completeJob() throws InterruptedException {
+        /* ARRANGE */
+        final var agreementId = UUID.randomUUID();
+
+        /* ACT */
+        final var job = service.submit(new NegotiationJob(1, 2, true), x -> {
+            x.setAgreementId(agreementId);
+            x.resourceDownloaded();
+            x.artifactDownloaded();
+            x.artifactDownloaded();
+        });
+        awaitEnd(job);
+
+        /* ASSERT */
+        assertEquals(NegotiationJob.State.COMPLETED, job.getState());
+        assertEquals(agreementId, job.getAgreementId());
+        assertEquals(1, job.getDownloadedResources());
+        assertEquals(2, job.getDownloadedArtifacts());
+        assertEquals(job, service.get(job.getId()).orElseThrow());
+    }
+
+    @Test
+    void submit_workFails_failJob() throws InterruptedException {
+        /* ACT */
+        final var job = service.submit(new NegotiationJob(1, 1, false), x -> {
+            throw new IllegalStateException("failed");
+        });
+        awaitEnd(job);
+
+        /* ASSERT */
+        assertEquals(NegotiationJob.State.FAILED, job.getState());
+        assertEquals("failed", job.getError());
+    }
+
+    @Test
+    void submit_queueFull_rejectJob() throws InterruptedException {
+        /* ARRANGE */
+        final var release = new CountDownLatch(1);
+        final var running = service.submit(new NegotiationJob(1, 1, false), x -> release.await());
+        service.submit(new NegotiationJob(1, 1, false), x -> { });
+        final var rejected = new NegotiationJob(1, 1, false);
+
+        /* ACT */
+        try {
+            assertThrows(TaskRejectedException.class,
+                    () -> service.submit(rejected, x -> { }));
+        } finally {
+            release.countDown();
+        }
+        awaitEnd(running);
+
+        /* ASSERT */
+        assertTrue(service.get(rejected.getId()).isEmpty());
+    }
+
+    @Test
+    void get_jobRunningLongerThanRetention_keepUntilEnded() throws InterruptedException {
+        /* ARRANGE */
+        final var shortRetention = new NegotiationJobService(1, 1, Duration.ofMillis(50));
+        final var release = new CountDownLatch(1);
+        try {
+            final var job = shortRetention.submit(new NegotiationJob(1, 1, false),
+                    x -> release.await());
+            Thread.sleep(200);
+
+            /* ACT */
+            final var running = shortRetention.get(job.getId());
+            release.countDown();
+            awaitEnd(job);
+            Thread.sleep(200);
+            final var ended = shortRetention.get(job.getId());
+
+            /* ASSERT */
+            assertTrue(running.isPresent());
+            assertTrue(ended.isEmpty());
+        } finally {
+            release.countDown();
+            shortRetention.destroy();
+        }
+    }
+
+    @Test
+    void get_unknownJob_returnEmpty() {
+        /* ACT && ASSERT */
+        assertTrue(service.get(UUID.randomUUID()).isEmpty());
+    }
+
+    private static void awaitEnd(final NegotiationJob job) throws InterruptedException {
+        for (int i = 0; i < 500 && job.getState() != NegotiationJob.State.COMPLETED
+                && job.getState() != NegotiationJob.State.FAILED; i++) {
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.message;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationDispatcherTest {
+
+    private final NotificationDispatcher dispatcher =
+            new NotificationDispatcher(1, 3, Duration.ofMillis(10));
+
+    private final URI recipient = URI.create("https://recipient");
+
+    @AfterEach
+    void shutdown() {
+        dispatcher.destroy();
+    }
+
+    @Test
+    void dispatch_notificationPending_sendLatestOnly() throws Exception {
+        /* ARRANGE */
+        final var blocker = new CountDownLatch(1);
+        final var sent = new CountDownLatch(1);
+        final var first = new AtomicInteger();
+        final var second = new AtomicInteger();
+        final var third = new AtomicInteger();
+
+        // Keep the only worker busy while the notifications are dispatched.
+        dispatcher.dispatch(URI.create("https://other"), "subject", () -> {
+            blocker.await();
+            return true;
+        });
+
+        /* ACT */
+        dispatcher.dispatch(recipient, "subject", () -> first.incrementAndGet() > 0);
+        dispatcher.dispatch(recipient, "subject", () -> second.incrementAndGet() > 0);
+        dispatcher.dispatch(recipient, "subject", () -> {
+            third.incrementAndGet();
+            sent.countDown();
+            return true;
+        });
+        blocker.countDown();
+
+        /* ASSERT */
+        assertTrue(sent.await(5, TimeUnit.SECONDS));
+        assertEquals(0, first.get());
+        assertEquals(0, second.get());
+        assertEquals(1, third.get());
+    }
+
+    @Test
+    void dispatch_sendingFails_retryUntilDelivered() throws Exception {
+        /* ARRANGE */
+        final var attempts = new AtomicInteger();
+        final var delivered = new CountDownLatch(1);
+
+        /* ACT */
+        dispatcher.dispatch(recipient, "subject", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("unreachable");
+            }
+            delivered.countDown();
+            return true;
+        });
+
+        /* ASSERT */
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void dispatch_notDelivered_stopAfterMaxAttempts() throws Exception {
+        /* ARRANGE */
+        final var maxAttempts = new CountDownLatch(3);
+        final var furtherAttempt = new CountDownLatch(4);
+
+        /* ACT */
+        dispatcher.dispatch(recipient, "subject", () -> {
+            maxAttempts.countDown();
+            furtherAttempt.countDown();
+            return false;
+        });
+
+        /* ASSERT */
+        assertTrue(maxAttempts.await(5, TimeUnit.SECONDS));
+        assertFalse(furtherAttempt.await(200, TimeUnit.MILLISECONDS));
+        assertEquals(0, dispatcher.getPendingCount());
+    }
+}
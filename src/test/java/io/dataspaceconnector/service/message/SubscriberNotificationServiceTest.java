@@ -34,6 +34,11 @@ import io.dataspaceconnector.service.resource.templatebuilder.AbstractResourceTe
 import io.dataspaceconnector.service.resource.relation.AbstractResourceContractLinker;
 import io.dataspaceconnector.service.resource.relation.AbstractResourceRepresentationLinker;
 import lombok.SneakyThrows;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -43,6 +48,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -118,13 +124,42 @@ class SubscriberNotificationServiceTest {
 
         when(apiReferenceHelper.isRouteReference(nonRouteLocation.toURL())).thenReturn(false);
         when(apiReferenceHelper.isRouteReference(routeLocation.toURL())).thenReturn(true);
+        when(httpService.post(any(), any(), any())).thenReturn(getResponse(nonRouteLocation, 200));
 
         /* ACT */
         subscriberNotificationSvc.notifyAll(subscriptions, target, artifact);
 
         /* ASSERT */
-        verify(routeDataDispatcher, times(1)).send(any(), any(), any());
-        verify(httpService, times(1)).post(any(), any(), any());
+        verify(routeDataDispatcher, timeout(5000).times(1)).send(any(), any(), any());
+        verify(httpService, timeout(5000).times(1)).post(any(), any(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    void notifyAll_subscriberRejectsNotification_retry() {
+        /* ARRANGE */
+        final var location = URI.create("https://location");
+        final var subscriptions = List.of(getSubscription(location));
+        final var artifact = getArtifact();
+
+        when(apiReferenceHelper.isRouteReference(location.toURL())).thenReturn(false);
+        when(httpService.post(any(), any(), any()))
+                .thenAnswer(x -> getResponse(location, 500));
+
+        /* ACT */
+        subscriberNotificationSvc.notifyAll(subscriptions, target, artifact);
+
+        /* ASSERT */
+        verify(httpService, timeout(10000).atLeast(2)).post(any(), any(), any());
+    }
+
+    @SneakyThrows
+    private Response getResponse(final URI location, final int code) {
+        return new Response.Builder()
+                .request(new Request.Builder().url(location.toURL()).build())
+                .protocol(Protocol.HTTP_1_1).code(code).message("Some message")
+                .body(ResponseBody.create("", MediaType.parse("text/plain")))
+                .build();
     }
 
     private Subscription getSubscription(final URI location) {
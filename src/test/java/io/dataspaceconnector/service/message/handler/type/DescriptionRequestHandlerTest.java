@@ -31,6 +31,7 @@ import ids.messaging.response.ErrorResponse;
 import ids.messaging.response.MessageResponse;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.ids.ConnectorService;
+import io.dataspaceconnector.common.ids.SelfDescription;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
 import io.dataspaceconnector.model.message.DescriptionResponseMessageDesc;
@@ -111,6 +112,9 @@ import static org.mockito.Mockito.when;
                 .build();
 
         Mockito.doReturn(connector).when(connectorService).getConnectorWithOfferedResources();
+        final var selfDescription = Mockito.mock(SelfDescription.class);
+        Mockito.doReturn(connector.toRdf()).when(selfDescription).getRdf();
+        Mockito.doReturn(selfDescription).when(connectorService).getSerializedSelfDescription();
 
          /* ACT */
          final var result =
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.resource.ids;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.model.base.Entity;
+import io.dataspaceconnector.model.catalog.Catalog;
+import io.dataspaceconnector.service.resource.base.EntityChangeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class IdsDescriptionCacheTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final IdsDescriptionCache cache = new IdsDescriptionCache(DataSize.ofKilobytes(1),
+            DataSize.ofBytes(100),
+            new StaticListableBeanFactory(Map.of("registry", registry))
+                    .getBeanProvider(MeterRegistry.class));
+
+    @Test
+    public void get_sameVersion_renderOnce() {
+        /* ARRANGE */
+        final var catalog = getCatalog(UUID.randomUUID());
+        final var renderer = new AtomicInteger();
+
+        /* ACT */
+        cache.get(catalog, () -> "rdf-" + renderer.incrementAndGet());
+        final var result = cache.get(catalog, () -> "rdf-" + renderer.incrementAndGet());
+
+        /* ASSERT */
+        assertEquals("rdf-1", result);
+        assertEquals(1, renderer.get());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", IdsDescriptionCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    public void get_relatedEntityChanged_renderAgain() {
+        /* ARRANGE */
+        final var catalog = getCatalog(UUID.randomUUID());
+        cache.get(catalog, () -> "old");
+        cache.handleEntityChange(new EntityChangeEvent(UUID.randomUUID(), new Catalog()));
+
+        /* ACT */
+        final var result = cache.get(catalog, () -> "new");
+
+        /* ASSERT */
+        assertEquals("new", result);
+    }
+
+    @Test
+    public void get_relatedEntityChangedWhileRendering_doNotCache() {
+        /* ARRANGE */
+        final var catalog = getCatalog(UUID.randomUUID());
+        cache.get(catalog, () -> {
+            cache.handleEntityChange(new EntityChangeEvent(UUID.randomUUID(), new Catalog()));
+            return "old";
+        });
+
+        /* ACT */
+        final var result = cache.get(catalog, () -> "new");
+
+        /* ASSERT */
+        assertEquals("new", result);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void get_notPersisted_doNotCache() {
+        /* ARRANGE */
+        final var catalog = getCatalog(null);
+
+        /* ACT */
+        cache.get(catalog, () -> "rdf");
+
+        /* ASSERT */
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void get_descriptionTooLarge_doNotCache() {
+        /* ARRANGE */
+        final var catalog = getCatalog(UUID.randomUUID());
+
+        /* ACT */
+        final var result = cache.get(catalog, () -> "x".repeat(101));
+
+        /* ASSERT */
+        assertEquals(101, result.length());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void handleEntityChange_relatedEntity_invalidateAll() {
+        /* ARRANGE */
+        final var catalog = getCatalog(UUID.randomUUID());
+        cache.get(catalog, () -> "rdf");
+
+        /* ACT */
+        cache.handleEntityChange(new EntityChangeEvent(UUID.randomUUID(), new Catalog()));
+
+        /* ASSERT */
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void handleEntityChange_unrelatedEntity_keepEntries() {
+        /* ARRANGE */
+        final var catalog = getCatalog(UUID.randomUUID());
+        cache.get(catalog, () -> "rdf");
+
+        /* ACT */
+        cache.handleEntityChange(new EntityChangeEvent(UUID.randomUUID(), new Agreement()));
+
+        /* ASSERT */
+        assertEquals(1, cache.size());
+    }
+
+    private Entity getCatalog(final UUID id) {
+        final var catalog = new Catalog();
+        ReflectionTestUtils.setField(catalog, "id", id);
+        return catalog;
+    }
+}
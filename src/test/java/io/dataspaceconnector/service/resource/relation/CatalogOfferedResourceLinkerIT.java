@@ -0,0 +1,164 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.resource.relation;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import io.dataspaceconnector.model.base.Entity;
+import io.dataspaceconnector.model.catalog.CatalogDesc;
+import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.model.resource.OfferedResourceDesc;
+import io.dataspaceconnector.service.resource.type.CatalogService;
+import io.dataspaceconnector.service.resource.type.OfferedResourceService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class CatalogOfferedResourceLinkerIT {
+
+    @Autowired
+    private CatalogService catalogService;
+
+    @Autowired
+    private OfferedResourceService resourceService;
+
+    @Autowired
+    private CatalogOfferedResourceLinker linker;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void get_secondPage_returnPageFromDatabase() {
+        /* ARRANGE */
+        final var catalogId = catalogService.create(new CatalogDesc()).getId();
+        final var expected = createResources(catalogId);
+
+        /* ACT */
+        final var page = new TransactionTemplate(transactionManager).execute(status ->
+                linker.get(catalogId, PageRequest.of(1, 2)));
+
+        /* ASSERT */
+        assertEquals(5, page.getTotalElements());
+        assertEquals(expected.subList(2, 4), page.map(Entity::getId).toList());
+    }
+
+    @Test
+    public void getAfter_firstChild_returnFollowingChildren() {
+        /* ARRANGE */
+        final var catalogId = catalogService.create(new CatalogDesc()).getId();
+        final var expected = createResources(catalogId);
+
+        /* ACT */
+        final var children = new TransactionTemplate(transactionManager).execute(status ->
+                linker.getAfter(catalogId, expected.get(0), 3));
+
+        /* ASSERT */
+        assertEquals(expected.subList(1, 4),
+                children.stream().map(Entity::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void add_partlyLinkedResources_linkOnlyMissingResources() {
+        /* ARRANGE */
+        final var catalogId = catalogService.create(new CatalogDesc()).getId();
+        final var linked = createResources(catalogId);
+        final var added = resourceService.create(new OfferedResourceDesc()).getId();
+
+        /* ACT */
+        linker.add(catalogId, Set.of(linked.get(0), added));
+
+        /* ASSERT */
+        final var children = getChildren(catalogId);
+        assertEquals(6, children.size());
+        assertTrue(children.contains(added));
+    }
+
+    @Test
+    public void add_resources_updateModificationDateOfCatalog() {
+        /* ARRANGE */
+        final var catalog = catalogService.create(new CatalogDesc());
+        final var added = resourceService.create(new OfferedResourceDesc()).getId();
+
+        /* ACT */
+        linker.add(catalog.getId(), Set.of(added));
+
+        /* ASSERT */
+        final var modified = catalogService.get(catalog.getId()).getModificationDate();
+        assertTrue(modified.isAfter(catalog.getModificationDate()));
+    }
+
+    @Test
+    public void remove_linkedResources_unlinkResources() {
+        /* ARRANGE */
+        final var catalogId = catalogService.create(new CatalogDesc()).getId();
+        final var linked = createResources(catalogId);
+
+        /* ACT */
+        linker.remove(catalogId, Set.of(linked.get(0), linked.get(1)));
+
+        /* ASSERT */
+        assertEquals(new HashSet<>(linked.subList(2, 5)), new HashSet<>(getChildren(catalogId)));
+    }
+
+    @Test
+    public void replace_linkedResources_linkOnlyNewResources() {
+        /* ARRANGE */
+        final var catalogId = catalogService.create(new CatalogDesc()).getId();
+        final var linked = createResources(catalogId);
+        final var added = resourceService.create(new OfferedResourceDesc()).getId();
+
+        /* ACT */
+        linker.replace(catalogId, Set.of(linked.get(0), added));
+
+        /* ASSERT */
+        assertEquals(Set.of(linked.get(0), added), new HashSet<>(getChildren(catalogId)));
+    }
+
+    private List<UUID> getChildren(final UUID catalogId) {
+        return new TransactionTemplate(transactionManager).execute(status ->
+                linker.get(catalogId, Pageable.unpaged()).map(Entity::getId).toList());
+    }
+
+    private List<UUID> createResources(final UUID catalogId) {
+        final var resourceIds = new HashSet<UUID>();
+        for (int i = 0; i < 5; i++) {
+            resourceIds.add(resourceService.create(new OfferedResourceDesc()).getId());
+        }
+        linker.add(catalogId, resourceIds);
+
+        // Read the resources again to compare the creation dates as stored in the database.
+        return resourceIds.stream()
+                .map(resourceService::get)
+                .sorted(Comparator.comparing(OfferedResource::getCreationDate)
+                        .thenComparing(OfferedResource::getId))
+                .map(Entity::getId)
+                .collect(Collectors.toList());
+    }
+}
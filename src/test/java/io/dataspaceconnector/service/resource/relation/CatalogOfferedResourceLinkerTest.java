@@ -15,6 +15,7 @@
  */
 package io.dataspaceconnector.service.resource.relation;
 
+import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.model.catalog.Catalog;
 import io.dataspaceconnector.model.resource.OfferedResource;
 import io.dataspaceconnector.service.resource.type.CatalogService;
@@ -22,11 +23,14 @@ import io.dataspaceconnector.service.resource.type.OfferedResourceService;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -76,6 +80,61 @@ class CatalogOfferedResourceLinkerTest {
         assertEquals(expected, resources);
     }
 
+    /***********************************************************************************************
+     * get                                                                                         *
+     **********************************************************************************************/
+
+    @Test
+    public void get_childrenNotQueryable_returnPageInCreationOrder() {
+        /* ARRANGE */
+        final var now = ZonedDateTime.now();
+        final var first = getResource(now);
+        final var second = getResource(now.plusSeconds(1));
+        final var third = getResource(now.plusSeconds(2));
+        catalog.getOfferedResources().addAll(List.of(third, first, second));
+        Mockito.doReturn(catalog).when(catalogService).get(catalog.getId());
+
+        /* ACT */
+        final var page = linker.get(catalog.getId(), PageRequest.of(0, 2));
+
+        /* ASSERT */
+        assertEquals(List.of(first, second), page.getContent());
+        assertEquals(3, page.getTotalElements());
+    }
+
+    /***********************************************************************************************
+     * getAfter                                                                                    *
+     **********************************************************************************************/
+
+    @Test
+    public void getAfter_cursorIsChild_returnFollowingChildren() {
+        /* ARRANGE */
+        final var now = ZonedDateTime.now();
+        final var first = getResource(now);
+        final var second = getResource(now.plusSeconds(1));
+        final var third = getResource(now.plusSeconds(2));
+        catalog.getOfferedResources().addAll(List.of(third, first, second));
+        Mockito.doReturn(catalog).when(catalogService).get(catalog.getId());
+
+        /* ACT */
+        final var resources = linker.getAfter(catalog.getId(), first.getId(), 1);
+
+        /* ASSERT */
+        assertEquals(List.of(second), resources);
+    }
+
+    @Test
+    public void getAfter_cursorIsNoChild_throwResourceNotFoundException() {
+        /* ARRANGE */
+        catalog.getOfferedResources().add(getResource(ZonedDateTime.now()));
+        Mockito.doReturn(catalog).when(catalogService).get(catalog.getId());
+        final var unknown = UUID.randomUUID();
+
+        /* ACT && ASSERT */
+        assertThrows(ResourceNotFoundException.class,
+                () -> linker.getAfter(catalog.getId(), unknown, 1));
+    }
+
     /***********************************************************************************************
      * Utilities.                                                                                  *
      **********************************************************************************************/
@@ -104,4 +163,16 @@ class CatalogOfferedResourceLinkerTest {
 
         return resource;
     }
+
+    @SneakyThrows
+    private OfferedResource getResource(final ZonedDateTime creationDate) {
+        final var constructor = OfferedResource.class.getDeclaredConstructor();
+        constructor.setAccessible(true);
+
+        final var resource = constructor.newInstance();
+        ReflectionTestUtils.setField(resource, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(resource, "creationDate", creationDate);
+
+        return resource;
+    }
 }
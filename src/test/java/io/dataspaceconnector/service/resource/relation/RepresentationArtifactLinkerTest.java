@@ -37,8 +37,10 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -64,6 +66,7 @@ public class RepresentationArtifactLinkerTest {
     Artifact artifactThree = getArtifactThree();
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     public void init() {
         Mockito.when(representationService.get(Mockito.eq(representation.getId())))
                 .thenReturn(representation);
@@ -81,6 +84,14 @@ public class RepresentationArtifactLinkerTest {
         Mockito.when(artifactService.doesExist(Mockito.eq(artifactOne.getId()))).thenReturn(true);
         Mockito.when(artifactService.doesExist(Mockito.eq(artifactTwo.getId()))).thenReturn(true);
         Mockito.when(artifactService.doesExist(Mockito.eq(artifactThree.getId()))).thenReturn(true);
+
+        final var artifacts = Map.of(artifactOne.getId(), artifactOne,
+                artifactTwo.getId(), artifactTwo, artifactThree.getId(), artifactThree);
+        Mockito.when(artifactService.doesExistAll(Mockito.any())).thenAnswer(invocation ->
+                artifacts.keySet().containsAll(invocation.getArgument(0)));
+        Mockito.when(artifactService.getAllById(Mockito.any())).thenAnswer(invocation ->
+                ((Set<UUID>) invocation.getArgument(0)).stream().map(artifacts::get)
+                        .collect(Collectors.toList()));
     }
 
     /***********************************************************************************************
@@ -17,8 +17,12 @@ package io.dataspaceconnector.service.resource.templatebuilder;
 
 import io.dataspaceconnector.model.catalog.CatalogDesc;
 import io.dataspaceconnector.model.catalog.CatalogFactory;
+import io.dataspaceconnector.model.resource.OfferedResource;
+import io.dataspaceconnector.model.resource.OfferedResourceDesc;
 import io.dataspaceconnector.model.template.CatalogTemplate;
+import io.dataspaceconnector.model.template.ResourceTemplate;
 import io.dataspaceconnector.repository.CatalogRepository;
+import io.dataspaceconnector.service.resource.base.PersistenceBatch;
 import io.dataspaceconnector.service.resource.relation.CatalogOfferedResourceLinker;
 import io.dataspaceconnector.service.resource.relation.CatalogRequestedResourceLinker;
 import io.dataspaceconnector.service.resource.type.CatalogService;
@@ -26,8 +30,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 
 class CatalogTemplateBuilderTest {
@@ -35,13 +46,17 @@ class CatalogTemplateBuilderTest {
     private CatalogRepository repository = Mockito.mock(CatalogRepository.class);
     private CatalogOfferedResourceLinker catalogOfferedResourceLinker = Mockito.mock(CatalogOfferedResourceLinker.class);
     private CatalogRequestedResourceLinker catalogRequestedResourceLinker = Mockito.mock(CatalogRequestedResourceLinker.class);
+    private OfferedResourceTemplateBuilder offeredResourceTemplateBuilder = Mockito.mock(OfferedResourceTemplateBuilder.class);
+    private EntityManager entityManager = Mockito.mock(EntityManager.class);
 
     private CatalogTemplateBuilder builder = new CatalogTemplateBuilder(
             new CatalogService(repository, new CatalogFactory()),
             catalogOfferedResourceLinker,
             catalogRequestedResourceLinker,
-            Mockito.mock(OfferedResourceTemplateBuilder.class),
-            Mockito.mock(RequestedResourceTemplateBuilder.class)
+            offeredResourceTemplateBuilder,
+            Mockito.mock(RequestedResourceTemplateBuilder.class),
+            entityManager,
+            2
     );
 
     @BeforeEach
@@ -73,4 +88,54 @@ class CatalogTemplateBuilderTest {
         Mockito.verify(catalogRequestedResourceLinker, Mockito.atLeastOnce())
                .replace(Mockito.any(), Mockito.any());
     }
+
+    @Test
+    public void build_withOfferedResources_persistInBatches() {
+        /* ARRANGE */
+        final var ids = Set.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        final var iterator = ids.iterator();
+        Mockito.doAnswer(invocation -> {
+            assertTrue(PersistenceBatch.isActive());
+            final var resource = Mockito.mock(OfferedResource.class);
+            Mockito.doReturn(iterator.next()).when(resource).getId();
+            return resource;
+        }).when(offeredResourceTemplateBuilder).build(Mockito.any());
+        Mockito.doReturn(true).when(entityManager).isJoinedToTransaction();
+
+        final var template = new CatalogTemplate(new CatalogDesc());
+        template.setOfferedResources(List.of(
+                new ResourceTemplate<>(new OfferedResourceDesc()),
+                new ResourceTemplate<>(new OfferedResourceDesc()),
+                new ResourceTemplate<>(new OfferedResourceDesc())));
+
+        /* ACT */
+        builder.build(template);
+
+        /* ASSERT */
+        assertFalse(PersistenceBatch.isActive());
+        Mockito.verify(entityManager, Mockito.times(2)).flush();
+        Mockito.verify(entityManager, Mockito.times(1)).clear();
+        Mockito.verify(catalogOfferedResourceLinker).replace(Mockito.any(), Mockito.eq(ids));
+        Mockito.verify(repository).saveAndFlush(Mockito.any());
+    }
+
+    @Test
+    public void build_noTransaction_doNotFlush() {
+        /* ARRANGE */
+        final var resource = Mockito.mock(OfferedResource.class);
+        Mockito.doReturn(UUID.randomUUID()).when(resource).getId();
+        Mockito.doReturn(resource).when(offeredResourceTemplateBuilder).build(Mockito.any());
+
+        final var template = new CatalogTemplate(new CatalogDesc());
+        template.setOfferedResources(List.of(
+                new ResourceTemplate<>(new OfferedResourceDesc()),
+                new ResourceTemplate<>(new OfferedResourceDesc())));
+
+        /* ACT */
+        builder.build(template);
+
+        /* ASSERT */
+        Mockito.verify(entityManager, Mockito.never()).flush();
+        Mockito.verify(entityManager, Mockito.never()).clear();
+    }
 }
@@ -20,6 +20,7 @@
 package io.dataspaceconnector.service.resource.type;
 
 import io.dataspaceconnector.common.exception.InvalidEntityException;
+import io.dataspaceconnector.common.exception.PolicyRestrictionException;
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
 import io.dataspaceconnector.common.exception.UnexpectedResponseException;
 import io.dataspaceconnector.common.exception.UnreachableLineException;
@@ -27,7 +28,10 @@ import io.dataspaceconnector.common.net.HttpResponse;
 import io.dataspaceconnector.common.net.HttpService;
 import io.dataspaceconnector.common.net.QueryInput;
 import io.dataspaceconnector.common.routing.RouteDataDispatcher;
-import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.common.routing.dataretrieval.RetrievalInformation;
+import io.dataspaceconnector.common.usagecontrol.AccessVerificationInput;
+import io.dataspaceconnector.common.usagecontrol.PolicyVerifier;
+import io.dataspaceconnector.common.usagecontrol.VerificationResult;
 import io.dataspaceconnector.model.artifact.ArtifactDesc;
 import io.dataspaceconnector.model.artifact.ArtifactFactory;
 import io.dataspaceconnector.model.artifact.ArtifactImpl;
@@ -41,6 +45,7 @@ import io.dataspaceconnector.repository.AuthenticationRepository;
 import io.dataspaceconnector.repository.DataRepository;
 import io.dataspaceconnector.service.DataRetriever;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
+import io.dataspaceconnector.service.storage.LocalDataStorage;
 import lombok.SneakyThrows;
 import org.apache.commons.io.IOUtils;
 import org.junit.jupiter.api.Test;
@@ -52,13 +57,14 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.lang.reflect.Field;
 import java.net.URI;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -102,6 +108,9 @@ class ArtifactServiceTest {
     @MockBean
     private RouteDataDispatcher routeDataDispatcher;
 
+    @MockBean
+    private LocalDataStorage localDataStorage;
+
     @Autowired
     private ArtifactService service;
 
@@ -233,6 +242,34 @@ class ArtifactServiceTest {
         verify(dataRepository, times(1)).saveAndFlush(data);
     }
 
+    @Test
+    @SneakyThrows
+    void update_storedLocalDataReplaced_releaseStoredData() {
+        /* ARRANGE */
+        final var desc = new ArtifactDesc();
+        final var data = new LocalData();
+        data.setStorageKey("key");
+        final var artifact = new ArtifactImpl();
+        final var dataField = artifact.getClass().getDeclaredField("data");
+        dataField.setAccessible(true);
+        dataField.set(artifact, data);
+
+        when(artifactRepository.findById(any())).thenReturn(Optional.of(artifact));
+        when(artifactFactory.update(artifact, desc)).thenAnswer(x -> {
+            data.setValue("new value".getBytes(StandardCharsets.UTF_8));
+            data.setStorageKey(null);
+            return true;
+        });
+        when(artifactRepository.saveAndFlush(artifact)).thenReturn(artifact);
+        when(dataRepository.saveAndFlush(data)).thenReturn(data);
+
+        /* ACT */
+        service.update(UUID.randomUUID(), desc);
+
+        /* ASSERT */
+        verify(localDataStorage, times(1)).release(eq("key"));
+    }
+
     @Test
     @SneakyThrows
     void update_newRouteLinkAndRouteCannotBeCreated_revertChanges() {
@@ -332,17 +369,36 @@ class ArtifactServiceTest {
         when(dataRetriever.retrieveData(eq(localArtifact), any()))
                 .thenReturn(new ByteArrayInputStream(getLocalData().getValue()));
 
-        final var before = localArtifact.getNumAccessed();
-
         /* ACT */
         service.getData(null, null, localArtifact.getId(), (QueryInput) null, null);
 
         /* ASSERT */
-        Field numAccessedField = Artifact.class.getDeclaredField("numAccessed");
-        numAccessedField.setAccessible(true);
-        numAccessedField.set(localArtifact, before + 1);
+        verify(artifactRepository, times(1))
+                .incrementAccessCounter(eq(localArtifact.getId()), eq(Long.MAX_VALUE));
+        verify(artifactRepository, never()).saveAndFlush(localArtifact);
+    }
+
+    @SneakyThrows
+    @Test
+    public void getData_accessLimitReached_throwPolicyRestrictionException() {
+        /* ARRANGE */
+        ArtifactImpl localArtifact = getLocalArtifact();
+        ReflectionTestUtils.setField(localArtifact, "additional",
+                new HashMap<>(Map.of("ids:byteSize", "0")));
+        final var info = new RetrievalInformation(URI.create("https://agreement"), null, null);
+        final PolicyVerifier<AccessVerificationInput> verifier = input -> {
+            input.setAccessLimit(1L);
+            return VerificationResult.ALLOWED;
+        };
+
+        when(artifactRepository.findById(any())).thenReturn(Optional.of(localArtifact));
+        when(artifactRepository.incrementAccessCounter(any(), eq(1L))).thenReturn(0);
+        when(dataRetriever.retrieveData(eq(localArtifact), any()))
+                .thenReturn(new ByteArrayInputStream(getLocalData().getValue()));
 
-        verify(artifactRepository, times(1)).saveAndFlush(localArtifact);
+        /* ACT && ASSERT */
+        assertThrows(PolicyRestrictionException.class,
+                () -> service.getData(verifier, null, localArtifact.getId(), info, null));
     }
 
     @SneakyThrows
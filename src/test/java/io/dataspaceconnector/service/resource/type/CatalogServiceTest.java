@@ -18,6 +18,7 @@ package io.dataspaceconnector.service.resource.type;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import io.dataspaceconnector.common.exception.ResourceNotFoundException;
@@ -271,6 +272,76 @@ class CatalogServiceTest {
         assertFalse(service.doesExist(unknownUuid));
     }
 
+    /***********************************************************************************************
+     * doesExistAll                                                                                *
+     **********************************************************************************************/
+
+    @Test
+    public void doesExistAll_knownIds_returnTrueWithSingleQuery() {
+        /* ARRANGE */
+        final var knownIds = Set.of(catalogOne.getId(), catalogTwo.getId());
+        Mockito.when(repository.countByIdIn(Mockito.eq(knownIds))).thenReturn(2L);
+
+        /* ACT */
+        final var result = service.doesExistAll(knownIds);
+
+        /* ASSERT */
+        assertTrue(result);
+        Mockito.verify(repository, Mockito.times(1)).countByIdIn(Mockito.any());
+        Mockito.verify(repository, Mockito.never()).findById(Mockito.any());
+    }
+
+    @Test
+    public void doesExistAll_unknownIdInSet_returnFalse() {
+        /* ARRANGE */
+        final var unknownUuid = UUID.fromString("550e8400-e29b-11d4-a716-446655440000");
+        final var ids = Set.of(catalogOne.getId(), unknownUuid);
+        Mockito.when(repository.countByIdIn(Mockito.eq(ids))).thenReturn(1L);
+
+        /* ACT && ASSERT */
+        assertFalse(service.doesExistAll(ids));
+    }
+
+    @Test
+    public void doesExistAll_emptySet_returnTrueWithoutQuery() {
+        /* ARRANGE */
+        // Nothing to arrange here.
+
+        /* ACT && ASSERT */
+        assertTrue(service.doesExistAll(Set.of()));
+        Mockito.verify(repository, Mockito.never()).countByIdIn(Mockito.any());
+    }
+
+    /***********************************************************************************************
+     * getAllById                                                                                  *
+     **********************************************************************************************/
+
+    @Test
+    public void getAllById_knownIds_returnEntities() {
+        /* ARRANGE */
+        final var knownIds = Set.of(catalogOne.getId(), catalogTwo.getId());
+        Mockito.when(repository.findAllById(Mockito.eq(knownIds)))
+                .thenReturn(List.of(catalogOne, catalogTwo));
+
+        /* ACT */
+        final var result = service.getAllById(knownIds);
+
+        /* ASSERT */
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(List.of(catalogOne, catalogTwo)));
+    }
+
+    @Test
+    public void getAllById_unknownIdInSet_throwResourceNotFoundException() {
+        /* ARRANGE */
+        final var unknownUuid = UUID.fromString("550e8400-e29b-11d4-a716-446655440000");
+        final var ids = Set.of(catalogOne.getId(), unknownUuid);
+        Mockito.when(repository.findAllById(Mockito.eq(ids))).thenReturn(List.of(catalogOne));
+
+        /* ACT && ASSERT */
+        assertThrows(ResourceNotFoundException.class, () -> service.getAllById(ids));
+    }
+
 
     /***********************************************************************************************
      * delete
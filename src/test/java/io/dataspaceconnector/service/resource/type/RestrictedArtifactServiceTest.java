@@ -28,6 +28,7 @@ import io.dataspaceconnector.service.DataRetriever;
 import io.dataspaceconnector.service.MultipartArtifactRetriever;
 import io.dataspaceconnector.common.usagecontrol.AllowAccessVerifier;
 import io.dataspaceconnector.service.resource.relation.ArtifactRouteService;
+import io.dataspaceconnector.service.storage.DatabaseDataStorage;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -47,7 +48,8 @@ import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(classes = {ArtifactService.class, ArtifactFactory.class, ArtifactRepository.class,
-        DataRepository.class, HttpService.class, MultipartArtifactRetriever.class})
+        DataRepository.class, HttpService.class, MultipartArtifactRetriever.class,
+        DatabaseDataStorage.class})
 public class RestrictedArtifactServiceTest {
 
     @MockBean
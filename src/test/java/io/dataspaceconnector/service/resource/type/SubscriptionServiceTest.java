@@ -55,6 +55,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SubscriptionServiceTest {
 
@@ -231,6 +232,30 @@ public class SubscriptionServiceTest {
         assertEquals(subscription, result.get(0));
     }
 
+    @Test
+    public void getByTargets_validInput_returnSubscriptionList() {
+        /* ARRANGE */
+        Mockito.doReturn(List.of(subscription)).when(repository)
+                .findAllByTargetIn(Mockito.any());
+
+        /* ACT */
+        final var result = service.getByTargets(
+                List.of(URI.create("https://target"), URI.create("https://other")));
+
+        /* ASSERT */
+        assertEquals(List.of(subscription), result);
+    }
+
+    @Test
+    public void getByTargets_noTargets_returnEmptyListWithoutQuery() {
+        /* ACT */
+        final var result = service.getByTargets(List.of());
+
+        /* ASSERT */
+        assertTrue(result.isEmpty());
+        Mockito.verify(repository, Mockito.never()).findAllByTargetIn(Mockito.any());
+    }
+
     @Test
     public void removeSubscription_invalidTarget_throwResourceNotFoundException() {
         /* ARRANGE */
@@ -32,9 +32,11 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.xml.sax.InputSource;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -66,6 +68,21 @@ class BeanManagerTest {
         verify(beanReader, times(1)).loadBeanDefinitions(any(InputSource.class));
     }
 
+    @Test
+    @SneakyThrows
+    void renderDataSourceBean_validInput_returnBeanWithoutLoading() {
+        /* ARRANGE */
+        final var dataSource = getDataSource();
+
+        /* ACT */
+        final var xml = beanManager.renderDataSourceBean(dataSource);
+
+        /* ASSERT */
+        assertTrue(xml.contains(dataSource.getId().toString()));
+        assertTrue(xml.contains("someDriver"));
+        verify(beanReader, never()).loadBeanDefinitions(any(InputSource.class));
+    }
+
     @Test
     void removeDataSourceBean_beanPresent_removeBean() {
         /* ARRANGE */
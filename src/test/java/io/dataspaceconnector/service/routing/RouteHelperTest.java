@@ -16,6 +16,7 @@
 package io.dataspaceconnector.service.routing;
 
 import java.net.URI;
+import java.util.List;
 
 import de.fraunhofer.iais.eis.AppRoute;
 import de.fraunhofer.iais.eis.AppRouteBuilder;
@@ -32,6 +33,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.never;
@@ -122,6 +124,29 @@ class RouteHelperTest {
         verify(routeManager, never()).deleteRoute(route);
     }
 
+    @Test
+    void createAppRoutes_routeNotToBeDeployed_deleteRouteAndSkip() {
+        /* ARRANGE */
+        final var valid = new Route();
+        ReflectionTestUtils.setField(valid, "deploy", DeployMethod.CAMEL);
+        ReflectionTestUtils.setField(valid, "end", new GenericEndpoint());
+
+        final var notDeployed = new Route();
+        ReflectionTestUtils.setField(notDeployed, "deploy", DeployMethod.NONE);
+
+        final var idsRoute = getIdsRoute();
+        when(routeBuilder.create(valid)).thenReturn(idsRoute);
+        doNothing().when(routeManager).deleteRoute(any());
+
+        /* ACT */
+        final var appRoutes = routeHelper.createAppRoutes(List.of(valid, notDeployed));
+
+        /* ASSERT */
+        assertEquals(List.of(idsRoute), appRoutes);
+        verify(routeManager, times(1)).deleteRoute(notDeployed);
+        verify(routeManager, never()).createAndDeployXMLRoute(any());
+    }
+
     private AppRoute getIdsRoute() {
         return new AppRouteBuilder()
                 ._appRouteStart_(new GenericEndpointBuilder()
@@ -17,6 +17,7 @@ package io.dataspaceconnector.service.routing;
 
 import de.fraunhofer.iais.eis.AppEndpointBuilder;
 import de.fraunhofer.iais.eis.AppEndpointType;
+import de.fraunhofer.iais.eis.AppRoute;
 import de.fraunhofer.iais.eis.AppRouteBuilder;
 import de.fraunhofer.iais.eis.BasicAuthenticationBuilder;
 import de.fraunhofer.iais.eis.ConnectorEndpointBuilder;
@@ -32,12 +33,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
 import java.net.URI;
+import java.util.List;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(classes = {RouteManager.class, RouteConfigurer.class, CamelConfig.class,
-        DefaultCamelContext.class, FreemarkerConfig.class})
+        DefaultCamelContext.class, FreemarkerConfig.class, RouteTemplateCache.class})
 public class RouteManagerTest {
     @Autowired
     private RouteManager routeManager;
@@ -113,4 +118,59 @@ public class RouteManagerTest {
         routeManager.createAndDeployXMLRoute(appRoute);
         assertTrue(camelContext.getRouteDefinitions().get(2).toString().startsWith("Route(" + uuid + ")"));
     }
+
+    @Test
+    void testCreateAndDeployXMLRoutes_OneInvalidRoute_DeployValidRoutes() throws Exception {
+        final var first = UUID.randomUUID();
+        final var second = UUID.randomUUID();
+        final var invalid = UUID.randomUUID();
+
+        final var errors = routeManager.createAndDeployXMLRoutes(List.of(
+                getConnectorToAppRoute(first), getConnectorToAppRoute(second),
+                getGenericToGenericRoute(invalid)));
+
+        final var firstRoute = camelContext.getRouteDefinition(first.toString());
+        final var secondRoute = camelContext.getRouteDefinition(second.toString());
+        try {
+            assertNotNull(firstRoute);
+            assertNotNull(secondRoute);
+            assertNull(camelContext.getRouteDefinition(invalid.toString()));
+            assertEquals(1, errors.size());
+            assertTrue(errors.containsKey(URI.create("http://approute/" + invalid)));
+        } finally {
+            // Keep the positions of the routes deployed by the other tests.
+            camelContext.removeRouteDefinitions(List.of(firstRoute, secondRoute));
+        }
+    }
+
+    private AppRoute getConnectorToAppRoute(final UUID uuid) {
+        return new AppRouteBuilder(URI.create("http://approute/" + uuid))
+                ._routeDeployMethod_("CAMEL")
+                ._appRouteStart_(Util.asList(new ConnectorEndpointBuilder()
+                        ._accessURL_(URI.create("http://test"))
+                        ._path_("http://test")
+                        .build()))
+                ._appRouteOutput_(Util.asList())
+                ._appRouteEnd_(Util.asList(new AppEndpointBuilder()
+                        ._appEndpointType_(AppEndpointType.INPUT_ENDPOINT)
+                        ._accessURL_(URI.create("http://test"))
+                        ._path_("http://test")
+                        .build()))
+                .build();
+    }
+
+    private AppRoute getGenericToGenericRoute(final UUID uuid) {
+        return new AppRouteBuilder(URI.create("http://approute/" + uuid))
+                ._routeDeployMethod_("CAMEL")
+                ._appRouteStart_(Util.asList(new GenericEndpointBuilder()
+                        ._accessURL_(URI.create("http://test"))
+                        ._path_("http://test")
+                        .build()))
+                ._appRouteOutput_(Util.asList())
+                ._appRouteEnd_(Util.asList(new GenericEndpointBuilder()
+                        ._accessURL_(URI.create("http://test"))
+                        ._path_("http://test")
+                        .build()))
+                .build();
+    }
 }
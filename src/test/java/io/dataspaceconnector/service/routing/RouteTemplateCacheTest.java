@@ -0,0 +1,111 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.routing;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class RouteTemplateCacheTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final RouteTemplateCache cache = new RouteTemplateCache(2,
+            new StaticListableBeanFactory(Map.of("registry", registry))
+                    .getBeanProvider(MeterRegistry.class));
+
+    private final Configuration configuration = new Configuration(Configuration.VERSION_2_3_31);
+
+    @Test
+    public void get_sameTemplateAndInput_populateTemplateOnce() throws Exception {
+        /* ARRANGE */
+        final var template = new Template("route", "<route id=\"${routeId}\"/>", configuration);
+        final var renderCount = new int[1];
+
+        /* ACT */
+        final var first = cache.get(template, input("route-1"),
+                () -> render(template, input("route-1"), renderCount));
+        final var second = cache.get(template, input("route-1"),
+                () -> render(template, input("route-1"), renderCount));
+
+        /* ASSERT */
+        assertEquals("<route id=\"route-1\"/>", first);
+        assertEquals(first, second);
+        assertEquals(1, renderCount[0]);
+        assertEquals(1, registry.get("cache.gets").tag("cache", RouteTemplateCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    public void get_differentInput_populateTemplateAgain() throws Exception {
+        /* ARRANGE */
+        final var template = new Template("route", "<route id=\"${routeId}\"/>", configuration);
+        final var renderCount = new int[1];
+
+        /* ACT */
+        cache.get(template, input("route-1"),
+                () -> render(template, input("route-1"), renderCount));
+        final var result = cache.get(template, input("route-2"),
+                () -> render(template, input("route-2"), renderCount));
+
+        /* ASSERT */
+        assertEquals("<route id=\"route-2\"/>", result);
+        assertEquals(2, renderCount[0]);
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void get_inputModifiedAfterwards_keepCachedRoute() throws Exception {
+        /* ARRANGE */
+        final var template = new Template("route", "<route id=\"${routeId}\"/>", configuration);
+        final var input = input("route-1");
+        final var renderCount = new int[1];
+        cache.get(template, input, () -> render(template, input, renderCount));
+
+        /* ACT */
+        input.put("routeId", "route-2");
+        final var result = cache.get(template, input, () -> render(template, input, renderCount));
+
+        /* ASSERT */
+        assertEquals("<route id=\"route-2\"/>", result);
+        assertEquals(2, renderCount[0]);
+    }
+
+    private Map<String, Object> input(final String routeId) {
+        final var input = new HashMap<String, Object>();
+        input.put("routeId", routeId);
+        return input;
+    }
+
+    private String render(final Template template, final Map<String, Object> input,
+                          final int[] renderCount) throws IOException, TemplateException {
+        renderCount[0]++;
+        final var writer = new StringWriter();
+        template.process(input, writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.routing.config;
+
+import java.util.Map;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StartupMetricsTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private final StartupMetrics metrics = new StartupMetrics(
+            new StaticListableBeanFactory(Map.of("registry", registry))
+                    .getBeanProvider(MeterRegistry.class));
+
+    @Test
+    public void record_phase_returnResultAndRecordDuration() {
+        /* ACT */
+        final var result = metrics.record("routes.load", () -> "result");
+
+        /* ASSERT */
+        assertEquals("result", result);
+        assertEquals(1, registry.get(StartupMetrics.TIMER_NAME).tag("phase", "routes.load")
+                .timer().count());
+    }
+
+    @Test
+    public void record_phaseFails_recordDurationAndRethrow() {
+        /* ACT */
+        assertThrows(IllegalStateException.class, () -> metrics.record("routes.deploy", () -> {
+            throw new IllegalStateException();
+        }));
+
+        /* ASSERT */
+        assertEquals(1, registry.get(StartupMetrics.TIMER_NAME).tag("phase", "routes.deploy")
+                .timer().count());
+    }
+
+    @Test
+    public void record_noRegistry_runPhase() {
+        /* ARRANGE */
+        final var withoutRegistry = new StartupMetrics(new StaticListableBeanFactory()
+                .getBeanProvider(MeterRegistry.class));
+        final var counter = new int[1];
+
+        /* ACT */
+        withoutRegistry.record("datasources.register", () -> counter[0]++);
+
+        /* ASSERT */
+        assertEquals(1, counter[0]);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import io.dataspaceconnector.model.artifact.LocalData;
+import io.dataspaceconnector.repository.DataRepository;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
+
+class FileSystemDataStorageTest {
+
+    @TempDir
+    Path root;
+
+    private DataRepository dataRepository;
+
+    private FileSystemDataStorage storage;
+
+    @BeforeEach
+    void init() {
+        dataRepository = Mockito.mock(DataRepository.class);
+        storage = new FileSystemDataStorage(dataRepository, root.toString());
+    }
+
+    @Test
+    @SneakyThrows
+    void write_data_storeReferenceAndReturnSizeAndChecksum() {
+        /* ARRANGE */
+        final var data = getLocalData();
+        final var bytes = "Hello".getBytes(StandardCharsets.UTF_8);
+        final var checksum = new CRC32C();
+        checksum.update(bytes);
+
+        /* ACT */
+        final var result = storage.write(data, new ByteArrayInputStream(bytes));
+
+        /* ASSERT */
+        assertEquals(bytes.length, result.getByteSize());
+        assertEquals(checksum.getValue(), result.getCheckSum());
+        assertNotNull(data.getStorageKey());
+        assertNull(data.getValue());
+        verify(dataRepository).setLocalDataReference(eq(1L), eq(data.getStorageKey()));
+        try (var stored = storage.read(data)) {
+            assertArrayEquals(bytes, stored.readAllBytes());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void write_sameDataTwice_storeOnce() {
+        /* ARRANGE */
+        final var first = getLocalData();
+        final var second = getLocalData();
+        final var bytes = "Hello".getBytes(StandardCharsets.UTF_8);
+
+        /* ACT */
+        storage.write(first, new ByteArrayInputStream(bytes));
+        storage.write(second, new ByteArrayInputStream(bytes));
+
+        /* ASSERT */
+        assertEquals(first.getStorageKey(), second.getStorageKey());
+        try (var files = Files.walk(root)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void write_emptyData_removeReferenceAndFile() {
+        /* ARRANGE */
+        final var data = getLocalData();
+        storage.write(data, new ByteArrayInputStream("Hello".getBytes(StandardCharsets.UTF_8)));
+
+        /* ACT */
+        final var result = storage.write(data, InputStream.nullInputStream());
+
+        /* ASSERT */
+        assertEquals(0, result.getByteSize());
+        assertNull(data.getStorageKey());
+        verify(dataRepository).setLocalData(1L, null);
+        try (var files = Files.walk(root)) {
+            assertEquals(0, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void read_dataWithoutReference_returnDatabaseValue() {
+        /* ARRANGE */
+        final var data = getLocalData();
+        final var bytes = "Hello".getBytes(StandardCharsets.UTF_8);
+        data.setValue(bytes);
+
+        /* ACT */
+        final var result = storage.read(data);
+
+        /* ASSERT */
+        assertArrayEquals(bytes, result.readAllBytes());
+    }
+
+    @Test
+    @SneakyThrows
+    void release_keyStillReferenced_keepFile() {
+        /* ARRANGE */
+        final var data = getLocalData();
+        storage.write(data, new ByteArrayInputStream("Hello".getBytes(StandardCharsets.UTF_8)));
+        when(dataRepository.countByStorageKey(eq(data.getStorageKey()))).thenReturn(1L);
+
+        /* ACT */
+        storage.release(data.getStorageKey());
+
+        /* ASSERT */
+        try (var files = Files.walk(root)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void release_referenceNotCommittedYet_waitForCommitAndKeepFile() {
+        /* ARRANGE */
+        final var data = getLocalData();
+        TransactionSynchronizationManager.initSynchronization();
+        final CompletableFuture<Void> release;
+        try {
+            storage.write(data, new ByteArrayInputStream("Hello".getBytes(StandardCharsets.UTF_8)));
+
+            /* ACT */
+            release = CompletableFuture.runAsync(() -> storage.release(data.getStorageKey()));
+
+            /* ASSERT */
+            assertThrows(TimeoutException.class, () -> release.get(200, TimeUnit.MILLISECONDS));
+
+            // The new reference becomes visible with the commit.
+            when(dataRepository.countByStorageKey(eq(data.getStorageKey()))).thenReturn(1L);
+            for (final var sync : TransactionSynchronizationManager.getSynchronizations()) {
+                sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        release.get(5, TimeUnit.SECONDS);
+        try (var files = Files.walk(root)) {
+            assertEquals(1, files.filter(Files::isRegularFile).count());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void release_insideTransaction_removeFileAfterCommit() {
+        /* ARRANGE */
+        final var data = getLocalData();
+        storage.write(data, new ByteArrayInputStream("Hello".getBytes(StandardCharsets.UTF_8)));
+        final var key = data.getStorageKey();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            /* ACT */
+            storage.release(key);
+
+            /* ASSERT */
+            try (var files = Files.walk(root)) {
+                assertTrue(files.anyMatch(Files::isRegularFile));
+            }
+
+            for (final var sync : TransactionSynchronizationManager.getSynchronizations()) {
+                sync.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        try (var files = Files.walk(root)) {
+            assertFalse(files.anyMatch(Files::isRegularFile));
+        }
+    }
+
+    private LocalData getLocalData() {
+        final var data = new LocalData();
+        ReflectionTestUtils.setField(data, "id", 1L);
+        return data;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.storage;
+
+import io.dataspaceconnector.common.exception.InvalidInputException;
+import io.dataspaceconnector.common.exception.UploadOffsetException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UploadStagingTest {
+
+    @TempDir
+    Path root;
+
+    private UploadStaging staging;
+
+    private final UUID artifactId = UUID.randomUUID();
+
+    @BeforeEach
+    void init() {
+        staging = new UploadStaging(root.toString(), Duration.ofHours(1));
+    }
+
+    @Test
+    @SneakyThrows
+    void append_partsInOrder_collectData() {
+        /* ACT */
+        final var first = staging.append(artifactId, null, 0, 2, 3,
+                new ByteArrayInputStream(new byte[]{0, 1}));
+        final var second = staging.append(artifactId, first.getId(), 2, 1, 3,
+                new ByteArrayInputStream(new byte[]{2}));
+
+        /* ASSERT */
+        assertEquals(2, first.getReceived());
+        assertEquals(3, second.getReceived());
+        assertEquals(3, staging.get(artifactId, first.getId(), 3).getReceived());
+        try (var data = staging.open(artifactId)) {
+            assertArrayEquals(new byte[]{0, 1, 2}, data.readAllBytes());
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void append_wrongOffset_throwUploadOffsetExceptionWithReceivedBytes() {
+        /* ARRANGE */
+        final var upload = staging.append(artifactId, null, 0, 2, 4,
+                new ByteArrayInputStream(new byte[]{0, 1}));
+
+        /* ACT */
+        final var exception = assertThrows(UploadOffsetException.class,
+                () -> staging.append(artifactId, upload.getId(), 3, 1, 4,
+                        new ByteArrayInputStream(new byte[]{3})));
+
+        /* ASSERT */
+        assertEquals(2, exception.getReceived());
+        assertEquals(2, staging.get(artifactId, upload.getId(), 4).getReceived());
+    }
+
+    @Test
+    @SneakyThrows
+    void append_otherUpload_discardStartedUpload() {
+        /* ARRANGE */
+        staging.append(artifactId, null, 0, 2, 4, new ByteArrayInputStream(new byte[]{0, 1}));
+
+        /* ACT */
+        final var exception = assertThrows(UploadOffsetException.class,
+                () -> staging.append(artifactId, "other", 2, 2, 4,
+                        new ByteArrayInputStream(new byte[]{2, 3})));
+
+        /* ASSERT */
+        assertEquals(0, exception.getReceived());
+        try (var data = staging.open(artifactId)) {
+            assertEquals(0, data.readAllBytes().length);
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void get_otherTotal_discardStartedUpload() {
+        /* ARRANGE */
+        final var upload = staging.append(artifactId, null, 0, 2, 4,
+                new ByteArrayInputStream(new byte[]{0, 1}));
+
+        /* ACT */
+        final var result = staging.get(artifactId, upload.getId(), 5);
+
+        /* ASSERT */
+        assertNull(result.getId());
+        assertEquals(0, result.getReceived());
+    }
+
+    @Test
+    @SneakyThrows
+    void append_abandonedUpload_startNewUploadAtOffsetZero() {
+        /* ARRANGE */
+        final var abandoned = staging.append(artifactId, null, 0, 2, 4,
+                new ByteArrayInputStream(new byte[]{0, 1}));
+
+        /* ACT */
+        final var upload = staging.append(artifactId, null, 0, 1, 2,
+                new ByteArrayInputStream(new byte[]{5}));
+
+        /* ASSERT */
+        assertEquals(1, upload.getReceived());
+        assertEquals(0, staging.get(artifactId, abandoned.getId(), 4).getReceived());
+    }
+
+    @Test
+    @SneakyThrows
+    void append_partLongerThanDeclared_throwInvalidInputExceptionAndDropPart() {
+        /* ARRANGE */
+        final var upload = staging.append(artifactId, null, 0, 2, 5,
+                new ByteArrayInputStream(new byte[]{0, 1}));
+
+        /* ACT */
+        assertThrows(InvalidInputException.class,
+                () -> staging.append(artifactId, upload.getId(), 2, 2, 5,
+                        new ByteArrayInputStream(new byte[]{2, 3, 4})));
+
+        /* ASSERT */
+        assertEquals(2, staging.get(artifactId, upload.getId(), 5).getReceived());
+    }
+
+    @Test
+    @SneakyThrows
+    void discard_startedUpload_removeData() {
+        /* ARRANGE */
+        final var upload = staging.append(artifactId, null, 0, 2, 4,
+                new ByteArrayInputStream(new byte[]{0, 1}));
+
+        /* ACT */
+        staging.discard(artifactId);
+
+        /* ASSERT */
+        assertEquals(0, staging.get(artifactId, upload.getId(), 4).getReceived());
+        try (var data = staging.open(artifactId)) {
+            assertEquals(0, data.readAllBytes().length);
+        }
+    }
+
+    @Test
+    @SneakyThrows
+    void removeExpired_noPartWithinExpiry_removeUpload() {
+        /* ARRANGE */
+        staging.append(artifactId, null, 0, 2, 4, new ByteArrayInputStream(new byte[]{0, 1}));
+        final var past = FileTime.from(Instant.now().minus(Duration.ofHours(2)));
+        try (var files = Files.list(root)) {
+            for (final var file : (Iterable<Path>) files::iterator) {
+                Files.setLastModifiedTime(file, past);
+            }
+        }
+
+        /* ACT */
+        staging.removeExpired();
+
+        /* ASSERT */
+        try (var files = Files.list(root)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import de.fraunhofer.iais.eis.Action;
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.ContractAgreementBuilder;
+import de.fraunhofer.iais.eis.PermissionBuilder;
+import de.fraunhofer.iais.eis.util.Util;
+import ids.messaging.util.IdsMessageUtils;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.policy.PolicyPattern;
+import io.dataspaceconnector.model.agreement.Agreement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AgreementCacheTest {
+
+    private final URI target = URI.create("https://target.com");
+
+    private DeserializationService deserializationService;
+
+    private AgreementCache cache;
+
+    @BeforeEach
+    void init() {
+        deserializationService = Mockito.mock(DeserializationService.class);
+        cache = new AgreementCache(deserializationService);
+        when(deserializationService.getContractAgreement(any()))
+                .thenAnswer(invocation -> getContractAgreement());
+    }
+
+    @Test
+    void get_sameVersion_deserializeOnce() {
+        /* ARRANGE */
+        final var agreement = getAgreement(UUID.randomUUID(), ZonedDateTime.now());
+
+        /* ACT */
+        final var first = cache.get(agreement);
+        final var second = cache.get(agreement);
+
+        /* ASSERT */
+        assertSame(first, second);
+        assertEquals(1, cache.size());
+        verify(deserializationService, times(1)).getContractAgreement(any());
+    }
+
+    @Test
+    void get_modifiedAgreement_deserializeAgain() {
+        /* ARRANGE */
+        final var agreementId = UUID.randomUUID();
+        final var created = ZonedDateTime.now();
+        final var first = cache.get(getAgreement(agreementId, created));
+
+        /* ACT */
+        final var second = cache.get(getAgreement(agreementId, created.plusSeconds(1)));
+
+        /* ASSERT */
+        assertNotSame(first, second);
+        assertEquals(1, cache.size());
+        verify(deserializationService, times(2)).getContractAgreement(any());
+    }
+
+    @Test
+    void get_notPersisted_doNotCache() {
+        /* ARRANGE */
+        final var agreement = getAgreement(null, null);
+
+        /* ACT */
+        cache.get(agreement);
+
+        /* ASSERT */
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void getRulesForTarget_knownTarget_returnRulesWithPattern() {
+        /* ARRANGE */
+        final var agreement = cache.get(getAgreement(UUID.randomUUID(), ZonedDateTime.now()));
+
+        /* ACT */
+        final var rules = agreement.getRulesForTarget(target);
+
+        /* ASSERT */
+        assertEquals(1, rules.size());
+        assertEquals(PolicyPattern.PROVIDE_ACCESS, rules.get(0).getPattern());
+        assertSame(rules, agreement.getRulesForTarget(target));
+        assertTrue(agreement.getRulesForTarget(URI.create("https://other.com")).isEmpty());
+    }
+
+    @Test
+    void retainAll_unknownAgreement_evictAgreement() {
+        /* ARRANGE */
+        final var known = UUID.randomUUID();
+        cache.get(getAgreement(known, ZonedDateTime.now()));
+        cache.get(getAgreement(UUID.randomUUID(), ZonedDateTime.now()));
+
+        /* ACT */
+        cache.retainAll(List.of(known));
+
+        /* ASSERT */
+        assertEquals(1, cache.size());
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    private Agreement getAgreement(final UUID agreementId, final ZonedDateTime modified) {
+        final var agreement = new Agreement();
+        ReflectionTestUtils.setField(agreement, "id", agreementId);
+        ReflectionTestUtils.setField(agreement, "modificationDate", modified);
+        ReflectionTestUtils.setField(agreement, "value", "AGREEMENT");
+        return agreement;
+    }
+
+    private ContractAgreement getContractAgreement() {
+        return new ContractAgreementBuilder(URI.create("https://agreement.com"))
+                ._contractStart_(IdsMessageUtils.getGregorianNow())
+                ._permission_(Util.asList(new PermissionBuilder()
+                        ._action_(Util.asList(Action.USE))
+                        ._target_(target)
+                        .build()))
+                .build();
+    }
+}
@@ -80,8 +80,9 @@ public class DataAccessVerifierTest {
         final var agreement = getContractAgreement();
         final var input = new AccessVerificationInput(agreement.getId(), artifact);
 
-        when(entityResolver.getContractAgreementsByTarget(any())).thenReturn(List.of(agreement));
-        doNothing().when(ruleValidator).validatePolicy(any(), any(), any(), any(), any(), any());
+        when(entityResolver.getCachedAgreementsByTarget(any()))
+                .thenReturn(List.of(new CachedAgreement(agreement, null)));
+        doNothing().when(ruleValidator).validatePolicy(any(), any(), any(), any(), any());
 
         /* ACT */
         final var result = verifier.verify(input);
@@ -97,9 +98,10 @@ public class DataAccessVerifierTest {
         final var agreement = getContractAgreement();
         final var input = new AccessVerificationInput(agreement.getId(), artifact);
 
-        when(entityResolver.getContractAgreementsByTarget(any())).thenReturn(List.of(agreement));
+        when(entityResolver.getCachedAgreementsByTarget(any()))
+                .thenReturn(List.of(new CachedAgreement(agreement, null)));
         doThrow(PolicyRestrictionException.class)
-                .when(ruleValidator).validatePolicy(any(), any(), any(), any(), any(), any());
+                .when(ruleValidator).validatePolicy(any(), any(), any(), any(), any());
         when(connectorConfig.isAllowUnsupported()).thenReturn(false);
 
         /* ACT */
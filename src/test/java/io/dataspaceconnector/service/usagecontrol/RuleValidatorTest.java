@@ -43,6 +43,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
 
@@ -240,4 +241,60 @@ class RuleValidatorTest {
                 PolicyPattern.SECURITY_PROFILE_RESTRICTED_USAGE, rule, target, issuer,
                 Optional.of(profile), agreementId));
     }
+
+    @Test
+    public void validatePolicy_compiledN_TIMES_USAGE_failsOnExceededUsage() {
+        /* ARRANGE */
+        final var rule = new PermissionBuilder()
+                ._action_(List.of(Action.USE))
+                ._constraint_(Util.asList(new ConstraintBuilder()
+                                                  ._leftOperand_(LeftOperand.COUNT)
+                                                  ._operator_(BinaryOperator.EQ)
+                                                  ._rightOperand_(new RdfResource("5"))
+                                                  .build()))
+                .build();
+        final var policy = new PolicyRule(rule, PolicyPattern.N_TIMES_USAGE);
+        final var target = URI.create("https://target");
+        final var agreementId = URI.create("https://target");
+
+        Mockito.when(informationService.getAccessNumber(eq(target))).thenReturn(5L);
+
+        /* ACT && ASSERT */
+        assertEquals(5, policy.getMaxAccess());
+        final var result = assertThrows(PolicyRestrictionException.class,
+                () -> validator.validatePolicy(policy, target, null, Optional.empty(),
+                        agreementId));
+        assertEquals(ErrorMessage.DATA_ACCESS_NUMBER_REACHED.toString(), result.getMessage());
+    }
+
+    @Test
+    public void validatePolicy_compiledInvalidInterval_failOnEveryAccess() {
+        /* ARRANGE */
+        final var rule = new PermissionBuilder()
+                ._action_(Util.asList(Action.USE))
+                ._constraint_(Util.asList(new ConstraintBuilder()
+                                                  ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                                                  ._operator_(BinaryOperator.AFTER)
+                                                  ._rightOperand_(new RdfResource("some long long time ago",
+                                                                                  URI.create("xsd:dateTimeStamp")))
+                                                  .build(), new ConstraintBuilder()
+                                                  ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                                                  ._operator_(BinaryOperator.BEFORE)
+                                                  ._rightOperand_(new RdfResource("2029-05-07T17:05:45.678Z", URI.create("xsd:dateTimeStamp")))
+                                                  .build()))
+                .build();
+        final var policy = new PolicyRule(rule, PolicyPattern.USAGE_DURING_INTERVAL);
+        final var target = URI.create("https://target");
+        final var agreementId = URI.create("https://target");
+
+        /* ACT && ASSERT */
+        assertNull(policy.getStart());
+        for (int i = 0; i < 2; i++) {
+            final var result = assertThrows(PolicyRestrictionException.class,
+                    () -> validator.validatePolicy(policy, target, null, Optional.empty(),
+                            agreementId));
+            assertEquals(ErrorMessage.DATA_ACCESS_INVALID_INTERVAL.toString(),
+                    result.getMessage());
+        }
+    }
 }
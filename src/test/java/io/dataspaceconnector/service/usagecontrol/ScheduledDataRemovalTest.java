@@ -0,0 +1,207 @@
+/*
+ * Copyright 2020-2022 Fraunhofer Institute for Software and Systems Engineering
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.dataspaceconnector.service.usagecontrol;
+
+import de.fraunhofer.iais.eis.Action;
+import de.fraunhofer.iais.eis.BinaryOperator;
+import de.fraunhofer.iais.eis.ConstraintBuilder;
+import de.fraunhofer.iais.eis.ContractAgreement;
+import de.fraunhofer.iais.eis.ContractAgreementBuilder;
+import de.fraunhofer.iais.eis.DutyBuilder;
+import de.fraunhofer.iais.eis.LeftOperand;
+import de.fraunhofer.iais.eis.PermissionBuilder;
+import de.fraunhofer.iais.eis.util.RdfResource;
+import de.fraunhofer.iais.eis.util.Util;
+import ids.messaging.util.IdsMessageUtils;
+import io.dataspaceconnector.common.ids.DeserializationService;
+import io.dataspaceconnector.common.ids.policy.UsageControlFramework;
+import io.dataspaceconnector.config.ConnectorConfig;
+import io.dataspaceconnector.model.agreement.Agreement;
+import io.dataspaceconnector.model.artifact.Artifact;
+import io.dataspaceconnector.service.resource.base.EntityChangeEvent;
+import io.dataspaceconnector.service.resource.type.AgreementService;
+import io.dataspaceconnector.service.resource.type.ArtifactService;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ScheduledDataRemovalTest {
+
+    private final URI target = URI.create("https://target.com");
+
+    private final UUID artifactId = UUID.randomUUID();
+
+    private DeserializationService deserializationService;
+
+    private AgreementService agreementService;
+
+    private ArtifactService artifactService;
+
+    private ScheduledDataRemoval dataRemoval;
+
+    @BeforeEach
+    void init() {
+        final var connectorConfig = Mockito.mock(ConnectorConfig.class);
+        deserializationService = Mockito.mock(DeserializationService.class);
+        agreementService = Mockito.mock(AgreementService.class);
+        artifactService = Mockito.mock(ArtifactService.class);
+        dataRemoval = new ScheduledDataRemoval(connectorConfig,
+                new AgreementCache(deserializationService), agreementService, artifactService);
+
+        when(connectorConfig.getUcFramework()).thenReturn(UsageControlFramework.INTERNAL);
+        when(agreementService.doesExist(any())).thenReturn(true);
+        when(artifactService.identifyByRemoteId(eq(target))).thenReturn(Optional.of(artifactId));
+    }
+
+    @Test
+    @SneakyThrows
+    void schedule_deletionDue_removeDataOnce() {
+        /* ARRANGE */
+        final var agreement = getAgreement();
+        when(deserializationService.getContractAgreement(any()))
+                .thenReturn(getContractAgreement("2020-07-11T00:00:00Z"));
+        when(agreementService.getAll(any())).thenReturn(new PageImpl<>(List.of(agreement)));
+
+        /* ACT */
+        dataRemoval.schedule();
+        dataRemoval.schedule();
+
+        /* ASSERT */
+        verify(artifactService, times(1)).setData(eq(artifactId), any());
+        verify(deserializationService, times(1)).getContractAgreement(any());
+    }
+
+    @Test
+    @SneakyThrows
+    void schedule_deletionNotDue_keepData() {
+        /* ARRANGE */
+        final var agreement = getAgreement();
+        when(deserializationService.getContractAgreement(any()))
+                .thenReturn(getContractAgreement("2999-07-11T00:00:00Z"));
+        when(agreementService.getAll(any())).thenReturn(new PageImpl<>(List.of(agreement)));
+
+        /* ACT */
+        dataRemoval.schedule();
+
+        /* ASSERT */
+        verify(artifactService, never()).setData(any(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    void schedule_agreementDeleted_keepData() {
+        /* ARRANGE */
+        final var agreement = getAgreement();
+        when(deserializationService.getContractAgreement(any()))
+                .thenReturn(getContractAgreement("2020-07-11T00:00:00Z"));
+        when(agreementService.getAll(any())).thenReturn(new PageImpl<>(List.of(agreement)));
+        when(agreementService.doesExist(eq(agreement.getId()))).thenReturn(false);
+
+        /* ACT */
+        dataRemoval.schedule();
+
+        /* ASSERT */
+        verify(artifactService, never()).setData(any(), any());
+    }
+
+    @Test
+    @SneakyThrows
+    void schedule_agreementStoredAfterFirstRun_removeData() {
+        /* ARRANGE */
+        final var agreement = getAgreement();
+        when(deserializationService.getContractAgreement(any()))
+                .thenReturn(getContractAgreement("2020-07-11T00:00:00Z"));
+        when(agreementService.getAll(any())).thenReturn(new PageImpl<>(List.of()));
+        when(agreementService.get(eq(agreement.getId()))).thenReturn(agreement);
+        dataRemoval.schedule();
+
+        /* ACT */
+        dataRemoval.handleEntityChange(new EntityChangeEvent(agreement.getId(), agreement));
+        dataRemoval.schedule();
+
+        /* ASSERT */
+        verify(artifactService, times(1)).setData(eq(artifactId), any());
+    }
+
+    @Test
+    @SneakyThrows
+    void schedule_dataStoredAgainAfterDeletion_removeDataAgain() {
+        /* ARRANGE */
+        final var agreement = getAgreement();
+        when(deserializationService.getContractAgreement(any()))
+                .thenReturn(getContractAgreement("2020-07-11T00:00:00Z"));
+        when(agreementService.getAll(any())).thenReturn(new PageImpl<>(List.of(agreement)));
+        dataRemoval.schedule();
+
+        final var artifact = Mockito.mock(Artifact.class);
+        when(artifact.getRemoteId()).thenReturn(target);
+
+        /* ACT */
+        dataRemoval.handleEntityChange(new EntityChangeEvent(artifactId, artifact));
+        dataRemoval.schedule();
+
+        /* ASSERT */
+        verify(artifactService, times(2)).setData(eq(artifactId), any());
+        verify(deserializationService, times(1)).getContractAgreement(any());
+    }
+
+    /***********************************************************************************************
+     * Utilities.                                                                                  *
+     **********************************************************************************************/
+
+    private Agreement getAgreement() {
+        final var agreement = new Agreement();
+        ReflectionTestUtils.setField(agreement, "id", UUID.randomUUID());
+        ReflectionTestUtils.setField(agreement, "modificationDate", ZonedDateTime.now());
+        ReflectionTestUtils.setField(agreement, "value", "AGREEMENT");
+        return agreement;
+    }
+
+    private ContractAgreement getContractAgreement(final String deletionDate) {
+        return new ContractAgreementBuilder(URI.create("https://agreement.com"))
+                ._contractStart_(IdsMessageUtils.getGregorianNow())
+                ._permission_(Util.asList(new PermissionBuilder()
+                        ._action_(Util.asList(Action.USE))
+                        ._target_(target)
+                        ._postDuty_(Util.asList(new DutyBuilder()
+                                ._action_(Util.asList(Action.DELETE))
+                                ._constraint_(Util.asList(new ConstraintBuilder()
+                                        ._leftOperand_(LeftOperand.POLICY_EVALUATION_TIME)
+                                        ._operator_(BinaryOperator.TEMPORAL_EQUALS)
+                                        ._rightOperand_(new RdfResource(deletionDate,
+                                                URI.create("xsd:dateTimeStamp")))
+                                        .build()))
+                                .build()))
+                        .build()))
+                .build();
+    }
+}